@@ -41,6 +41,8 @@ class GSPosterView extends android.support.v7.widget.AppCompatImageView {
         GSLayout.Alignment textAlign;
         GSLayout.Alignment lineAlign;
         float fontSize;
+        // Largest size to fit the frame, 0 for the fixed size
+        float maxFontSize;
         int textColor;
 
         PosterTextConfig(JSONObject json) throws JSONException {
@@ -83,6 +85,7 @@ class GSPosterView extends android.support.v7.widget.AppCompatImageView {
             }
 
             fontSize = json.getInt("size");
+            maxFontSize = json.optInt("max-size", 0);
 
             String color = json.getString("color");
             textColor = Color.parseColor(color);
@@ -101,7 +104,12 @@ class GSPosterView extends android.support.v7.widget.AppCompatImageView {
                     .setLineAlignment(lineAlign)
                     .setLineSpacing(0.3f)
                     .setParagraphSpacing(0.3f);
-            GSLayout layout = builder.build(text);
+            GSLayout layout;
+            if (maxFontSize > fontSize) {
+                layout = builder.buildToFit(text, fontSize, maxFontSize);
+            } else {
+                layout = builder.build(text);
+            }
             if (layout != null) {
                 layout.draw(canvas);
             }
@@ -69,6 +69,7 @@ public class PosterFragment extends Fragment {
                         "\"align\": \"start\"," +
                         "\"line-align\": \"center\"," +
                         "\"size\": 48," +
+                        "\"max-size\": 72," +
                         "\"color\": \"#1F3134\"" +
                     "}," +
                     "\"author\": {" +
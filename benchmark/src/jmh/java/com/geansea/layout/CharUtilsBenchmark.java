@@ -0,0 +1,78 @@
+package com.geansea.layout;
+
+import android.text.TextPaint;
+
+import com.geansea.layout.benchmark.Corpus;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+// Character classification of GSCharUtils, as done by line breaking for every glyph pair
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CharUtilsBenchmark {
+    private static final int TEXT_LENGTH = 4000;
+
+    @Param({"CJK", "LATIN", "MIXED"})
+    public Corpus corpus;
+
+    private GSLayoutGlyphRun glyphs;
+    private GSLayout.Builder builder;
+    private String text;
+
+    @Setup
+    public void setup() {
+        text = corpus.createText(TEXT_LENGTH, TEXT_LENGTH);
+        TextPaint paint = new TextPaint();
+        paint.setTextSize(16);
+        GSLayoutMeasurer measurer = new GSLayoutMeasurer(text, text.length(), paint, null,
+                GSPaintMetricsProvider.getInstance(), null, false);
+        glyphs = measurer.startLine(0, 0);
+        while (measurer.addGlyph(text.length())) {
+            // Measure the whole paragraph as one line
+        }
+        builder = GSLayout.Builder.obtain(new TextPaint())
+                .setFontSize(16)
+                .setRect(0, 0, 480, Integer.MAX_VALUE)
+                .setTextAlignment(GSLayout.Alignment.ALIGN_JUSTIFY, GSLayout.Alignment.ALIGN_NORMAL);
+    }
+
+    // Checks of compress, break and justify for each glyph pair
+    @Benchmark
+    public int classifyGlyphs() {
+        int result = 0;
+        for (int i = 0; i < glyphs.count; ++i) {
+            if (GSCharUtils.shouldAddGap(glyphs, i - 1, i)) {
+                result += 1;
+            }
+            if (GSCharUtils.shouldCompressStart(glyphs, i) && GSCharUtils.canCompress(glyphs, i)) {
+                result += 2;
+            }
+            if (GSCharUtils.shouldCompressEnd(glyphs, i) && GSCharUtils.canCompress(glyphs, i)) {
+                result += 3;
+            }
+            if (GSCharUtils.canBreak(glyphs, i - 1, i)) {
+                result += 4;
+            }
+            if (GSCharUtils.canStretch(glyphs, i - 1, i)) {
+                result += 5;
+            }
+        }
+        return result;
+    }
+
+    // Break the paragraph into lines
+    @Benchmark
+    public GSLayout breakLines() {
+        return builder.build(text);
+    }
+}
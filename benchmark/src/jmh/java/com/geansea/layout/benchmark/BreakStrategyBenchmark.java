@@ -0,0 +1,48 @@
+package com.geansea.layout.benchmark;
+
+import android.text.TextPaint;
+
+import com.geansea.layout.GSLayout;
+import com.geansea.layout.GSPaginator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+// Throughput of greedy and optimal line breaking, paginating one long mixed paragraph
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class BreakStrategyBenchmark {
+    private static final int PARAGRAPH_LENGTH = 10000;
+
+    @Param({"BREAK_GREEDY", "BREAK_OPTIMAL"})
+    public GSLayout.BreakStrategy strategy;
+
+    private String text;
+
+    @Setup
+    public void setup() {
+        text = Corpus.MIXED.createText(PARAGRAPH_LENGTH, PARAGRAPH_LENGTH);
+    }
+
+    @Benchmark
+    public int paginate() {
+        // New builder in every run, which does not keep the plan of the last paragraph
+        GSLayout.Builder builder = GSLayout.Builder.obtain(new TextPaint())
+                .setFontSize(16)
+                .setRect(0, 0, 300, 480)
+                .setTextAlignment(GSLayout.Alignment.ALIGN_JUSTIFY, GSLayout.Alignment.ALIGN_NORMAL)
+                .setBreakStrategy(strategy);
+        GSPaginator paginator = new GSPaginator(builder, text);
+        paginator.paginateAll();
+        return paginator.getPageCount();
+    }
+}
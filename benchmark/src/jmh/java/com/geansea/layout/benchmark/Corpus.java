@@ -0,0 +1,117 @@
+package com.geansea.layout.benchmark;
+
+import android.graphics.Color;
+import android.graphics.Typeface;
+import android.text.SpannableString;
+import android.text.Spanned;
+import android.text.style.BackgroundColorSpan;
+import android.text.style.ForegroundColorSpan;
+import android.text.style.RelativeSizeSpan;
+import android.text.style.StyleSpan;
+import android.text.style.UnderlineSpan;
+
+import java.util.Random;
+
+// Deterministic texts for benchmarks, generated from a fixed seed
+public enum Corpus {
+    CJK,
+    LATIN,
+    MIXED;
+
+    private static final String CJK_PUNCTUATIONS = "，，，、。；：？！";
+    private static final long SEED = 20180720;
+
+    // Paragraphs of about paragraphLength chars, separated by newline
+    public String createText(int length, int paragraphLength) {
+        Random random = new Random(SEED);
+        StringBuilder builder = new StringBuilder(length);
+        int paragraphEnd = paragraphLength;
+        while (builder.length() < length) {
+            switch (this) {
+                case CJK:
+                    appendCjkPhrase(builder, random);
+                    break;
+                case LATIN:
+                    appendLatinWord(builder, random);
+                    break;
+                case MIXED:
+                    if (random.nextInt(4) == 0) {
+                        appendLatinWord(builder, random);
+                    } else {
+                        appendCjkPhrase(builder, random);
+                    }
+                    break;
+            }
+            if (builder.length() >= paragraphEnd) {
+                builder.append('\n');
+                paragraphEnd = builder.length() + paragraphLength;
+            }
+        }
+        builder.setLength(length);
+        return builder.toString();
+    }
+
+    // Same text with styles changing every few words, some change metrics
+    public Spanned createSpanned(int length, int paragraphLength) {
+        String text = createText(length, paragraphLength);
+        SpannableString spanned = new SpannableString(text);
+        Random random = new Random(SEED);
+        int spanStart = 0;
+        while (spanStart < length) {
+            int spanEnd = Math.min(spanStart + 4 + random.nextInt(12), length);
+            Object span;
+            switch (random.nextInt(5)) {
+                case 0:
+                    span = new RelativeSizeSpan(1.25f);
+                    break;
+                case 1:
+                    span = new StyleSpan(Typeface.BOLD);
+                    break;
+                case 2:
+                    span = new ForegroundColorSpan(Color.RED);
+                    break;
+                case 3:
+                    span = new UnderlineSpan();
+                    break;
+                default:
+                    span = new BackgroundColorSpan(Color.BLUE);
+                    break;
+            }
+            spanned.setSpan(span, spanStart, spanEnd, Spanned.SPAN_EXCLUSIVE_EXCLUSIVE);
+            spanStart = spanEnd + 8 + random.nextInt(24);
+        }
+        return spanned;
+    }
+
+    private static void appendCjkPhrase(StringBuilder builder, Random random) {
+        int count = 2 + random.nextInt(12);
+        for (int i = 0; i < count; ++i) {
+            builder.append((char) (0x4E00 + random.nextInt(3000)));
+        }
+        if (random.nextInt(6) == 0) {
+            builder.append('“');
+            builder.append((char) (0x4E00 + random.nextInt(3000)));
+            builder.append((char) (0x4E00 + random.nextInt(3000)));
+            builder.append('”');
+        }
+        builder.append(CJK_PUNCTUATIONS.charAt(random.nextInt(CJK_PUNCTUATIONS.length())));
+    }
+
+    private static void appendLatinWord(StringBuilder builder, Random random) {
+        int count = 1 + random.nextInt(9);
+        for (int i = 0; i < count; ++i) {
+            builder.append((char) ('a' + random.nextInt(26)));
+        }
+        switch (random.nextInt(12)) {
+            case 0:
+                builder.append(',');
+                break;
+            case 1:
+                builder.append('.');
+                break;
+            default:
+                break;
+        }
+        builder.append(' ');
+    }
+}
@@ -0,0 +1,78 @@
+package com.geansea.layout.benchmark;
+
+import android.graphics.RectF;
+import android.text.TextPaint;
+
+import com.geansea.layout.GSLayout;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+// Throughput of searching the largest font size of a text fitting a poster box
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class FitBenchmark {
+    private static final float MIN_FONT_SIZE = 8;
+    private static final float MAX_FONT_SIZE = 96;
+    private static final int WIDTH = 600;
+    private static final int HEIGHT = 800;
+
+    @Param({"CJK", "LATIN", "MIXED"})
+    public Corpus corpus;
+
+    @Param({"200", "2000"})
+    public int length;
+
+    private String text;
+
+    @Setup
+    public void setup() {
+        text = corpus.createText(length, length);
+    }
+
+    @Benchmark
+    public GSLayout fit() {
+        return newBuilder().buildToFit(text, MIN_FONT_SIZE, MAX_FONT_SIZE);
+    }
+
+    // Lowering the size by the same step until the text fits, as done before buildToFit
+    @Benchmark
+    public GSLayout scan() {
+        GSLayout.Builder builder = newBuilder();
+        for (float fontSize = MAX_FONT_SIZE; ; fontSize -= 0.5f) {
+            builder.setFontSize(fontSize);
+            GSLayout layout = builder.build(text);
+            if (fontSize <= MIN_FONT_SIZE || fits(layout, fontSize)) {
+                return layout;
+            }
+        }
+    }
+
+    // Same test as buildToFit, the whole text laid out in the rect
+    private boolean fits(GSLayout layout, float fontSize) {
+        if (layout == null || layout.getLayoutEnd() < text.length()) {
+            return false;
+        }
+        RectF usedRect = layout.getUsedRect();
+        float tolerance = fontSize * 0.001f;
+        return usedRect.left >= -tolerance
+                && usedRect.top >= -tolerance
+                && usedRect.right <= WIDTH + tolerance
+                && usedRect.bottom <= HEIGHT + tolerance;
+    }
+
+    private static GSLayout.Builder newBuilder() {
+        return GSLayout.Builder.obtain(new TextPaint())
+                .setRect(0, 0, WIDTH, HEIGHT)
+                .setTextAlignment(GSLayout.Alignment.ALIGN_JUSTIFY, GSLayout.Alignment.ALIGN_NORMAL);
+    }
+}
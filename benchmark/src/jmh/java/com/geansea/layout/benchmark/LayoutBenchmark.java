@@ -0,0 +1,74 @@
+package com.geansea.layout.benchmark;
+
+import android.graphics.Canvas;
+import android.text.TextPaint;
+
+import com.geansea.layout.GSLayout;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+// Throughput of laying out and drawing one page, the page is full for all widths
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class LayoutBenchmark {
+    private static final int TEXT_LENGTH = 8000;
+    private static final int PARAGRAPH_LENGTH = 200;
+    private static final float FONT_SIZE = 16;
+
+    @Param({"false", "true"})
+    public boolean vertical;
+
+    @Param({"false", "true"})
+    public boolean spanned;
+
+    @Param({"CJK", "LATIN", "MIXED"})
+    public Corpus corpus;
+
+    @Param({"240", "480", "960"})
+    public int width;
+
+    private GSLayout.Builder builder;
+    private CharSequence text;
+    private GSLayout layout;
+    private Canvas canvas;
+
+    @Setup
+    public void setup() {
+        builder = GSLayout.Builder.obtain(new TextPaint())
+                .setFontSize(FONT_SIZE)
+                .setRect(0, 0, width, width * 4 / 3)
+                .setIndent(2)
+                .setTextAlignment(GSLayout.Alignment.ALIGN_JUSTIFY, GSLayout.Alignment.ALIGN_NORMAL)
+                .setLineSpacing(0.25f)
+                .setParagraphSpacing(0.5f)
+                .setVertical(vertical);
+        if (spanned) {
+            text = corpus.createSpanned(TEXT_LENGTH, PARAGRAPH_LENGTH);
+        } else {
+            text = corpus.createText(TEXT_LENGTH, PARAGRAPH_LENGTH);
+        }
+        layout = builder.build(text);
+        canvas = new Canvas();
+    }
+
+    @Benchmark
+    public GSLayout build() {
+        return builder.build(text);
+    }
+
+    // Draw calls of a built page, as done for every frame of page turning
+    @Benchmark
+    public void draw() {
+        layout.draw(canvas);
+    }
+}
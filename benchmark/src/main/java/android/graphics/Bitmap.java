@@ -0,0 +1,43 @@
+package android.graphics;
+
+// Fake bitmap for the JVM, holds no pixels
+public final class Bitmap {
+    public static final int DENSITY_NONE = 0;
+
+    public enum Config {
+        ARGB_8888,
+    }
+
+    private final int width;
+    private final int height;
+
+    private Bitmap(int width, int height) {
+        this.width = width;
+        this.height = height;
+    }
+
+    public static Bitmap createBitmap(int width, int height, Config config) {
+        return new Bitmap(width, height);
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public int getByteCount() {
+        return width * height * 4;
+    }
+
+    public void setDensity(int density) {
+    }
+
+    public void eraseColor(int color) {
+    }
+
+    public void recycle() {
+    }
+}
@@ -0,0 +1,55 @@
+package android.graphics;
+
+// Fake canvas for the JVM, draws nothing
+public class Canvas {
+    private int saveCount = 1;
+
+    public Canvas() {
+    }
+
+    public Canvas(Bitmap bitmap) {
+    }
+
+    public boolean isHardwareAccelerated() {
+        return false;
+    }
+
+    public int save() {
+        return saveCount++;
+    }
+
+    public void restore() {
+        --saveCount;
+    }
+
+    public void restoreToCount(int saveCount) {
+        this.saveCount = saveCount;
+    }
+
+    public void translate(float dx, float dy) {
+    }
+
+    public void rotate(float degrees) {
+    }
+
+    public void drawText(char[] text, int index, int count, float x, float y, Paint paint) {
+    }
+
+    public void drawText(String text, float x, float y, Paint paint) {
+    }
+
+    public void drawPosText(char[] text, int index, int count, float[] pos, Paint paint) {
+    }
+
+    public void drawRect(RectF rect, Paint paint) {
+    }
+
+    public void drawRect(float left, float top, float right, float bottom, Paint paint) {
+    }
+
+    public void drawLine(float startX, float startY, float stopX, float stopY, Paint paint) {
+    }
+
+    public void drawBitmap(Bitmap bitmap, float left, float top, Paint paint) {
+    }
+}
@@ -0,0 +1,221 @@
+package android.graphics;
+
+// Fake paint for the JVM, text is measured by character class so results are deterministic
+public class Paint {
+    public enum Style {
+        FILL,
+        STROKE,
+        FILL_AND_STROKE,
+    }
+
+    public static final int ANTI_ALIAS_FLAG = 0x01;
+    public static final int UNDERLINE_TEXT_FLAG = 0x08;
+    public static final int STRIKE_THRU_TEXT_FLAG = 0x10;
+    public static final int FAKE_BOLD_TEXT_FLAG = 0x20;
+
+    private int flags;
+    private int color;
+    private Style style;
+    private float strokeWidth;
+    private Typeface typeface;
+    private float textSize;
+    private float textScaleX;
+    private float textSkewX;
+    private MaskFilter maskFilter;
+
+    public Paint() {
+        this(0);
+    }
+
+    public Paint(int flags) {
+        this.flags = flags;
+        style = Style.FILL;
+        typeface = Typeface.DEFAULT;
+        textSize = 12;
+        textScaleX = 1;
+    }
+
+    public Paint(Paint paint) {
+        set(paint);
+    }
+
+    public void set(Paint src) {
+        flags = src.flags;
+        color = src.color;
+        style = src.style;
+        strokeWidth = src.strokeWidth;
+        typeface = src.typeface;
+        textSize = src.textSize;
+        textScaleX = src.textScaleX;
+        textSkewX = src.textSkewX;
+        maskFilter = src.maskFilter;
+    }
+
+    public int getFlags() {
+        return flags;
+    }
+
+    public void setFlags(int flags) {
+        this.flags = flags;
+    }
+
+    public void setAntiAlias(boolean aa) {
+        setFlag(ANTI_ALIAS_FLAG, aa);
+    }
+
+    public void setUnderlineText(boolean underlineText) {
+        setFlag(UNDERLINE_TEXT_FLAG, underlineText);
+    }
+
+    public boolean isUnderlineText() {
+        return (flags & UNDERLINE_TEXT_FLAG) != 0;
+    }
+
+    public boolean isStrikeThruText() {
+        return (flags & STRIKE_THRU_TEXT_FLAG) != 0;
+    }
+
+    public void setStrikeThruText(boolean strikeThruText) {
+        setFlag(STRIKE_THRU_TEXT_FLAG, strikeThruText);
+    }
+
+    public void setFakeBoldText(boolean fakeBoldText) {
+        setFlag(FAKE_BOLD_TEXT_FLAG, fakeBoldText);
+    }
+
+    public int getColor() {
+        return color;
+    }
+
+    public void setColor(int color) {
+        this.color = color;
+    }
+
+    public void setARGB(int a, int r, int g, int b) {
+        color = (a << 24) | (r << 16) | (g << 8) | b;
+    }
+
+    public Style getStyle() {
+        return style;
+    }
+
+    public void setStyle(Style style) {
+        this.style = style;
+    }
+
+    public float getStrokeWidth() {
+        return strokeWidth;
+    }
+
+    public void setStrokeWidth(float width) {
+        strokeWidth = width;
+    }
+
+    public Typeface getTypeface() {
+        return typeface;
+    }
+
+    public Typeface setTypeface(Typeface typeface) {
+        this.typeface = typeface;
+        return typeface;
+    }
+
+    public float getTextSize() {
+        return textSize;
+    }
+
+    public void setTextSize(float textSize) {
+        this.textSize = textSize;
+    }
+
+    public float getTextScaleX() {
+        return textScaleX;
+    }
+
+    public void setTextScaleX(float scaleX) {
+        textScaleX = scaleX;
+    }
+
+    public float getTextSkewX() {
+        return textSkewX;
+    }
+
+    public void setTextSkewX(float skewX) {
+        textSkewX = skewX;
+    }
+
+    public MaskFilter getMaskFilter() {
+        return maskFilter;
+    }
+
+    public MaskFilter setMaskFilter(MaskFilter maskFilter) {
+        this.maskFilter = maskFilter;
+        return maskFilter;
+    }
+
+    public float ascent() {
+        return -0.93f * textSize;
+    }
+
+    public float descent() {
+        return 0.24f * textSize;
+    }
+
+    public int getTextWidths(char[] text, int index, int count, float[] widths) {
+        for (int i = 0; i < count; ++i) {
+            widths[i] = getEm(text[index + i]) * textSize * textScaleX;
+        }
+        return count;
+    }
+
+    public int getTextWidths(String text, float[] widths) {
+        return getTextWidths(text.toCharArray(), 0, text.length(), widths);
+    }
+
+    public float measureText(char[] text, int index, int count) {
+        float width = 0;
+        for (int i = 0; i < count; ++i) {
+            width += getEm(text[index + i]) * textSize * textScaleX;
+        }
+        return width;
+    }
+
+    public float measureText(String text) {
+        return measureText(text.toCharArray(), 0, text.length());
+    }
+
+    private void setFlag(int flag, boolean on) {
+        flags = on ? (flags | flag) : (flags & ~flag);
+    }
+
+    // Advance in em, close to common proportional latin and full width CJK fonts
+    private float getEm(char code) {
+        if (Character.isLowSurrogate(code)) {
+            return 0;
+        }
+        switch (Character.getType(code)) {
+            case Character.NON_SPACING_MARK:
+            case Character.ENCLOSING_MARK:
+            case Character.FORMAT:
+                return 0;
+            default:
+                break;
+        }
+        if (code >= 0x2E80) {
+            return 1;
+        }
+        if (code == ' ' || code == 'i' || code == 'j' || code == 'l' || code == '.' || code == ',') {
+            return 0.28f;
+        }
+        if (code == 'm' || code == 'w' || code == 'M' || code == 'W') {
+            return 0.86f;
+        }
+        if ('A' <= code && code <= 'Z') {
+            return 0.66f;
+        }
+        if (typeface.isBold() || (flags & FAKE_BOLD_TEXT_FLAG) != 0) {
+            return 0.58f;
+        }
+        return 0.54f;
+    }
+}
@@ -0,0 +1,12 @@
+package android.graphics;
+
+// Fake path for the JVM, keeps nothing
+public class Path {
+    public enum Direction {
+        CW,
+        CCW,
+    }
+
+    public void addRect(RectF rect, Direction dir) {
+    }
+}
@@ -0,0 +1,14 @@
+package android.graphics;
+
+// Fake picture for the JVM, records nothing
+public class Picture {
+    public Canvas beginRecording(int width, int height) {
+        return new Canvas();
+    }
+
+    public void endRecording() {
+    }
+
+    public void draw(Canvas canvas) {
+    }
+}
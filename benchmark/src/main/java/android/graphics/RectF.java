@@ -0,0 +1,86 @@
+package android.graphics;
+
+public class RectF {
+    public float left;
+    public float top;
+    public float right;
+    public float bottom;
+
+    public RectF() {
+    }
+
+    public RectF(float left, float top, float right, float bottom) {
+        this.left = left;
+        this.top = top;
+        this.right = right;
+        this.bottom = bottom;
+    }
+
+    public RectF(RectF r) {
+        this(r.left, r.top, r.right, r.bottom);
+    }
+
+    public final boolean isEmpty() {
+        return left >= right || top >= bottom;
+    }
+
+    public final float width() {
+        return right - left;
+    }
+
+    public final float height() {
+        return bottom - top;
+    }
+
+    public final float centerX() {
+        return (left + right) * 0.5f;
+    }
+
+    public final float centerY() {
+        return (top + bottom) * 0.5f;
+    }
+
+    public void setEmpty() {
+        left = right = top = bottom = 0;
+    }
+
+    public void set(float left, float top, float right, float bottom) {
+        this.left = left;
+        this.top = top;
+        this.right = right;
+        this.bottom = bottom;
+    }
+
+    public void set(RectF src) {
+        set(src.left, src.top, src.right, src.bottom);
+    }
+
+    public void offset(float dx, float dy) {
+        left += dx;
+        top += dy;
+        right += dx;
+        bottom += dy;
+    }
+
+    public boolean contains(float x, float y) {
+        return left < right && top < bottom && x >= left && x < right && y >= top && y < bottom;
+    }
+
+    public void union(RectF r) {
+        union(r.left, r.top, r.right, r.bottom);
+    }
+
+    public void union(float left, float top, float right, float bottom) {
+        if (left >= right || top >= bottom) {
+            return;
+        }
+        if (isEmpty()) {
+            set(left, top, right, bottom);
+            return;
+        }
+        this.left = Math.min(this.left, left);
+        this.top = Math.min(this.top, top);
+        this.right = Math.max(this.right, right);
+        this.bottom = Math.max(this.bottom, bottom);
+    }
+}
@@ -0,0 +1,37 @@
+package android.graphics;
+
+public class Typeface {
+    public static final int NORMAL = 0;
+    public static final int BOLD = 1;
+    public static final int ITALIC = 2;
+    public static final int BOLD_ITALIC = 3;
+
+    public static final Typeface DEFAULT = new Typeface(NORMAL);
+    public static final Typeface DEFAULT_BOLD = new Typeface(BOLD);
+
+    private static final Typeface[] styles = {
+            DEFAULT, DEFAULT_BOLD, new Typeface(ITALIC), new Typeface(BOLD_ITALIC)
+    };
+
+    private final int style;
+
+    private Typeface(int style) {
+        this.style = style;
+    }
+
+    public static Typeface defaultFromStyle(int style) {
+        return styles[style & BOLD_ITALIC];
+    }
+
+    public int getStyle() {
+        return style;
+    }
+
+    public boolean isBold() {
+        return (style & BOLD) != 0;
+    }
+
+    public boolean isItalic() {
+        return (style & ITALIC) != 0;
+    }
+}
@@ -0,0 +1,106 @@
+package android.text;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+
+// Fake spannable string for the JVM, spans are searched linearly
+public class SpannableString implements Spanned, GetChars {
+    private final String text;
+    private final ArrayList<Object> spans;
+    private final ArrayList<int[]> ranges;
+
+    public SpannableString(CharSequence source) {
+        text = source.toString();
+        spans = new ArrayList<>();
+        ranges = new ArrayList<>();
+    }
+
+    public void setSpan(Object what, int start, int end, int flags) {
+        spans.add(what);
+        ranges.add(new int[]{start, end, flags});
+    }
+
+    public void removeSpan(Object what) {
+        int index = spans.indexOf(what);
+        if (index >= 0) {
+            spans.remove(index);
+            ranges.remove(index);
+        }
+    }
+
+    @Override
+    public int length() {
+        return text.length();
+    }
+
+    @Override
+    public char charAt(int index) {
+        return text.charAt(index);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return text.subSequence(start, end);
+    }
+
+    @Override
+    public String toString() {
+        return text;
+    }
+
+    @Override
+    public void getChars(int start, int end, char[] dest, int destoff) {
+        text.getChars(start, end, dest, destoff);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T[] getSpans(int start, int end, Class<T> type) {
+        ArrayList<T> result = new ArrayList<>();
+        for (int i = 0; i < spans.size(); ++i) {
+            int[] range = ranges.get(i);
+            boolean overlap = start == end
+                    ? range[0] <= start && start <= range[1]
+                    : range[0] < end && range[1] > start;
+            if (overlap && type.isInstance(spans.get(i))) {
+                result.add((T) spans.get(i));
+            }
+        }
+        return result.toArray((T[]) Array.newInstance(type, result.size()));
+    }
+
+    @Override
+    public int getSpanStart(Object tag) {
+        int index = spans.indexOf(tag);
+        return index >= 0 ? ranges.get(index)[0] : -1;
+    }
+
+    @Override
+    public int getSpanEnd(Object tag) {
+        int index = spans.indexOf(tag);
+        return index >= 0 ? ranges.get(index)[1] : -1;
+    }
+
+    @Override
+    public int getSpanFlags(Object tag) {
+        int index = spans.indexOf(tag);
+        return index >= 0 ? ranges.get(index)[2] : 0;
+    }
+
+    @Override
+    public int nextSpanTransition(int start, int limit, Class type) {
+        for (int i = 0; i < spans.size(); ++i) {
+            if (type != null && !type.isInstance(spans.get(i))) {
+                continue;
+            }
+            int[] range = ranges.get(i);
+            if (range[0] > start && range[0] < limit) {
+                limit = range[0];
+            }
+            if (range[1] > start && range[1] < limit) {
+                limit = range[1];
+            }
+        }
+        return limit;
+    }
+}
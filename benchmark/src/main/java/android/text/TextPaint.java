@@ -0,0 +1,36 @@
+package android.text;
+
+import android.graphics.Paint;
+
+public class TextPaint extends Paint {
+    public int bgColor;
+    public int baselineShift;
+    public int linkColor;
+    public float density = 1.0f;
+
+    public TextPaint() {
+    }
+
+    public TextPaint(int flags) {
+        super(flags);
+    }
+
+    public TextPaint(Paint p) {
+        super(p);
+        if (p instanceof TextPaint) {
+            TextPaint tp = (TextPaint) p;
+            bgColor = tp.bgColor;
+            baselineShift = tp.baselineShift;
+            linkColor = tp.linkColor;
+            density = tp.density;
+        }
+    }
+
+    public void set(TextPaint tp) {
+        super.set(tp);
+        bgColor = tp.bgColor;
+        baselineShift = tp.baselineShift;
+        linkColor = tp.linkColor;
+        density = tp.density;
+    }
+}
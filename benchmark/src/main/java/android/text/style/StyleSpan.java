@@ -0,0 +1,31 @@
+package android.text.style;
+
+import android.graphics.Typeface;
+import android.text.TextPaint;
+
+public class StyleSpan extends MetricAffectingSpan {
+    private final int style;
+
+    public StyleSpan(int style) {
+        this.style = style;
+    }
+
+    public int getStyle() {
+        return style;
+    }
+
+    @Override
+    public void updateDrawState(TextPaint ds) {
+        apply(ds);
+    }
+
+    @Override
+    public void updateMeasureState(TextPaint paint) {
+        apply(paint);
+    }
+
+    private void apply(TextPaint paint) {
+        int style = paint.getTypeface().getStyle() | this.style;
+        paint.setTypeface(Typeface.defaultFromStyle(style));
+    }
+}
@@ -0,0 +1,15 @@
+package android.text.style;
+
+import android.text.TextPaint;
+
+public class SuperscriptSpan extends MetricAffectingSpan {
+    @Override
+    public void updateDrawState(TextPaint ds) {
+        ds.baselineShift += (int) (ds.ascent() / 2);
+    }
+
+    @Override
+    public void updateMeasureState(TextPaint ds) {
+        ds.baselineShift += (int) (ds.ascent() / 2);
+    }
+}
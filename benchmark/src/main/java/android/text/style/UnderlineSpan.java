@@ -0,0 +1,10 @@
+package android.text.style;
+
+import android.text.TextPaint;
+
+public class UnderlineSpan extends CharacterStyle implements UpdateAppearance {
+    @Override
+    public void updateDrawState(TextPaint tp) {
+        tp.setUnderlineText(true);
+    }
+}
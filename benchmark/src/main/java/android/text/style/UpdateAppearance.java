@@ -0,0 +1,4 @@
+package android.text.style;
+
+public interface UpdateAppearance {
+}
@@ -0,0 +1,146 @@
+package com.geansea.layout;
+
+import android.text.TextPaint;
+
+import java.awt.Font;
+import java.awt.font.FontRenderContext;
+import java.awt.font.LineMetrics;
+import java.util.Arrays;
+import java.util.HashMap;
+
+/**
+ * Metrics measured by java.awt fonts, for layout on the JVM without android.
+ * The font of family is selected by typeface style and text size of paint, advances are cached per font.
+ */
+public class GSAwtMetricsProvider implements GSFontMetricsProvider {
+    private static final int PAGE_SIZE = 256;
+
+    private final String family;
+    private final FontRenderContext context;
+    private final HashMap<Font, Metrics> metricsMap;
+    // Metrics of the last paint, usually asked again
+    private int lastStyle;
+    private float lastTextSize;
+    private Metrics lastMetrics;
+
+    public GSAwtMetricsProvider(String family) {
+        this.family = family;
+        context = new FontRenderContext(null, true, true);
+        metricsMap = new HashMap<>();
+    }
+
+    @Override
+    public synchronized void getTextWidths(TextPaint paint, char[] chars, int index, int count, float[] widths) {
+        Metrics metrics = getMetrics(paint);
+        float scaleX = paint.getTextScaleX();
+        for (int i = 0; i < count; ++i) {
+            char code = chars[index + i];
+            if (Character.isHighSurrogate(code) && i + 1 < count && Character.isLowSurrogate(chars[index + i + 1])) {
+                widths[i] = measure(metrics.font, chars, index + i, 2) * scaleX;
+                widths[++i] = 0;
+            } else {
+                widths[i] = metrics.getAdvance(code) * scaleX;
+            }
+        }
+    }
+
+    @Override
+    public synchronized float getAscent(TextPaint paint) {
+        return getMetrics(paint).ascent;
+    }
+
+    @Override
+    public synchronized float getDescent(TextPaint paint) {
+        return getMetrics(paint).descent;
+    }
+
+    // No vertical metrics in java.awt, upright glyphs take the em box split as ascent and descent
+    @Override
+    public synchronized void getVerticalMetrics(TextPaint paint,
+                                                char[] chars,
+                                                int index,
+                                                float width,
+                                                boolean rotated,
+                                                float[] metrics) {
+        Metrics fontMetrics = getMetrics(paint);
+        metrics[0] = width;
+        if (rotated) {
+            metrics[1] = fontMetrics.ascent;
+            metrics[2] = fontMetrics.descent;
+        } else {
+            float ascentRate = fontMetrics.ascent / (fontMetrics.ascent + fontMetrics.descent);
+            metrics[1] = width * ascentRate;
+            metrics[2] = width - metrics[1];
+        }
+    }
+
+    private Metrics getMetrics(TextPaint paint) {
+        int style = Font.PLAIN;
+        if (paint.getTypeface() != null && paint.getTypeface().isBold()) {
+            style |= Font.BOLD;
+        }
+        if (paint.getTypeface() != null && paint.getTypeface().isItalic()) {
+            style |= Font.ITALIC;
+        }
+        if (lastMetrics != null && lastStyle == style && lastTextSize == paint.getTextSize()) {
+            return lastMetrics;
+        }
+        Font font = new Font(family, style, 1).deriveFont(paint.getTextSize());
+        Metrics metrics = metricsMap.get(font);
+        if (metrics == null) {
+            metrics = new Metrics(font);
+            metricsMap.put(font, metrics);
+        }
+        lastStyle = style;
+        lastTextSize = paint.getTextSize();
+        lastMetrics = metrics;
+        return metrics;
+    }
+
+    private float measure(Font font, char[] chars, int index, int count) {
+        return (float) font.getStringBounds(chars, index, index + count, context).getWidth();
+    }
+
+    private final class Metrics {
+        final Font font;
+        final float ascent;
+        final float descent;
+        // Pages of PAGE_SIZE advances, NaN if not measured
+        final float[][] advances;
+        final char[] measureChar;
+
+        Metrics(Font font) {
+            this.font = font;
+            LineMetrics lineMetrics = font.getLineMetrics("", context);
+            ascent = lineMetrics.getAscent();
+            descent = lineMetrics.getDescent();
+            advances = new float[(Character.MAX_VALUE + 1) / PAGE_SIZE][];
+            measureChar = new char[1];
+        }
+
+        float getAdvance(char code) {
+            float[] page = advances[code / PAGE_SIZE];
+            if (page == null) {
+                page = new float[PAGE_SIZE];
+                Arrays.fill(page, Float.NaN);
+                advances[code / PAGE_SIZE] = page;
+            }
+            float advance = page[code % PAGE_SIZE];
+            if (Float.isNaN(advance)) {
+                switch (Character.getType(code)) {
+                    case Character.NON_SPACING_MARK:
+                    case Character.ENCLOSING_MARK:
+                    case Character.FORMAT:
+                        advance = 0;
+                        break;
+                    default:
+                        measureChar[0] = code;
+                        advance = measure(font, measureChar, 0, 1);
+                        break;
+                }
+                page[code % PAGE_SIZE] = advance;
+            }
+            return advance;
+        }
+    }
+}
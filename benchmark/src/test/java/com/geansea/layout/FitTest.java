@@ -0,0 +1,44 @@
+package com.geansea.layout;
+
+import android.text.TextPaint;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Layouts found by buildToFit for a max line count, vertical ones stacking columns as lines.
+ */
+public class FitTest {
+    private static final String TEXT = "中国网：“中国访谈 世界对话”，欢迎您的收看。";
+
+    @Test
+    public void horizontalKeepsMaxLineCount() {
+        checkMaxLineCount(false);
+    }
+
+    @Test
+    public void verticalKeepsMaxLineCount() {
+        checkMaxLineCount(true);
+    }
+
+    private static void checkMaxLineCount(boolean vertical) {
+        for (int maxLineCount = 1; maxLineCount <= 4; ++maxLineCount) {
+            GSLayout.Builder builder = createBuilder(vertical, maxLineCount);
+            GSLayout layout = builder.buildToFit(TEXT, 8, 96);
+            assertEquals(TEXT.length(), layout.getLayoutEnd());
+            assertTrue("lines " + layout.getLines().size(), layout.getLines().size() <= maxLineCount);
+            // A size was found, not the min size returned when none fits
+            assertTrue("font size " + builder.getFontSize(), builder.getFontSize() > 8);
+        }
+    }
+
+    private static GSLayout.Builder createBuilder(boolean vertical, int maxLineCount) {
+        return GSLayout.Builder.obtain(new TextPaint())
+                .setRect(0, 0, 300, 300)
+                .setMaxLineCount(maxLineCount)
+                .setLineSpacing(0.2f)
+                .setVertical(vertical);
+    }
+}
@@ -0,0 +1,115 @@
+package com.geansea.layout;
+
+import android.graphics.RectF;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Layouts releasing glyphs of stacked lines, against layouts keeping them, drawn and hit the same after glyphs are
+ * measured again.
+ */
+public class GlyphMemoryTest {
+    private static final int LAYOUT_COUNT = 40;
+
+    @Test
+    public void horizontalGreedy() {
+        checkRestoredGlyphs(false, GSLayout.BreakStrategy.BREAK_GREEDY, 1);
+    }
+
+    @Test
+    public void horizontalOptimal() {
+        checkRestoredGlyphs(false, GSLayout.BreakStrategy.BREAK_OPTIMAL, 2);
+    }
+
+    @Test
+    public void verticalGreedy() {
+        checkRestoredGlyphs(true, GSLayout.BreakStrategy.BREAK_GREEDY, 3);
+    }
+
+    @Test
+    public void verticalOptimal() {
+        checkRestoredGlyphs(true, GSLayout.BreakStrategy.BREAK_OPTIMAL, 4);
+    }
+
+    private static void checkRestoredGlyphs(boolean vertical, GSLayout.BreakStrategy strategy, long seed) {
+        Random random = new Random(seed);
+        CharSequence[] texts = {LayoutGoldenTest.createText(), LayoutGoldenTest.createSpanned()};
+        // Lines cached by layouts from other starts are released and measured again too
+        GSLineBreakCache cache = new GSLineBreakCache(2000);
+        for (int i = 0; i < LAYOUT_COUNT; ++i) {
+            CharSequence text = texts[random.nextInt(texts.length)];
+            int width = 120 + 40 * random.nextInt(5);
+            float rate = random.nextBoolean() ? 0 : 0.5f;
+            int maxGlyphLineCount = 1 + random.nextInt(4);
+            int start = (random.nextInt(3) == 0) ? random.nextInt(text.length() / 2) : 0;
+            boolean cached = random.nextBoolean();
+            GSLayout kept = createBuilder(vertical, width, strategy, rate)
+                    .setLineBreakCache(cached ? cache : null)
+                    .build(text, start, text.length(), true, true);
+            GSLayout.Builder builder = createBuilder(vertical, width, strategy, rate)
+                    .setLineBreakCache(cached ? cache : null)
+                    .setMaxGlyphLineCount(maxGlyphLineCount);
+            GSLayout released = builder.build(text, start, text.length(), true, true);
+            // Glyphs are measured with the settings of the layout time
+            builder.setFontSize(20).setPunctuationCompressRate(0.5f - rate);
+            String message = "layout " + i + " from " + start + " of width " + width;
+            assertTrue(message, countLinesWithGlyphs(released) <= maxGlyphLineCount);
+            // Lines measured again out of order, as hit by the user
+            assertEquals(message, dumpGlyphsBackward(kept), dumpGlyphsBackward(released));
+            String expected = LayoutDump.dump(kept) + dumpHits(kept);
+            assertEquals(message, expected, LayoutDump.dump(released) + dumpHits(released));
+            assertTrue(message, countLinesWithGlyphs(released) <= maxGlyphLineCount);
+            // Lines released again after others are measured
+            assertEquals(message, expected, LayoutDump.dump(released) + dumpHits(released));
+        }
+    }
+
+    private static GSLayout.Builder createBuilder(boolean vertical,
+                                                  int width,
+                                                  GSLayout.BreakStrategy strategy,
+                                                  float rate) {
+        return LayoutGoldenTest.createBuilder(vertical, width)
+                .setBreakStrategy(strategy)
+                .setTextAlignment(GSLayout.Alignment.ALIGN_JUSTIFY, GSLayout.Alignment.ALIGN_NORMAL)
+                .setPunctuationCompressRate(rate);
+    }
+
+    private static String dumpHits(GSLayout layout) {
+        StringBuilder out = new StringBuilder();
+        for (int i = 0; i < 40; ++i) {
+            out.append(layout.getOffsetForPoint(10 + i * 8, 20 + i * 10)).append(' ')
+                    .append(LayoutDump.format(layout.getCaretRect(layout.getStart() + i))).append('\n');
+        }
+        return out.toString();
+    }
+
+    private static String dumpGlyphsBackward(GSLayout layout) {
+        StringBuilder out = new StringBuilder();
+        RectF rect = new RectF();
+        List<GSLayoutLine> lines = layout.getLines();
+        for (int i = lines.size() - 1; i >= 0; --i) {
+            for (GSLayoutGlyph glyph : lines.get(i).getGlyphs()) {
+                glyph.getUsedRect(rect);
+                out.append(LayoutDump.format(rect));
+            }
+            out.append('\n');
+        }
+        return out.toString();
+    }
+
+    private static int countLinesWithGlyphs(GSLayout layout) {
+        int count = 0;
+        for (GSLayoutLine line : layout.getLines()) {
+            if (line.hasGlyphs()) {
+                ++count;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,136 @@
+package com.geansea.layout;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.RectF;
+
+import java.util.Locale;
+
+// Text of layouts for comparison, with lines, their glyphs and the calls drawing them, same text for same drawing
+final class LayoutDump {
+    private LayoutDump() {
+    }
+
+    static String dump(GSLayout layout) {
+        StringBuilder out = new StringBuilder();
+        append(out, layout);
+        return out.toString();
+    }
+
+    static void append(StringBuilder out, GSLayout layout) {
+        out.append("layout ").append(layout.getStart()).append('-').append(layout.getLayoutEnd())
+                .append(' ').append(format(layout.getUsedRect())).append('\n');
+        RectF rect = new RectF();
+        for (GSLayoutLine line : layout.getLines()) {
+            line.getUsedRect(rect);
+            out.append(" line ").append(line.getStart()).append('-').append(line.getEnd())
+                    .append(line.isParaStart() ? " P" : " -").append(line.isParaEnd() ? "P " : "- ")
+                    .append(format(line.getOriginX())).append(',').append(format(line.getOriginY()))
+                    .append(' ').append(format(rect)).append('\n');
+            out.append("  glyphs");
+            for (GSLayoutGlyph glyph : line.getGlyphs()) {
+                glyph.getUsedRect(rect);
+                out.append(' ').append(format(rect.left)).append(',').append(format(rect.top));
+            }
+            out.append('\n');
+        }
+        layout.draw(new RecordingCanvas(out));
+    }
+
+    static String format(RectF rect) {
+        return "[" + format(rect.left) + ',' + format(rect.top) + ','
+                + format(rect.right) + ',' + format(rect.bottom) + ']';
+    }
+
+    // Rounded so that dumps do not differ by the last bits of float sums
+    static String format(float value) {
+        String text = String.format(Locale.US, "%.3f", value);
+        return text.equals("-0.000") ? "0.000" : text;
+    }
+
+    // Canvas writing its calls to the dump
+    private static final class RecordingCanvas extends Canvas {
+        private final StringBuilder out;
+
+        RecordingCanvas(StringBuilder out) {
+            this.out = out;
+        }
+
+        @Override
+        public int save() {
+            out.append("  save\n");
+            return super.save();
+        }
+
+        @Override
+        public void restore() {
+            out.append("  restore\n");
+            super.restore();
+        }
+
+        @Override
+        public void restoreToCount(int saveCount) {
+            out.append("  restoreToCount ").append(saveCount).append('\n');
+            super.restoreToCount(saveCount);
+        }
+
+        @Override
+        public void translate(float dx, float dy) {
+            out.append("  translate ").append(format(dx)).append(',').append(format(dy)).append('\n');
+        }
+
+        @Override
+        public void rotate(float degrees) {
+            out.append("  rotate ").append(format(degrees)).append('\n');
+        }
+
+        @Override
+        public void drawText(char[] text, int index, int count, float x, float y, Paint paint) {
+            drawText(new String(text, index, count), x, y, paint);
+        }
+
+        @Override
+        public void drawText(String text, float x, float y, Paint paint) {
+            out.append("  text ").append(text.replace("\n", "\\n").replace("\r", "\\r"))
+                    .append(' ').append(format(x)).append(',').append(format(y))
+                    .append(' ').append(describe(paint)).append('\n');
+        }
+
+        @Override
+        public void drawPosText(char[] text, int index, int count, float[] pos, Paint paint) {
+            out.append("  posText ").append(new String(text, index, count).replace("\n", "\\n").replace("\r", "\\r"));
+            for (int i = 0; i < count; ++i) {
+                out.append(' ').append(format(pos[i * 2])).append(',').append(format(pos[i * 2 + 1]));
+            }
+            out.append(' ').append(describe(paint)).append('\n');
+        }
+
+        @Override
+        public void drawRect(RectF rect, Paint paint) {
+            drawRect(rect.left, rect.top, rect.right, rect.bottom, paint);
+        }
+
+        @Override
+        public void drawRect(float left, float top, float right, float bottom, Paint paint) {
+            out.append("  rect ").append(format(new RectF(left, top, right, bottom)))
+                    .append(' ').append(describe(paint)).append('\n');
+        }
+
+        @Override
+        public void drawLine(float startX, float startY, float stopX, float stopY, Paint paint) {
+            out.append("  line ").append(format(new RectF(startX, startY, stopX, stopY)))
+                    .append(' ').append(describe(paint)).append('\n');
+        }
+
+        @Override
+        public void drawBitmap(Bitmap bitmap, float left, float top, Paint paint) {
+            out.append("  bitmap ").append(bitmap.getWidth()).append('x').append(bitmap.getHeight())
+                    .append(' ').append(format(left)).append(',').append(format(top)).append('\n');
+        }
+
+        private static String describe(Paint paint) {
+            return Integer.toHexString(paint.getColor()) + '/' + format(paint.getTextSize());
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.geansea.layout;
+
+import android.text.SpannableString;
+import android.text.Spanned;
+import android.text.TextPaint;
+import android.text.style.BackgroundColorSpan;
+import android.text.style.ForegroundColorSpan;
+import android.text.style.RelativeSizeSpan;
+import android.text.style.StrikethroughSpan;
+import android.text.style.SuperscriptSpan;
+import android.text.style.UnderlineSpan;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.fail;
+
+/**
+ * Layouts of mixed text in horizontal and vertical, with alignments and punctuation compress, against a golden dump
+ * measured by the fake paint. Write the actual dump with -Dgolden.update=path after an intended change.
+ */
+public class LayoutGoldenTest {
+    static final String CJK = "中国网：“中国访谈 世界对话”，欢迎您的收看。中国共产党第十九次全国代表大会于2017年10月18日上午9时"
+            + "在北京人民大会堂开幕。为更全面更深入地理解报告的内容，《中国访谈》节目组特别邀请（中国人民大学）研究员进行解读！\n";
+    static final String LATIN = "The quick brown fox jumps over the lazy dog. Ligature test: ff ffi ffl fi fl ft "
+            + "(parenthesis) [brackets] 50% don't \"quoted\" a/b.\n";
+    static final String MIXED = "絵文字：❦💌😂 été 混排text测试ABC，结束。\r\n\n短。\n";
+    static final String SPACES = "Tabs\tbetween\twords, and  two  spaces  between  words  of  a  justified  line.\n";
+
+    private static final String GOLDEN = "layout-golden.txt";
+
+    static String createText() {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 2; ++i) {
+            text.append(CJK).append(LATIN).append(MIXED).append(SPACES);
+        }
+        return text.toString();
+    }
+
+    static CharSequence createSpanned() {
+        SpannableString spanned = new SpannableString(createText());
+        spanned.setSpan(new RelativeSizeSpan(1.5f), 3, 9, 0);
+        spanned.setSpan(new ForegroundColorSpan(0xFF0000FF), 20, 40, 0);
+        spanned.setSpan(new BackgroundColorSpan(0xFFFFFF00), 30, 60, 0);
+        spanned.setSpan(new UnderlineSpan(), 100, 170, 0);
+        spanned.setSpan(new StrikethroughSpan(), 150, 200, 0);
+        spanned.setSpan(new SuperscriptSpan(), 300, 304, 0);
+        spanned.setSpan(new RelativeSizeSpan(0.6f), 400, 420, 0);
+        return spanned;
+    }
+
+    static GSLayout.Builder createBuilder(boolean vertical, int width) {
+        return GSLayout.Builder.obtain(new TextPaint())
+                .setFontSize(16)
+                .setIndent(2)
+                .setRect(10, 20, 10 + width, 420)
+                .setLineSpacing(0.2f)
+                .setParagraphSpacing(0.3f)
+                .setVertical(vertical);
+    }
+
+    @Test
+    public void layoutMatchesGolden() throws IOException {
+        String actual = dumpAll();
+        String update = System.getProperty("golden.update");
+        if (update != null) {
+            write(actual, new File(update));
+        }
+        String expected = read(GOLDEN);
+        if (!expected.equals(actual)) {
+            String[] expectedLines = expected.split("\n", -1);
+            String[] actualLines = actual.split("\n", -1);
+            for (int i = 0; i < Math.min(expectedLines.length, actualLines.length); ++i) {
+                assertEquals("line " + (i + 1) + " of " + GOLDEN, expectedLines[i], actualLines[i]);
+            }
+            assertEquals("line count of " + GOLDEN, expectedLines.length, actualLines.length);
+        }
+    }
+
+    // A line fitting only with its end punctuation compressed is kept whole when a newline follows
+    @Test
+    public void compressedEndFitsBeforeNewline() {
+        String text = "标点挤压的效果！\n下一段。";
+        GSLayout.Builder builder = GSLayout.Builder.obtain(new TextPaint())
+                .setFontSize(16)
+                .setPunctuationCompressRate(0.5f)
+                .setRect(0, 0, 1000, 1000);
+        GSLayoutLine wide = builder.build(text).getLines().get(0);
+        int width = (int) Math.ceil(wide.getUsedRect().width());
+        builder.setRect(0, 0, width, 1000);
+        GSLayoutLine line = builder.build(text).getLines().get(0);
+        assertEquals(text.indexOf('\n') + 1, line.getEnd());
+    }
+
+    private static String dumpAll() {
+        StringBuilder out = new StringBuilder();
+        CharSequence[] texts = {createText(), createSpanned()};
+        GSLayout.Alignment[] alignments = {GSLayout.Alignment.ALIGN_JUSTIFY, GSLayout.Alignment.ALIGN_CENTER};
+        for (CharSequence text : texts) {
+            for (boolean vertical : new boolean[]{false, true}) {
+                for (GSLayout.Alignment alignment : alignments) {
+                    for (float rate : new float[]{0, 0.5f}) {
+                        out.append("=== ").append(text instanceof Spanned ? "spanned" : "plain")
+                                .append(vertical ? " vertical " : " horizontal ").append(alignment)
+                                .append(' ').append(rate).append('\n');
+                        GSLayout.Builder builder = createBuilder(vertical, 300)
+                                .setTextAlignment(alignment, GSLayout.Alignment.ALIGN_NORMAL)
+                                .setPunctuationCompressRate(rate);
+                        dumpPages(out, builder, text);
+                    }
+                }
+            }
+        }
+        // Narrow lines, with more breaks than glyphs of a line
+        for (boolean vertical : new boolean[]{false, true}) {
+            out.append("=== narrow").append(vertical ? " vertical" : " horizontal").append('\n');
+            GSLayout.Builder builder = createBuilder(vertical, 120)
+                    .setTextAlignment(GSLayout.Alignment.ALIGN_JUSTIFY, GSLayout.Alignment.ALIGN_NORMAL)
+                    .setPunctuationCompressRate(0.5f);
+            dumpPages(out, builder, texts[0]);
+        }
+        return out.toString();
+    }
+
+    private static void dumpPages(StringBuilder out, GSLayout.Builder builder, CharSequence text) {
+        int start = 0;
+        boolean paraStart = true;
+        while (start < text.length()) {
+            GSLayout layout = builder.build(text, start, text.length(), paraStart, true);
+            LayoutDump.append(out, layout);
+            if (layout.getLayoutEnd() <= start) {
+                fail("No progress at " + start);
+            }
+            start = layout.getLayoutEnd();
+            paraStart = GSCharUtils.isNewline(text.charAt(start - 1));
+        }
+    }
+
+    private static String read(String name) throws IOException {
+        InputStream in = LayoutGoldenTest.class.getResourceAsStream(name);
+        assertNotNull("missing " + name, in);
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            for (int count; (count = in.read(buffer)) > 0; ) {
+                bytes.write(buffer, 0, count);
+            }
+            return bytes.toString("UTF-8");
+        } finally {
+            in.close();
+        }
+    }
+
+    private static void write(String text, File file) throws IOException {
+        OutputStream out = new FileOutputStream(file);
+        try {
+            out.write(text.getBytes("UTF-8"));
+        } finally {
+            out.close();
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.geansea.layout;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Lines shared by builders through a line break cache, only between builders measuring the same way.
+ */
+public class LineBreakCacheTest {
+    @Test
+    public void separatesAdvanceCache() {
+        String text = LayoutGoldenTest.createText();
+        GSLineBreakCache cache = new GSLineBreakCache(10000);
+        LayoutGoldenTest.createBuilder(false, 300).setLineBreakCache(cache).build(text);
+        GSLayout.Builder builder = LayoutGoldenTest.createBuilder(false, 300)
+                .setLineBreakCache(cache)
+                .setAdvanceCache(new GSAdvanceCache(10000));
+        builder.build(text);
+        assertEquals(0, cache.getHitCount());
+        builder.build(text);
+        assertTrue(cache.getHitCount() > 0);
+    }
+}
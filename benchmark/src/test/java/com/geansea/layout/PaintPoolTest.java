@@ -0,0 +1,44 @@
+package com.geansea.layout;
+
+import android.text.TextPaint;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Interning of styled paints after many font sizes, as in a reader changing its font size.
+ */
+public class PaintPoolTest {
+    @Test
+    public void sharesPaintsAfterManySizes() {
+        GSPaintPool pool = new GSPaintPool();
+        for (int size = 1; size <= 1000; ++size) {
+            pool.intern(createPaint(size, 0xFF0000FF));
+        }
+        TextPaint first = pool.intern(createPaint(16, 0xFFFF0000));
+        assertSame(first, pool.intern(createPaint(16, 0xFFFF0000)));
+        assertEquals(256, pool.getPaintCount());
+    }
+
+    @Test
+    public void dropsLeastRecentlyUsedPaints() {
+        GSPaintPool pool = new GSPaintPool();
+        TextPaint kept = pool.intern(createPaint(16, 0xFF0000FF));
+        TextPaint dropped = pool.intern(createPaint(17, 0xFF0000FF));
+        for (int size = 100; size < 100 + 256; ++size) {
+            pool.intern(createPaint(size, 0xFF0000FF));
+            assertSame(kept, pool.intern(createPaint(16, 0xFF0000FF)));
+        }
+        assertNotSame(dropped, pool.intern(createPaint(17, 0xFF0000FF)));
+    }
+
+    private static TextPaint createPaint(float size, int color) {
+        TextPaint paint = new TextPaint();
+        paint.setTextSize(size);
+        paint.setColor(color);
+        return paint;
+    }
+}
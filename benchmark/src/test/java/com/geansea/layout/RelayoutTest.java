@@ -0,0 +1,82 @@
+package com.geansea.layout;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+/**
+ * Layouts relaid out after random edits, against layouts built again from the edited text.
+ */
+public class RelayoutTest {
+    private static final int EDIT_COUNT = 500;
+    private static final String[] INSERTIONS = {
+            "", "x", "中", "\n", "hello world ", "，", "“引号”", "💌", "\r\n", "\t", "  ",
+            "long insertion of text that spans lines of the layout ",
+    };
+
+    @Test
+    public void horizontalGreedy() {
+        checkEdits(false, GSLayout.BreakStrategy.BREAK_GREEDY, 1);
+    }
+
+    @Test
+    public void horizontalOptimal() {
+        checkEdits(false, GSLayout.BreakStrategy.BREAK_OPTIMAL, 2);
+    }
+
+    @Test
+    public void verticalGreedy() {
+        checkEdits(true, GSLayout.BreakStrategy.BREAK_GREEDY, 3);
+    }
+
+    @Test
+    public void verticalOptimal() {
+        checkEdits(true, GSLayout.BreakStrategy.BREAK_OPTIMAL, 4);
+    }
+
+    private static void checkEdits(boolean vertical, GSLayout.BreakStrategy strategy, long seed) {
+        Random random = new Random(seed);
+        String base = LayoutGoldenTest.createText();
+        GSLayout.Alignment[] alignments = GSLayout.Alignment.values();
+        for (int i = 0; i < EDIT_COUNT; ++i) {
+            GSLayout.Builder builder = LayoutGoldenTest.createBuilder(vertical, 100 + random.nextInt(200))
+                    .setBreakStrategy(strategy)
+                    .setTextAlignment(GSLayout.Alignment.ALIGN_JUSTIFY, GSLayout.Alignment.ALIGN_NORMAL)
+                    .setLineAlignment(alignments[random.nextInt(alignments.length)])
+                    .setPunctuationCompressRate(random.nextBoolean() ? 0 : 0.5f);
+            // Layouts from the text start, a paragraph start, or any offset taken as a paragraph start
+            int start = 0;
+            if (random.nextInt(3) == 0) {
+                start = random.nextInt(base.length() / 2);
+                if (random.nextBoolean()) {
+                    start = base.lastIndexOf('\n', start) + 1;
+                }
+            }
+            GSLayout old = builder.build(base, start, base.length(), true, true);
+            // Edits in and around the layout, whole code points only
+            int offset = Math.max(0, start - 5 + random.nextInt(old.getLayoutEnd() - start + 40));
+            offset = Math.min(offset, base.length());
+            int removed = random.nextInt(4) == 0 ? random.nextInt(30) : random.nextInt(2);
+            removed = Math.min(removed, base.length() - offset);
+            while (offset > 0 && offset < base.length() && Character.isLowSurrogate(base.charAt(offset))) {
+                --offset;
+            }
+            while (offset + removed < base.length() && Character.isLowSurrogate(base.charAt(offset + removed))) {
+                ++removed;
+            }
+            String inserted = INSERTIONS[random.nextInt(INSERTIONS.length)];
+            String text = base.substring(0, offset) + inserted + base.substring(offset + removed);
+            GSLayout relaid = old.relayout(text, offset, removed, inserted.length());
+            assertNotNull(relaid);
+            int delta = inserted.length() - removed;
+            int newStart = (start <= offset) ? start : Math.max(start + delta, offset);
+            GSLayout built = builder.build(text, newStart, text.length(), true, true);
+            assertEquals("edit " + i + " at " + offset + " removing " + removed + " inserting \""
+                            + inserted.replace("\n", "\\n").replace("\r", "\\r") + "\" from " + start,
+                    LayoutDump.dump(built), LayoutDump.dump(relaid));
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.geansea.layout;
+
+import android.text.SpannableString;
+import android.text.style.ForegroundColorSpan;
+import android.text.style.RelativeSizeSpan;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+
+/**
+ * Layouts of a text whose spans change between builds, against layouts by a new builder.
+ */
+public class StyleRunsTest {
+    @Test
+    public void readsChangedSpans() {
+        SpannableString text = new SpannableString(LayoutGoldenTest.createText());
+        GSLayout.Builder builder = LayoutGoldenTest.createBuilder(false, 300);
+        String plain = LayoutDump.dump(builder.build(text));
+
+        ForegroundColorSpan color = new ForegroundColorSpan(0xFFFF0000);
+        RelativeSizeSpan size = new RelativeSizeSpan(2f);
+        text.setSpan(color, 0, 40, 0);
+        text.setSpan(size, 10, 30, 0);
+        String styled = LayoutDump.dump(builder.build(text));
+        assertNotEquals(plain, styled);
+        assertEquals(LayoutDump.dump(LayoutGoldenTest.createBuilder(false, 300).build(text)), styled);
+
+        text.removeSpan(color);
+        text.removeSpan(size);
+        assertEquals(plain, LayoutDump.dump(builder.build(text)));
+    }
+
+    @Test
+    public void restoresChangedSpans() throws IOException {
+        SpannableString text = new SpannableString(LayoutGoldenTest.createText());
+        ForegroundColorSpan blue = new ForegroundColorSpan(0xFF0000FF);
+        text.setSpan(blue, 0, 40, 0);
+        GSLayout.Builder builder = LayoutGoldenTest.createBuilder(false, 300);
+        File file = File.createTempFile("layout", ".archive");
+        try {
+            GSLayoutArchive.write(new GSPaginator(builder, text), file);
+            GSLayoutArchive archive = GSLayoutArchive.open(file, builder, text);
+            assertNotNull(archive);
+            // Spans and the builder changed after open, colors do not move glyphs
+            text.removeSpan(blue);
+            text.setSpan(new ForegroundColorSpan(0xFFFF0000), 20, 60, 0);
+            builder.setFontSize(32);
+            GSLayout restored = archive.getPage(0);
+            GSLayout built = LayoutGoldenTest.createBuilder(false, 300).build(text);
+            assertEquals(describePaints(built), describePaints(restored));
+        } finally {
+            file.delete();
+        }
+    }
+
+    private static String describePaints(GSLayout layout) {
+        StringBuilder out = new StringBuilder();
+        for (GSLayoutLine line : layout.getLines()) {
+            for (GSLayoutGlyph glyph : line.getGlyphs()) {
+                out.append(Integer.toHexString(glyph.paint.getColor())).append('/')
+                        .append(LayoutDump.format(glyph.paint.getTextSize())).append(' ');
+            }
+            out.append('\n');
+        }
+        return out.toString();
+    }
+}
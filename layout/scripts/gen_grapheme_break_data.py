@@ -0,0 +1,66 @@
+#!/usr/bin/env python3
+"""Generate GSGraphemeBreakData.java from the Unicode Character Database.
+
+usage: gen_grapheme_break_data.py GraphemeBreakProperty.txt emoji-data.txt \
+           > ../src/main/java/com/geansea/layout/GSGraphemeBreakData.java
+"""
+
+import sys
+
+from gen_line_break_data import MAX_CODE_POINT, java_string
+
+# Classes, in the order of GSGraphemeBreaker constants
+CLASSES = [
+    'Other', 'CR', 'LF', 'Control', 'Extend', 'ZWJ', 'Regional_Indicator', 'Prepend', 'SpacingMark',
+    'L', 'V', 'T', 'LV', 'LVT',
+]
+INDEX = {name: i for i, name in enumerate(CLASSES)}
+
+# Flag of Extended_Pictographic, on top of the class
+EXTENDED_PICTOGRAPHIC = 0x10
+
+
+def read_property(path, values, value_of):
+    with open(path) as data:
+        for line in data:
+            line = line.split('#')[0].strip()
+            if not line:
+                continue
+            codes, name = [field.strip() for field in line.split(';')]
+            value = value_of(name)
+            if value is None:
+                continue
+            first, _, last = codes.partition('..')
+            for code in range(int(first, 16), int(last or first, 16) + 1):
+                values[code] |= value
+
+
+def main():
+    values = [0] * (MAX_CODE_POINT + 1)
+    read_property(sys.argv[1], values, lambda name: INDEX[name])
+    read_property(sys.argv[2], values,
+                  lambda name: EXTENDED_PICTOGRAPHIC if name == 'Extended_Pictographic' else None)
+    ranges = []
+    for code in range(MAX_CODE_POINT + 1):
+        if not ranges or ranges[-1][1] != values[code]:
+            ranges.append((code, values[code]))
+    chars = []
+    for start, value in ranges:
+        chars.append(value << 5 | start >> 16)
+        chars.append(start & 0xFFFF)
+    out = sys.stdout
+    out.write('package com.geansea.layout;\n\n')
+    out.write('// Generated by layout/scripts/gen_grapheme_break_data.py, do not edit\n')
+    out.write('final class GSGraphemeBreakData {\n')
+    out.write('    // Ranges of code points by grapheme cluster break class and Extended_Pictographic flag 0x10,\n')
+    out.write('    // as ((class | flag) << 5 | start >> 16, start & 0xFFFF),\n')
+    out.write('    // each range ends at the start of the next\n')
+    out.write('    static final String RANGES = ""\n')
+    for i in range(0, len(chars), 16):
+        out.write('            + %s\n' % java_string(chars[i:i + 16]))
+    out.write('            ;\n')
+    out.write('}\n')
+
+
+if __name__ == '__main__':
+    main()
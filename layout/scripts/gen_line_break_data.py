@@ -0,0 +1,198 @@
+#!/usr/bin/env python3
+"""Generate GSLineBreakData.java from the Unicode Character Database.
+
+usage: gen_line_break_data.py LineBreak.txt > ../src/main/java/com/geansea/layout/GSLineBreakData.java
+
+General category and East Asian width come from unicodedata, so run it with a
+python whose unicodedata.unidata_version matches the LineBreak.txt version.
+"""
+
+import sys
+import unicodedata
+
+# Resolved classes, in the order of GSLineBreaker constants
+CLASSES = [
+    'OP', 'CL', 'CP', 'QU', 'GL', 'NS', 'EX', 'SY', 'IS', 'PR', 'PO', 'NU', 'AL', 'HL',
+    'ID', 'IN', 'HY', 'BA', 'BB', 'B2', 'ZW', 'CM', 'WJ', 'H2', 'H3', 'JL', 'JV', 'JT',
+    'RI', 'EB', 'EM', 'ZWJ', 'CB', 'SP', 'BK', 'CR', 'LF', 'NL',
+    # OP of wide characters, which LB30 does not keep after AL, HL and NU
+    'OPW',
+]
+INDEX = {name: i for i, name in enumerate(CLASSES)}
+
+PROHIBITED = 0
+INDIRECT = 1
+DIRECT = 2
+
+MAX_CODE_POINT = 0x10FFFF
+
+# Flag of East Asian width F, W or H, on top of the class
+WIDE = 0x40
+
+
+def read_classes(path):
+    classes = ['XX'] * (MAX_CODE_POINT + 1)
+    with open(path) as data:
+        for line in data:
+            line = line.split('#')[0].strip()
+            if not line:
+                continue
+            codes, name = [field.strip() for field in line.split(';')]
+            first, _, last = codes.partition('..')
+            for code in range(int(first, 16), int(last or first, 16) + 1):
+                classes[code] = name
+    return classes
+
+
+# LB1, with OP split by East Asian width for LB30
+def resolve(code, name):
+    if name in ('AI', 'SG', 'XX'):
+        return 'AL'
+    if name == 'SA':
+        return 'CM' if unicodedata.category(chr(code)) in ('Mn', 'Mc') else 'AL'
+    if name == 'CJ':
+        return 'NS'
+    if name == 'OP' and is_wide(code):
+        return 'OPW'
+    return name
+
+
+def is_wide(code):
+    return unicodedata.east_asian_width(chr(code)) in ('F', 'W', 'H')
+
+
+# LB4 to LB31 for a pair of classes, with or without spaces between them.
+# Rules looking further back (LB8a, LB21a, LB30a) are applied by GSLineBreaker.
+def can_break(a, b, spaces):
+    if a in ('BK', 'LF', 'NL'):
+        return True
+    if a == 'CR':
+        return b != 'LF'
+    if b in ('BK', 'CR', 'LF', 'NL', 'SP', 'ZW'):
+        return False
+    if a == 'ZW':
+        return True
+    if b in ('CM', 'ZWJ'):
+        if not spaces:
+            return False
+        b = 'AL'
+    if a in ('CM', 'ZWJ'):
+        a = 'AL'
+    if b == 'WJ' or (a == 'WJ' and not spaces):
+        return False
+    if a == 'GL' and not spaces:
+        return False
+    if b == 'GL' and not spaces and a not in ('BA', 'HY'):
+        return False
+    if b in ('CL', 'CP', 'EX', 'IS', 'SY'):
+        return False
+    if a in ('OP', 'OPW'):
+        return False
+    if a == 'QU' and b in ('OP', 'OPW'):
+        return False
+    if a in ('CL', 'CP') and b == 'NS':
+        return False
+    if a == 'B2' and b == 'B2':
+        return False
+    if spaces:
+        return True
+    if a == 'QU' or b == 'QU':
+        return False
+    if a == 'CB' or b == 'CB':
+        return True
+    if b in ('BA', 'HY', 'NS') or a == 'BB':
+        return False
+    if a == 'SY' and b == 'HL':
+        return False
+    if b == 'IN':
+        return False
+    if (a in ('AL', 'HL') and b == 'NU') or (a == 'NU' and b in ('AL', 'HL')):
+        return False
+    if (a == 'PR' and b in ('ID', 'EB', 'EM')) or (a in ('ID', 'EB', 'EM') and b == 'PO'):
+        return False
+    if (a in ('PR', 'PO') and b in ('AL', 'HL')) or (a in ('AL', 'HL') and b in ('PR', 'PO')):
+        return False
+    if (a, b) in LB25:
+        return False
+    if a == 'JL' and b in ('JL', 'JV', 'H2', 'H3'):
+        return False
+    if a in ('JV', 'H2') and b in ('JV', 'JT'):
+        return False
+    if a in ('JT', 'H3') and b == 'JT':
+        return False
+    if a in ('JL', 'JV', 'JT', 'H2', 'H3') and b == 'PO':
+        return False
+    if a == 'PR' and b in ('JL', 'JV', 'JT', 'H2', 'H3'):
+        return False
+    if a in ('AL', 'HL') and b in ('AL', 'HL'):
+        return False
+    if a == 'IS' and b in ('AL', 'HL'):
+        return False
+    if a in ('AL', 'HL', 'NU') and b == 'OP':
+        return False
+    if a == 'CP' and b in ('AL', 'HL', 'NU'):
+        return False
+    if a == 'RI' and b == 'RI':
+        return False
+    if a == 'EB' and b == 'EM':
+        return False
+    return True
+
+
+# Pair form of LB25
+LB25 = {
+    ('CL', 'PO'), ('CP', 'PO'), ('CL', 'PR'), ('CP', 'PR'),
+    ('NU', 'PO'), ('NU', 'PR'), ('PO', 'OP'), ('PO', 'OPW'), ('PO', 'NU'),
+    ('PR', 'OP'), ('PR', 'OPW'), ('PR', 'NU'), ('HY', 'NU'), ('IS', 'NU'),
+    ('NU', 'NU'), ('SY', 'NU'),
+}
+
+
+def pair_action(a, b):
+    if can_break(a, b, False):
+        return DIRECT
+    if can_break(a, b, True):
+        return INDIRECT
+    return PROHIBITED
+
+
+# Octal escapes below 0x100, as unicode escapes of line ends and quotes are not allowed in literals
+def java_string(chars):
+    return '"' + ''.join(('\\%03o' if c < 0x100 else '\\u%04X') % c for c in chars) + '"'
+
+
+def main():
+    classes = read_classes(sys.argv[1])
+    ranges = []
+    for code in range(MAX_CODE_POINT + 1):
+        value = INDEX[resolve(code, classes[code])] | (WIDE if is_wide(code) else 0)
+        if not ranges or ranges[-1][1] != value:
+            ranges.append((code, value))
+    chars = []
+    for start, value in ranges:
+        chars.append(value << 5 | start >> 16)
+        chars.append(start & 0xFFFF)
+    out = sys.stdout
+    out.write('package com.geansea.layout;\n\n')
+    out.write('// Generated by layout/scripts/gen_line_break_data.py from LineBreak-%s.txt, do not edit\n'
+              % unicodedata.unidata_version)
+    out.write('final class GSLineBreakData {\n')
+    out.write('    // Ranges of code points by line break class and East Asian wide flag 0x40,\n')
+    out.write('    // as ((class | wide) << 5 | start >> 16, start & 0xFFFF),\n')
+    out.write('    // each range ends at the start of the next\n')
+    out.write('    static final String RANGES = ""\n')
+    for i in range(0, len(chars), 16):
+        out.write('            + %s\n' % java_string(chars[i:i + 16]))
+    out.write('            ;\n\n')
+    out.write('    // Action of each pair of classes, row by the class before and column by the class after,\n')
+    out.write('    // 0 prohibited, 1 break after spaces only, 2 break\n')
+    out.write('    static final String PAIRS = ""\n')
+    for a in CLASSES:
+        row = ''.join(str(pair_action(a, b)) for b in CLASSES)
+        out.write('            + "%s" // %s\n' % (row, a))
+    out.write('            ;\n')
+    out.write('}\n')
+
+
+if __name__ == '__main__':
+    main()
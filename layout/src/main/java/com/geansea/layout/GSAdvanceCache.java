@@ -0,0 +1,290 @@
+package com.geansea.layout;
+
+import android.graphics.Typeface;
+import android.text.TextPaint;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded cache of character advances per metrics provider, typeface, size and paint flags.
+ * Only characters measured the same out of context are cached, others are measured by paint.
+ * Advances are measured one by one, so kerning between cached characters is not applied.
+ */
+public class GSAdvanceCache {
+    private static final int INITIAL_CAPACITY = 256;
+    // Width of a missing character, per thread as misses are measured out of the lock
+    private static final ThreadLocal<float[]> MISS_WIDTH = new ThreadLocal<float[]>() {
+        @Override
+        protected float[] initialValue() {
+            return new float[1];
+        }
+    };
+
+    private final int maxCharCount;
+    private final LinkedHashMap<Key, Table> tables;
+    private final Key probe;
+    private final char[] measureChar;
+    private final float[] measureWidth;
+    private int charCount;
+
+    public GSAdvanceCache(int maxCharCount) {
+        this.maxCharCount = maxCharCount;
+        tables = new LinkedHashMap<>(16, 0.75f, true);
+        probe = new Key();
+        measureChar = new char[1];
+        measureWidth = new float[1];
+    }
+
+    public synchronized int getCharCount() {
+        return charCount;
+    }
+
+    public synchronized int getTableCount() {
+        return tables.size();
+    }
+
+    public synchronized void clear() {
+        tables.clear();
+        charCount = 0;
+    }
+
+    // Measure the characters of text not yet cached for paint
+    public void prewarm(TextPaint paint, CharSequence text) {
+        prewarm(GSPaintMetricsProvider.getInstance(), paint, text);
+    }
+
+    // Measure the characters of text not yet cached for paint, measured by provider
+    public synchronized void prewarm(GSFontMetricsProvider provider, TextPaint paint, CharSequence text) {
+        Table table = getTable(provider, paint);
+        for (int i = 0; i < text.length(); ++i) {
+            char code = text.charAt(i);
+            if (isCacheable(code)) {
+                getAdvance(table, provider, paint, code);
+            }
+        }
+    }
+
+    // Same as provider.getTextWidths(), false if some character is not cacheable. Missing characters are measured out
+    // of the lock, so layouts sharing the cache in parallel, as copies of a builder, do not wait for each other.
+    boolean getTextWidths(GSFontMetricsProvider provider,
+                          TextPaint paint,
+                          char[] chars,
+                          int index,
+                          int count,
+                          float[] widths) {
+        for (int i = 0; i < count; ++i) {
+            if (!isCacheable(chars[index + i])) {
+                return false;
+            }
+        }
+        if (getCachedWidths(provider, paint, chars, index, count, widths)) {
+            return true;
+        }
+        float[] width = MISS_WIDTH.get();
+        for (int i = 0; i < count; ++i) {
+            if (Float.isNaN(widths[i])) {
+                provider.getTextWidths(paint, chars, index + i, 1, width);
+                widths[i] = width[0];
+            }
+        }
+        putWidths(provider, paint, chars, index, count, widths);
+        return true;
+    }
+
+    // Widths of cached characters, NaN for others, false if some is missing
+    private synchronized boolean getCachedWidths(GSFontMetricsProvider provider,
+                                                 TextPaint paint,
+                                                 char[] chars,
+                                                 int index,
+                                                 int count,
+                                                 float[] widths) {
+        Table table = getTable(provider, paint);
+        boolean complete = true;
+        for (int i = 0; i < count; ++i) {
+            widths[i] = table.get(chars[index + i]);
+            complete &= !Float.isNaN(widths[i]);
+        }
+        return complete;
+    }
+
+    // Characters cached meanwhile by another layout are kept
+    private synchronized void putWidths(GSFontMetricsProvider provider,
+                                        TextPaint paint,
+                                        char[] chars,
+                                        int index,
+                                        int count,
+                                        float[] widths) {
+        Table table = getTable(provider, paint);
+        for (int i = 0; i < count; ++i) {
+            char code = chars[index + i];
+            if (Float.isNaN(table.get(code)) && (charCount < maxCharCount || trimToSize(table))) {
+                table.put(code, widths[i]);
+                ++charCount;
+            }
+        }
+    }
+
+    private Table getTable(GSFontMetricsProvider provider, TextPaint paint) {
+        probe.set(provider, paint);
+        Table table = tables.get(probe);
+        if (table == null) {
+            Key key = new Key();
+            key.set(provider, paint);
+            table = new Table();
+            tables.put(key, table);
+        }
+        return table;
+    }
+
+    private float getAdvance(Table table, GSFontMetricsProvider provider, TextPaint paint, char code) {
+        float advance = table.get(code);
+        if (Float.isNaN(advance)) {
+            measureChar[0] = code;
+            provider.getTextWidths(paint, measureChar, 0, 1, measureWidth);
+            advance = measureWidth[0];
+            if (charCount < maxCharCount || trimToSize(table)) {
+                table.put(code, advance);
+                ++charCount;
+            }
+        }
+        return advance;
+    }
+
+    // Evict least recently used tables other than current, false if there is still no room
+    private boolean trimToSize(Table current) {
+        Iterator<Map.Entry<Key, Table>> iterator = tables.entrySet().iterator();
+        while (charCount >= maxCharCount && iterator.hasNext()) {
+            Table table = iterator.next().getValue();
+            if (table != current) {
+                iterator.remove();
+                charCount -= table.count;
+            }
+        }
+        return charCount < maxCharCount;
+    }
+
+    private static boolean isCacheable(char code) {
+        // Scripts with contextual shaping
+        if (code >= 0x0590 && code < 0x2000) {
+            return false;
+        }
+        // Surrogates and private use
+        if (code >= 0xD800 && code < 0xF900) {
+            return false;
+        }
+        switch (Character.getType(code)) {
+            case Character.NON_SPACING_MARK:
+            case Character.ENCLOSING_MARK:
+            case Character.COMBINING_SPACING_MARK:
+            case Character.FORMAT:
+                return false;
+            default:
+                return true;
+        }
+    }
+
+    private static final class Key {
+        private GSFontMetricsProvider provider;
+        private Typeface typeface;
+        private float textSize;
+        private float textScaleX;
+        private float textSkewX;
+        private int flags;
+
+        void set(GSFontMetricsProvider provider, TextPaint paint) {
+            this.provider = provider;
+            typeface = paint.getTypeface();
+            textSize = paint.getTextSize();
+            textScaleX = paint.getTextScaleX();
+            textSkewX = paint.getTextSkewX();
+            flags = paint.getFlags();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return provider == key.provider
+                    && typeface == key.typeface
+                    && textSize == key.textSize
+                    && textScaleX == key.textScaleX
+                    && textSkewX == key.textSkewX
+                    && flags == key.flags;
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = System.identityHashCode(provider);
+            hash = 31 * hash + System.identityHashCode(typeface);
+            hash = 31 * hash + Float.floatToIntBits(textSize);
+            hash = 31 * hash + Float.floatToIntBits(textScaleX);
+            hash = 31 * hash + Float.floatToIntBits(textSkewX);
+            return 31 * hash + flags;
+        }
+    }
+
+    // Open addressing table from char to advance, NaN marks empty slot
+    private static final class Table {
+        int count;
+        char[] codes = new char[INITIAL_CAPACITY];
+        float[] advances = newAdvances(INITIAL_CAPACITY);
+
+        float get(char code) {
+            int mask = codes.length - 1;
+            for (int slot = hash(code) & mask; ; slot = (slot + 1) & mask) {
+                float advance = advances[slot];
+                if (Float.isNaN(advance) || codes[slot] == code) {
+                    return advance;
+                }
+            }
+        }
+
+        void put(char code, float advance) {
+            if ((count + 1) * 2 > codes.length) {
+                rehash(codes.length * 2);
+            }
+            insert(code, advance);
+            ++count;
+        }
+
+        private void insert(char code, float advance) {
+            int mask = codes.length - 1;
+            int slot = hash(code) & mask;
+            while (!Float.isNaN(advances[slot])) {
+                slot = (slot + 1) & mask;
+            }
+            codes[slot] = code;
+            advances[slot] = advance;
+        }
+
+        private void rehash(int capacity) {
+            char[] oldCodes = codes;
+            float[] oldAdvances = advances;
+            codes = new char[capacity];
+            advances = newAdvances(capacity);
+            for (int i = 0; i < oldCodes.length; ++i) {
+                if (!Float.isNaN(oldAdvances[i])) {
+                    insert(oldCodes[i], oldAdvances[i]);
+                }
+            }
+        }
+
+        private static int hash(char code) {
+            return code * 0x9E3779B1 >>> 16;
+        }
+
+        private static float[] newAdvances(int capacity) {
+            float[] advances = new float[capacity];
+            Arrays.fill(advances, Float.NaN);
+            return advances;
+        }
+    }
+}
@@ -1,35 +1,44 @@
 package com.geansea.layout;
 
 import java.util.Arrays;
-import java.util.HashMap;
-import java.util.HashSet;
 
 @SuppressWarnings({"SimplifiableIfStatement", "RedundantIfStatement"})
 final class GSCharUtils {
+    // Character properties, bit flags
+    private static final int COMPRESS_START = 0x01;
+    private static final int COMPRESS_END = 0x02;
+    private static final int ROTATE_FOR_VERTICAL = 0x04;
+    private static final int ALPHA_DIGIT = 0x08;
+    private static final int CJK = 0x10;
+
+    static final int BLOCK_SHIFT = 8;
+    static final int BLOCK_SIZE = 1 << BLOCK_SHIFT;
+    static final int BLOCK_MASK = BLOCK_SIZE - 1;
+
     static boolean isNewline(char code) {
         return code == '\r' || code == '\n';
     }
 
-    static boolean isNewline(GSLayoutGlyph glyph) {
-        return glyph != null && isNewline(glyph.code());
+    static boolean isNewline(GSLayoutGlyphRun glyphs, int index) {
+        return index >= 0 && isNewline(glyphs.code(index));
     }
 
     static boolean isVerticalPunctuation(char code) {
         return ('\uFE10' <= code && code <= '\uFE16');
     }
 
-    static boolean shouldAddGap(GSLayoutGlyph glyph0, GSLayoutGlyph glyph1) {
-        if (glyph0 == null || glyph1 == null) {
+    static boolean shouldAddGap(GSLayoutGlyphRun glyphs, int index0, int index1) {
+        if (index0 < 0 || index1 < 0) {
             return false;
         }
-        if (glyph0.paint.baselineShift != glyph1.paint.baselineShift) {
+        if (glyphs.paint[index0].baselineShift != glyphs.paint[index1].baselineShift) {
             return false;
         }
-        if (glyph0.isItalic() && !glyph1.isItalic()) {
+        if (glyphs.isItalic(index0) && !glyphs.isItalic(index1)) {
             return true;
         }
-        char code0 = glyph0.code();
-        char code1 = glyph1.code();
+        int code0 = glyphs.codePoint(index0);
+        int code1 = glyphs.codePoint(index1);
         if (isCjk(code0)) {
             return isAlphaDigit(code1);
         }
@@ -39,84 +48,51 @@ final class GSCharUtils {
         return false;
     }
 
-    static boolean canCompress(GSLayoutGlyph glyph) {
-        if (glyph == null) {
+    static boolean canCompress(GSLayoutGlyphRun glyphs, int index) {
+        if (index < 0) {
             return false;
         }
-        if (!glyph.isFullSize()) {
+        if (!glyphs.isFullSize(index)) {
             return false;
         }
-        char code = glyph.code();
+        int code = glyphs.codePoint(index);
         if (isVerticalFullSizePunctuation(code)) {
             return false;
         }
         return true;
     }
 
-    static boolean shouldCompressStart(GSLayoutGlyph glyph) {
-        if (glyph == null) {
+    static boolean shouldCompressStart(GSLayoutGlyphRun glyphs, int index) {
+        if (index < 0) {
             return false;
         }
-        return compressStartSet.contains(glyph.code());
+        return hasProperty(glyphs.codePoint(index), COMPRESS_START);
     }
 
-    static boolean shouldCompressEnd(GSLayoutGlyph glyph) {
-        if (glyph == null) {
+    static boolean shouldCompressEnd(GSLayoutGlyphRun glyphs, int index) {
+        if (index < 0) {
             return false;
         }
-        return compressEndSet.contains(glyph.code());
+        return hasProperty(glyphs.codePoint(index), COMPRESS_END);
     }
 
-    static boolean canBreak(GSLayoutGlyph glyph0, GSLayoutGlyph glyph1) {
-        if (glyph0 == null || glyph1 == null) {
-            return false;
-        }
-        if (cannotLineEnd(glyph0)) {
-            return false;
-        }
-        if (cannotLineBegin(glyph1)) {
+    static boolean canBreak(GSLayoutGlyphRun glyphs, int index0, int index1) {
+        if (index0 < 0 || index1 < 0) {
             return false;
         }
         // Not break sup/sub
-        if (glyph1.paint.baselineShift != 0) {
-            return false;
-        }
-        char code0 = glyph0.code();
-        char code1 = glyph1.code();
-        // Always can break after space
-        if (code0 == ' ') {
-            return true;
-        }
-        // No Break SPace
-        if (code0 == '\u00A0') {
-            return false;
-        }
-        // Space follow prev
-        if (code1 == ' ' || code1 == '\u00A0') {
+        if (glyphs.paint[index1].baselineShift != 0) {
             return false;
         }
-        if (isAlphaDigit(code0)) {
-            if (isAlphaDigit(code1)) {
-                return false;
-            }
-            if (code1 == '\'' || code1 == '\"' || code1 == '-' || code1 == '_' || code1 == '%') {
-                return false;
-            }
-        }
-        if (isAlphaDigit(code1)) {
-            if (code0 == '\'' || code0 == '\"' || code0 == '\\' || code0 == '\u2019') {
-                return false;
-            }
-        }
-        return true;
+        return GSLineBreaker.canBreak(glyphs, index0, index1);
     }
 
-    static boolean canStretch(GSLayoutGlyph glyph0, GSLayoutGlyph glyph1) {
-        if (!canBreak(glyph0, glyph1)) {
+    static boolean canStretch(GSLayoutGlyphRun glyphs, int index0, int index1) {
+        if (!canBreak(glyphs, index0, index1)) {
             return false;
         }
-        char code0 = glyph0.code();
-        char code1 = glyph1.code();
+        int code0 = glyphs.codePoint(index0);
+        int code1 = glyphs.codePoint(index1);
         if ('/' == code0 && isAlphaDigit(code1)) {
             return false;
         }
@@ -126,25 +102,18 @@ final class GSCharUtils {
         return true;
     }
 
-    static boolean shouldRotateForVertical(char code) {
-        if (code < '\u2600') {
-            return true;
-        }
-        return rotateForVerticalSet.contains(code);
+    static boolean shouldRotateForVertical(int codePoint) {
+        return hasProperty(codePoint, ROTATE_FOR_VERTICAL);
     }
 
-    static String replaceTextForVertical(String text) {
-        StringBuilder textBuilder = new StringBuilder(text.length());
-        for (int i = 0; i < text.length(); ++i) {
-            char code = text.charAt(i);
-            code = replaceForVertical(code);
-            textBuilder.append(code);
+    static void replaceTextForVertical(char[] chars, int start, int end) {
+        for (int i = start; i < end; ++i) {
+            chars[i] = replaceForVertical(chars[i]);
         }
-        return textBuilder.toString();
     }
 
-    private static final HashSet<Character> compressStartSet
-            = new HashSet<>(Arrays.asList(
+    // Kinsoku, also tailoring line break classes in GSLineBreaker
+    static final char[] compressStartChars = {
             '\u2018', // ‘
             '\u201C', // “
             '\u3008', // 〈
@@ -158,10 +127,9 @@ final class GSCharUtils {
             '\uFF3B', // ［
             '\uFF5B', // ｛
             Character.MIN_VALUE
-    ));
+    };
 
-    private static final HashSet<Character> compressEndSet
-            = new HashSet<>(Arrays.asList(
+    static final char[] compressEndChars = {
             '\u2019', // ’
             '\u201D', // ”
             '\u3001', // 、
@@ -190,34 +158,9 @@ final class GSCharUtils {
             '\uFE15', // ！
             '\uFE16', // ？
             Character.MIN_VALUE
-    ));
+    };
 
-    private static final HashSet<Character> notLineBeginSet
-            = new HashSet<>(Arrays.asList(
-            '!',
-            ')',
-            ',',
-            '.',
-            ':',
-            ';',
-            '>',
-            '?',
-            ']',
-            '}',
-            Character.MIN_VALUE
-    ));
-
-    private static final HashSet<Character> notLineEndSet
-            = new HashSet<>(Arrays.asList(
-            '(',
-            '<',
-            '[',
-            '{',
-            Character.MIN_VALUE
-    ));
-
-    private static final HashSet<Character> rotateForVerticalSet
-            = new HashSet<>(Arrays.asList(
+    private static final char[] rotateForVerticalChars = {
             '\u2014', // —
             '\u2026', // …
             '\u3008', // 〈
@@ -241,55 +184,145 @@ final class GSCharUtils {
             '\uFF5B', // ｛
             '\uFF5D', // ｝
             Character.MIN_VALUE
-    ));
+    };
+
+    // Pairs of char and its replacement
+    private static final char[] replaceForVerticalChars = {
+            '\uFF0C', '\uFE10', // ，
+            '\u3001', '\uFE11', // 、
+            '\u3002', '\uFE12', // 。
+            '\uFF1A', '\uFE13', // ：
+            '\uFF1B', '\uFE14', // ；
+            '\uFF01', '\uFE15', // ！
+            '\uFF1F', '\uFE16', // ？
+            //'\u3016', '\uFE17', // 〖
+            //'\u3017', '\uFE18', // 〗
+            //'\u2026', '\uFE19', // …
+            // For quotes
+            '\u2018', '\u300C', // ‘ -> 「
+            '\u2019', '\u300D', // ’ -> 」
+            '\u201C', '\u300E', // “ -> 『
+            '\u201D', '\u300F', // ” -> 』
+    };
 
-    private static final HashMap<Character, Character> replaceForVerticalMap
-            = new HashMap<Character, Character>() {{
-        put('\uFF0C', '\uFE10'); // ，
-        put('\u3001', '\uFE11'); // 、
-        put('\u3002', '\uFE12'); // 。
-        put('\uFF1A', '\uFE13'); // ：
-        put('\uFF1B', '\uFE14'); // ；
-        put('\uFF01', '\uFE15'); // ！
-        put('\uFF1F', '\uFE16'); // ？
-        //put('\u3016', '\uFE17'); // 〖
-        //put('\u3017', '\uFE18'); // 〗
-        //put('\u2026', '\uFE19'); // …
-        // For quotes
-        put('\u2018', '\u300C'); // ‘ -> 「
-        put('\u2019', '\u300D'); // ’ -> 」
-        put('\u201C', '\u300E'); // “ -> 『
-        put('\u201D', '\u300F'); // ” -> 』
-    }};
+    // Two stage tables of the BMP, offset of the block by high bits, then the value by low bits in block.
+    // Equal blocks are shared, so tables take a few KB.
+    private static final char[] propertyBlocks = new char[BLOCK_SIZE];
+    private static final byte[] properties;
+    private static final char[] replacementBlocks = new char[BLOCK_SIZE];
+    // Difference from char to its replacement
+    private static final char[] replacements;
 
-    private static boolean isAlphaDigit(char code) {
-        return ('a' <= code && code <= 'z') || ('A' <= code && code <= 'Z') || ('0' <= code && code <= '9');
+    static {
+        byte[] allProperties = new byte[Character.MAX_VALUE + 1];
+        for (int code = 0; code < '\u2600'; ++code) {
+            allProperties[code] |= ROTATE_FOR_VERTICAL;
+        }
+        setProperty(allProperties, rotateForVerticalChars, ROTATE_FOR_VERTICAL);
+        setProperty(allProperties, compressStartChars, COMPRESS_START);
+        setProperty(allProperties, compressEndChars, COMPRESS_END);
+        setProperty(allProperties, 'a', 'z', ALPHA_DIGIT);
+        setProperty(allProperties, 'A', 'Z', ALPHA_DIGIT);
+        setProperty(allProperties, '0', '9', ALPHA_DIGIT);
+        setProperty(allProperties, '\u4E00', '\uD7FF', CJK);
+        setProperty(allProperties, '\uE000', '\uFAFF', CJK);
+        properties = shareBlocks(allProperties, propertyBlocks);
+        char[] allReplacements = new char[Character.MAX_VALUE + 1];
+        for (int i = 0; i < replaceForVerticalChars.length; i += 2) {
+            char code = replaceForVerticalChars[i];
+            allReplacements[code] = (char) (replaceForVerticalChars[i + 1] - code);
+        }
+        replacements = shareBlocks(allReplacements, replacementBlocks);
     }
 
-    private static boolean isCjk(char code) {
-        return (0x4E00 <= code && code < 0xD800) || (0xE000 <= code && code < 0xFB00);
+    private static boolean hasProperty(int codePoint, int property) {
+        if (codePoint > Character.MAX_VALUE) {
+            // Ideographs of Extension B and later
+            return property == CJK && codePoint >= 0x20000 && codePoint < 0x40000;
+        }
+        return (properties[propertyBlocks[codePoint >>> BLOCK_SHIFT] | (codePoint & BLOCK_MASK)] & property) != 0;
     }
 
-    private static boolean isVerticalFullSizePunctuation(char code) {
+    private static boolean isAlphaDigit(int codePoint) {
+        return hasProperty(codePoint, ALPHA_DIGIT);
+    }
+
+    private static boolean isCjk(int codePoint) {
+        return hasProperty(codePoint, CJK);
+    }
+
+    private static boolean isVerticalFullSizePunctuation(int code) {
         return ('\uFE13' <= code && code <= '\uFE16');
     }
 
-    private static boolean cannotLineBegin(GSLayoutGlyph glyph) {
-        if (shouldCompressEnd(glyph)) {
-            return true;
+    private static char replaceForVertical(char code) {
+        return (char) (code + replacements[replacementBlocks[code >>> BLOCK_SHIFT] | (code & BLOCK_MASK)]);
+    }
+
+    private static void setProperty(byte[] table, char[] codes, int property) {
+        for (char code : codes) {
+            table[code] |= property;
         }
-        return notLineBeginSet.contains(glyph.code());
     }
 
-    private static boolean cannotLineEnd(GSLayoutGlyph glyph) {
-        if (shouldCompressStart(glyph)) {
-            return true;
+    private static void setProperty(byte[] table, char first, char last, int property) {
+        for (int code = first; code <= last; ++code) {
+            table[code] |= property;
         }
-        return notLineEndSet.contains(glyph.code());
     }
 
-    private static char replaceForVertical(char code) {
-        Character value = replaceForVerticalMap.get(code);
-        return (value != null ? value : code);
+    // Blocks of table with equal blocks shared, block offsets are set to offsets
+    static byte[] shareBlocks(byte[] table, char[] offsets) {
+        byte[] blocks = new byte[table.length];
+        int length = 0;
+        for (int block = 0; block < offsets.length; ++block) {
+            int start = block << BLOCK_SHIFT;
+            int offset = 0;
+            while (offset < length && !isSameBlock(table, start, blocks, offset)) {
+                offset += BLOCK_SIZE;
+            }
+            if (offset == length) {
+                System.arraycopy(table, start, blocks, length, BLOCK_SIZE);
+                length += BLOCK_SIZE;
+            }
+            offsets[block] = (char) offset;
+        }
+        return Arrays.copyOf(blocks, length);
+    }
+
+    private static char[] shareBlocks(char[] table, char[] offsets) {
+        char[] blocks = new char[table.length];
+        int length = 0;
+        for (int block = 0; block < offsets.length; ++block) {
+            int start = block << BLOCK_SHIFT;
+            int offset = 0;
+            while (offset < length && !isSameBlock(table, start, blocks, offset)) {
+                offset += BLOCK_SIZE;
+            }
+            if (offset == length) {
+                System.arraycopy(table, start, blocks, length, BLOCK_SIZE);
+                length += BLOCK_SIZE;
+            }
+            offsets[block] = (char) offset;
+        }
+        return Arrays.copyOf(blocks, length);
+    }
+
+    private static boolean isSameBlock(byte[] table, int start, byte[] blocks, int offset) {
+        for (int i = 0; i < BLOCK_SIZE; ++i) {
+            if (table[start + i] != blocks[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isSameBlock(char[] table, int start, char[] blocks, int offset) {
+        for (int i = 0; i < BLOCK_SIZE; ++i) {
+            if (table[start + i] != blocks[offset + i]) {
+                return false;
+            }
+        }
+        return true;
     }
 }
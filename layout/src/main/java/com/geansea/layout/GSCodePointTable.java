@@ -0,0 +1,59 @@
+package com.geansea.layout;
+
+import java.util.Arrays;
+
+// Values of code points decoded from ranges of generated data.
+// Each range is (value << 5 | start >> 16, start & 0xFFFF) and ends at the start of the next.
+// The BMP is kept in a two stage table as in GSCharUtils, supplementary ranges are searched.
+final class GSCodePointTable {
+    private final char[] blocks = new char[GSCharUtils.BLOCK_SIZE];
+    private final byte[] values;
+    private final int[] supplementaryStarts;
+    private final byte[] supplementaryValues;
+
+    // Values of all chars of the BMP, may be tailored before creating the table
+    static byte[] decodeBmp(String ranges) {
+        byte[] bmpValues = new byte[Character.MAX_VALUE + 1];
+        int rangeCount = ranges.length() / 2;
+        for (int i = 0; i < rangeCount && getStart(ranges, i) <= Character.MAX_VALUE; ++i) {
+            int end = Math.min(getEnd(ranges, i), Character.MAX_VALUE + 1);
+            Arrays.fill(bmpValues, getStart(ranges, i), end, getValue(ranges, i));
+        }
+        return bmpValues;
+    }
+
+    GSCodePointTable(String ranges, byte[] bmpValues) {
+        values = GSCharUtils.shareBlocks(bmpValues, blocks);
+        int rangeCount = ranges.length() / 2;
+        int first = 0;
+        while (getEnd(ranges, first) <= Character.MAX_VALUE + 1) {
+            ++first;
+        }
+        supplementaryStarts = new int[rangeCount - first];
+        supplementaryValues = new byte[rangeCount - first];
+        for (int i = first; i < rangeCount; ++i) {
+            supplementaryStarts[i - first] = Math.max(getStart(ranges, i), Character.MIN_SUPPLEMENTARY_CODE_POINT);
+            supplementaryValues[i - first] = getValue(ranges, i);
+        }
+    }
+
+    int get(int codePoint) {
+        if (codePoint <= Character.MAX_VALUE) {
+            return values[blocks[codePoint >>> GSCharUtils.BLOCK_SHIFT] | (codePoint & GSCharUtils.BLOCK_MASK)];
+        }
+        int range = Arrays.binarySearch(supplementaryStarts, codePoint);
+        return supplementaryValues[range >= 0 ? range : -range - 2];
+    }
+
+    private static int getStart(String ranges, int range) {
+        return (ranges.charAt(2 * range) & 0x1F) << 16 | ranges.charAt(2 * range + 1);
+    }
+
+    private static int getEnd(String ranges, int range) {
+        return (2 * range + 2 < ranges.length()) ? getStart(ranges, range + 1) : Character.MAX_CODE_POINT + 1;
+    }
+
+    private static byte getValue(String ranges, int range) {
+        return (byte) (ranges.charAt(2 * range) >>> 5);
+    }
+}
@@ -0,0 +1,273 @@
+package com.geansea.layout;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Metrics of a TrueType or OpenType font read from its tables, without a graphics stack.
+ * The file is memory mapped, cmap, hmtx, vmtx and glyph boxes are read from the mapping when asked,
+ * so large fonts are neither copied nor parsed at open. Values are in font units, y axis goes up.
+ */
+public class GSFontFile {
+    private static final int TAG_TTCF = 0x74746366;
+    private static final int TAG_CMAP = 0x636D6170;
+    private static final int TAG_HEAD = 0x68656164;
+    private static final int TAG_HHEA = 0x68686561;
+    private static final int TAG_HMTX = 0x686D7478;
+    private static final int TAG_MAXP = 0x6D617870;
+    private static final int TAG_VHEA = 0x76686561;
+    private static final int TAG_VMTX = 0x766D7478;
+    private static final int TAG_VORG = 0x564F5247;
+    private static final int TAG_LOCA = 0x6C6F6361;
+    private static final int TAG_GLYF = 0x676C7966;
+
+    private final ByteBuffer buffer;
+    private final int unitsPerEm;
+    private final int glyphCount;
+    private final int ascender;
+    private final int descender;
+    private final int cmapFormat;
+    private final int cmapOffset;
+    private final int hmtxOffset;
+    private final int hMetricCount;
+    private final int vmtxOffset;
+    private final int vMetricCount;
+    private final int vorgOffset;
+    private final int locaOffset;
+    private final boolean longLoca;
+    private final int glyfOffset;
+
+    public static GSFontFile open(File file) throws IOException {
+        return open(file, 0);
+    }
+
+    // Font at index of a collection, index is ignored for a single font file
+    public static GSFontFile open(File file, int index) throws IOException {
+        RandomAccessFile input = new RandomAccessFile(file, "r");
+        try {
+            FileChannel channel = input.getChannel();
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new GSFontFile(buffer, index);
+        } finally {
+            input.close();
+        }
+    }
+
+    // Font in buffer from position 0, only absolute reads are used so buffer may be shared
+    public GSFontFile(ByteBuffer buffer, int index) throws IOException {
+        this.buffer = buffer.duplicate().order(ByteOrder.BIG_ENDIAN);
+        int fontOffset = 0;
+        if (this.buffer.getInt(0) == TAG_TTCF) {
+            int fontCount = this.buffer.getInt(8);
+            if (index < 0 || index >= fontCount) {
+                throw new IOException("No font " + index + " in collection of " + fontCount);
+            }
+            fontOffset = this.buffer.getInt(12 + 4 * index);
+        }
+        int head = findTable(fontOffset, TAG_HEAD);
+        int hhea = findTable(fontOffset, TAG_HHEA);
+        int maxp = findTable(fontOffset, TAG_MAXP);
+        int cmap = findTable(fontOffset, TAG_CMAP);
+        hmtxOffset = findTable(fontOffset, TAG_HMTX);
+        if (head < 0 || hhea < 0 || maxp < 0 || cmap < 0 || hmtxOffset < 0) {
+            throw new IOException("Not a font with cmap and horizontal metrics");
+        }
+        unitsPerEm = getUShort(head + 18);
+        longLoca = getShort(head + 50) != 0;
+        glyphCount = getUShort(maxp + 4);
+        ascender = getShort(hhea + 4);
+        descender = getShort(hhea + 6);
+        hMetricCount = getUShort(hhea + 34);
+        int vhea = findTable(fontOffset, TAG_VHEA);
+        int vmtx = findTable(fontOffset, TAG_VMTX);
+        if (vhea >= 0 && vmtx >= 0) {
+            vmtxOffset = vmtx;
+            vMetricCount = getUShort(vhea + 34);
+        } else {
+            vmtxOffset = -1;
+            vMetricCount = 0;
+        }
+        vorgOffset = findTable(fontOffset, TAG_VORG);
+        locaOffset = findTable(fontOffset, TAG_LOCA);
+        glyfOffset = findTable(fontOffset, TAG_GLYF);
+        // Prefer full unicode, then BMP unicode subtables
+        int bestOffset = -1;
+        int bestFormat = 0;
+        int bestRank = 0;
+        int subtableCount = getUShort(cmap + 2);
+        for (int i = 0; i < subtableCount; ++i) {
+            int platform = getUShort(cmap + 4 + 8 * i);
+            int encoding = getUShort(cmap + 6 + 8 * i);
+            int offset = cmap + this.buffer.getInt(cmap + 8 + 8 * i);
+            int format = getUShort(offset);
+            boolean unicode = platform == 0 || (platform == 3 && (encoding == 1 || encoding == 10));
+            int rank = 0;
+            if (unicode && format == 12) {
+                rank = 2;
+            } else if (unicode && format == 4) {
+                rank = 1;
+            }
+            if (rank > bestRank) {
+                bestOffset = offset;
+                bestFormat = format;
+                bestRank = rank;
+            }
+        }
+        if (bestOffset < 0) {
+            throw new IOException("No unicode cmap");
+        }
+        cmapOffset = bestOffset;
+        cmapFormat = bestFormat;
+    }
+
+    public int getUnitsPerEm() {
+        return unitsPerEm;
+    }
+
+    public int getGlyphCount() {
+        return glyphCount;
+    }
+
+    public int getAscender() {
+        return ascender;
+    }
+
+    // Negative if below baseline
+    public int getDescender() {
+        return descender;
+    }
+
+    public boolean hasVerticalMetrics() {
+        return vmtxOffset >= 0;
+    }
+
+    // Glyph id of code point, 0 if not mapped
+    public int getGlyphId(int codePoint) {
+        if (cmapFormat == 12) {
+            int groupCount = buffer.getInt(cmapOffset + 12);
+            int low = 0;
+            int high = groupCount - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int group = cmapOffset + 16 + 12 * mid;
+                if (codePoint < buffer.getInt(group)) {
+                    high = mid - 1;
+                } else if (codePoint > buffer.getInt(group + 4)) {
+                    low = mid + 1;
+                } else {
+                    return buffer.getInt(group + 8) + (codePoint - buffer.getInt(group));
+                }
+            }
+            return 0;
+        }
+        if (codePoint > 0xFFFF) {
+            return 0;
+        }
+        int segCountX2 = getUShort(cmapOffset + 6);
+        int endCodes = cmapOffset + 14;
+        int startCodes = endCodes + segCountX2 + 2;
+        int idDeltas = startCodes + segCountX2;
+        int idRangeOffsets = idDeltas + segCountX2;
+        // First segment with end code not less than code point
+        int low = 0;
+        int high = segCountX2 / 2 - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (getUShort(endCodes + 2 * mid) < codePoint) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        int startCode = getUShort(startCodes + 2 * low);
+        if (codePoint < startCode || codePoint > getUShort(endCodes + 2 * low)) {
+            return 0;
+        }
+        int idDelta = getShort(idDeltas + 2 * low);
+        int idRangeOffset = getUShort(idRangeOffsets + 2 * low);
+        if (idRangeOffset == 0) {
+            return (codePoint + idDelta) & 0xFFFF;
+        }
+        int glyphId = getUShort(idRangeOffsets + 2 * low + idRangeOffset + 2 * (codePoint - startCode));
+        return glyphId != 0 ? (glyphId + idDelta) & 0xFFFF : 0;
+    }
+
+    public int getAdvanceWidth(int glyphId) {
+        return getUShort(hmtxOffset + 4 * Math.min(glyphId, hMetricCount - 1));
+    }
+
+    // Advance in vertical layout, the height of em box if there is no vertical metrics
+    public int getAdvanceHeight(int glyphId) {
+        if (vmtxOffset < 0) {
+            return ascender - descender;
+        }
+        return getUShort(vmtxOffset + 4 * Math.min(glyphId, vMetricCount - 1));
+    }
+
+    // Y of the glyph origin in vertical layout, which is the top of its advance
+    public int getVerticalOriginY(int glyphId) {
+        if (vorgOffset >= 0) {
+            int low = 0;
+            int high = getUShort(vorgOffset + 6) - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int metric = vorgOffset + 8 + 4 * mid;
+                int id = getUShort(metric);
+                if (glyphId < id) {
+                    high = mid - 1;
+                } else if (glyphId > id) {
+                    low = mid + 1;
+                } else {
+                    return getShort(metric + 2);
+                }
+            }
+            return getShort(vorgOffset + 4);
+        }
+        if (vmtxOffset >= 0 && locaOffset >= 0 && glyfOffset >= 0 && glyphId < glyphCount) {
+            int topSideBearing;
+            if (glyphId < vMetricCount) {
+                topSideBearing = getShort(vmtxOffset + 4 * glyphId + 2);
+            } else {
+                topSideBearing = getShort(vmtxOffset + 4 * vMetricCount + 2 * (glyphId - vMetricCount));
+            }
+            int glyphStart = getLocation(glyphId);
+            if (glyphStart < getLocation(glyphId + 1)) {
+                int yMax = getShort(glyfOffset + glyphStart + 8);
+                return yMax + topSideBearing;
+            }
+        }
+        return ascender;
+    }
+
+    private int getLocation(int glyphId) {
+        if (longLoca) {
+            return buffer.getInt(locaOffset + 4 * glyphId);
+        }
+        return getUShort(locaOffset + 2 * glyphId) * 2;
+    }
+
+    // Offset of table in buffer, -1 if not found
+    private int findTable(int fontOffset, int tag) {
+        int tableCount = getUShort(fontOffset + 4);
+        for (int i = 0; i < tableCount; ++i) {
+            int record = fontOffset + 12 + 16 * i;
+            if (buffer.getInt(record) == tag) {
+                return buffer.getInt(record + 8);
+            }
+        }
+        return -1;
+    }
+
+    private int getUShort(int offset) {
+        return buffer.getShort(offset) & 0xFFFF;
+    }
+
+    private int getShort(int offset) {
+        return buffer.getShort(offset);
+    }
+}
@@ -0,0 +1,68 @@
+package com.geansea.layout;
+
+import android.text.TextPaint;
+
+/**
+ * Metrics read from a font file, scaled by text size and scale x of paint.
+ * Typeface of paint is ignored, text should be drawn with the same font.
+ */
+public class GSFontFileMetricsProvider implements GSFontMetricsProvider {
+    private final GSFontFile font;
+
+    public GSFontFileMetricsProvider(GSFontFile font) {
+        this.font = font;
+    }
+
+    public GSFontFile getFont() {
+        return font;
+    }
+
+    @Override
+    public void getTextWidths(TextPaint paint, char[] chars, int index, int count, float[] widths) {
+        float scale = paint.getTextSize() / font.getUnitsPerEm() * paint.getTextScaleX();
+        for (int i = 0; i < count; ++i) {
+            int codePoint = chars[index + i];
+            boolean pair = Character.isHighSurrogate(chars[index + i])
+                    && i + 1 < count && Character.isLowSurrogate(chars[index + i + 1]);
+            if (pair) {
+                codePoint = Character.toCodePoint(chars[index + i], chars[index + i + 1]);
+            }
+            widths[i] = font.getAdvanceWidth(font.getGlyphId(codePoint)) * scale;
+            if (pair) {
+                widths[++i] = 0;
+            }
+        }
+    }
+
+    @Override
+    public float getAscent(TextPaint paint) {
+        return font.getAscender() * paint.getTextSize() / font.getUnitsPerEm();
+    }
+
+    @Override
+    public float getDescent(TextPaint paint) {
+        return -font.getDescender() * paint.getTextSize() / font.getUnitsPerEm();
+    }
+
+    @Override
+    public void getVerticalMetrics(TextPaint paint,
+                                   char[] chars,
+                                   int index,
+                                   float width,
+                                   boolean rotated,
+                                   float[] metrics) {
+        float scale = paint.getTextSize() / font.getUnitsPerEm();
+        if (rotated) {
+            metrics[0] = width;
+            metrics[1] = font.getAscender() * scale;
+            metrics[2] = -font.getDescender() * scale;
+        } else {
+            int glyphId = font.getGlyphId(Character.codePointAt(chars, index));
+            int advance = font.getAdvanceHeight(glyphId);
+            int originY = font.getVerticalOriginY(glyphId);
+            metrics[0] = advance * scale;
+            metrics[1] = originY * scale;
+            metrics[2] = (advance - originY) * scale;
+        }
+    }
+}
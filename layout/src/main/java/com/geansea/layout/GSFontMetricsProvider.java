@@ -0,0 +1,23 @@
+package com.geansea.layout;
+
+import android.text.TextPaint;
+
+/**
+ * Source of text metrics for layout, paint gives the font, size and style of text.
+ * Implementations should measure the same for paints with the same font, size, scale, skew and flags.
+ */
+public interface GSFontMetricsProvider {
+    // Advance of each char in [index, index + count), 0 for chars joined to the previous one
+    void getTextWidths(TextPaint paint, char[] chars, int index, int count, float[] widths);
+
+    // Distance above baseline, positive
+    float getAscent(TextPaint paint);
+
+    // Distance below baseline, positive
+    float getDescent(TextPaint paint);
+
+    // Metrics of char at index in vertical layout as {advance, ascent, descent}, width is its horizontal advance.
+    // Rotated glyph advances by width, ascent and descent are across the line.
+    // Upright glyph advances from top to bottom, ascent and descent are its parts above and below baseline.
+    void getVerticalMetrics(TextPaint paint, char[] chars, int index, float width, boolean rotated, float[] metrics);
+}
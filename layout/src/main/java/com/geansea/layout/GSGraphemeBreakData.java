@@ -0,0 +1,239 @@
+package com.geansea.layout;
+
+// Generated by layout/scripts/gen_grapheme_break_data.py, do not edit
+final class GSGraphemeBreakData {
+    // Ranges of code points by grapheme cluster break class and Extended_Pictographic flag 0x10,
+    // as ((class | flag) << 5 | start >> 16, start & 0xFFFF),
+    // each range ends at the start of the next
+    static final String RANGES = ""
+            + "\140\000\100\012\140\013\040\015\140\016\000\040\140\177\000\240"
+            + "\u0200\251\000\252\140\255\u0200\256\000\257\200\u0300\000\u0370\200\u0483"
+            + "\000\u048A\200\u0591\000\u05BE\200\u05BF\000\u05C0\200\u05C1\000\u05C3\200\u05C4"
+            + "\000\u05C6\200\u05C7\000\u05C8\340\u0600\000\u0606\200\u0610\000\u061B\140\u061C"
+            + "\000\u061D\200\u064B\000\u0660\200\u0670\000\u0671\200\u06D6\340\u06DD\000\u06DE"
+            + "\200\u06DF\000\u06E5\200\u06E7\000\u06E9\200\u06EA\000\u06EE\340\u070F\000\u0710"
+            + "\200\u0711\000\u0712\200\u0730\000\u074B\200\u07A6\000\u07B1\200\u07EB\000\u07F4"
+            + "\200\u07FD\000\u07FE\200\u0816\000\u081A\200\u081B\000\u0824\200\u0825\000\u0828"
+            + "\200\u0829\000\u082E\200\u0859\000\u085C\340\u0890\000\u0892\200\u0898\000\u08A0"
+            + "\200\u08CA\340\u08E2\200\u08E3\u0100\u0903\000\u0904\200\u093A\u0100\u093B\200\u093C"
+            + "\000\u093D\u0100\u093E\200\u0941\u0100\u0949\200\u094D\u0100\u094E\000\u0950\200\u0951"
+            + "\000\u0958\200\u0962\000\u0964\200\u0981\u0100\u0982\000\u0984\200\u09BC\000\u09BD"
+            + "\200\u09BE\u0100\u09BF\200\u09C1\000\u09C5\u0100\u09C7\000\u09C9\u0100\u09CB\200\u09CD"
+            + "\000\u09CE\200\u09D7\000\u09D8\200\u09E2\000\u09E4\200\u09FE\000\u09FF\200\u0A01"
+            + "\u0100\u0A03\000\u0A04\200\u0A3C\000\u0A3D\u0100\u0A3E\200\u0A41\000\u0A43\200\u0A47"
+            + "\000\u0A49\200\u0A4B\000\u0A4E\200\u0A51\000\u0A52\200\u0A70\000\u0A72\200\u0A75"
+            + "\000\u0A76\200\u0A81\u0100\u0A83\000\u0A84\200\u0ABC\000\u0ABD\u0100\u0ABE\200\u0AC1"
+            + "\000\u0AC6\200\u0AC7\u0100\u0AC9\000\u0ACA\u0100\u0ACB\200\u0ACD\000\u0ACE\200\u0AE2"
+            + "\000\u0AE4\200\u0AFA\000\u0B00\200\u0B01\u0100\u0B02\000\u0B04\200\u0B3C\000\u0B3D"
+            + "\200\u0B3E\u0100\u0B40\200\u0B41\000\u0B45\u0100\u0B47\000\u0B49\u0100\u0B4B\200\u0B4D"
+            + "\000\u0B4E\200\u0B55\000\u0B58\200\u0B62\000\u0B64\200\u0B82\000\u0B83\200\u0BBE"
+            + "\u0100\u0BBF\200\u0BC0\u0100\u0BC1\000\u0BC3\u0100\u0BC6\000\u0BC9\u0100\u0BCA\200\u0BCD"
+            + "\000\u0BCE\200\u0BD7\000\u0BD8\200\u0C00\u0100\u0C01\200\u0C04\000\u0C05\200\u0C3C"
+            + "\000\u0C3D\200\u0C3E\u0100\u0C41\000\u0C45\200\u0C46\000\u0C49\200\u0C4A\000\u0C4E"
+            + "\200\u0C55\000\u0C57\200\u0C62\000\u0C64\200\u0C81\u0100\u0C82\000\u0C84\200\u0CBC"
+            + "\000\u0CBD\u0100\u0CBE\200\u0CBF\u0100\u0CC0\200\u0CC2\u0100\u0CC3\000\u0CC5\200\u0CC6"
+            + "\u0100\u0CC7\000\u0CC9\u0100\u0CCA\200\u0CCC\000\u0CCE\200\u0CD5\000\u0CD7\200\u0CE2"
+            + "\000\u0CE4\200\u0D00\u0100\u0D02\000\u0D04\200\u0D3B\000\u0D3D\200\u0D3E\u0100\u0D3F"
+            + "\200\u0D41\000\u0D45\u0100\u0D46\000\u0D49\u0100\u0D4A\200\u0D4D\340\u0D4E\000\u0D4F"
+            + "\200\u0D57\000\u0D58\200\u0D62\000\u0D64\200\u0D81\u0100\u0D82\000\u0D84\200\u0DCA"
+            + "\000\u0DCB\200\u0DCF\u0100\u0DD0\200\u0DD2\000\u0DD5\200\u0DD6\000\u0DD7\u0100\u0DD8"
+            + "\200\u0DDF\000\u0DE0\u0100\u0DF2\000\u0DF4\200\u0E31\000\u0E32\u0100\u0E33\200\u0E34"
+            + "\000\u0E3B\200\u0E47\000\u0E4F\200\u0EB1\000\u0EB2\u0100\u0EB3\200\u0EB4\000\u0EBD"
+            + "\200\u0EC8\000\u0ECE\200\u0F18\000\u0F1A\200\u0F35\000\u0F36\200\u0F37\000\u0F38"
+            + "\200\u0F39\000\u0F3A\u0100\u0F3E\000\u0F40\200\u0F71\u0100\u0F7F\200\u0F80\000\u0F85"
+            + "\200\u0F86\000\u0F88\200\u0F8D\000\u0F98\200\u0F99\000\u0FBD\200\u0FC6\000\u0FC7"
+            + "\200\u102D\u0100\u1031\200\u1032\000\u1038\200\u1039\u0100\u103B\200\u103D\000\u103F"
+            + "\u0100\u1056\200\u1058\000\u105A\200\u105E\000\u1061\200\u1071\000\u1075\200\u1082"
+            + "\000\u1083\u0100\u1084\200\u1085\000\u1087\200\u108D\000\u108E\200\u109D\000\u109E"
+            + "\u0120\u1100\u0140\u1160\u0160\u11A8\000\u1200\200\u135D\000\u1360\200\u1712\u0100\u1715"
+            + "\000\u1716\200\u1732\u0100\u1734\000\u1735\200\u1752\000\u1754\200\u1772\000\u1774"
+            + "\200\u17B4\u0100\u17B6\200\u17B7\u0100\u17BE\200\u17C6\u0100\u17C7\200\u17C9\000\u17D4"
+            + "\200\u17DD\000\u17DE\200\u180B\140\u180E\200\u180F\000\u1810\200\u1885\000\u1887"
+            + "\200\u18A9\000\u18AA\200\u1920\u0100\u1923\200\u1927\u0100\u1929\000\u192C\u0100\u1930"
+            + "\200\u1932\u0100\u1933\200\u1939\000\u193C\200\u1A17\u0100\u1A19\200\u1A1B\000\u1A1C"
+            + "\u0100\u1A55\200\u1A56\u0100\u1A57\200\u1A58\000\u1A5F\200\u1A60\000\u1A61\200\u1A62"
+            + "\000\u1A63\200\u1A65\u0100\u1A6D\200\u1A73\000\u1A7D\200\u1A7F\000\u1A80\200\u1AB0"
+            + "\000\u1ACF\200\u1B00\u0100\u1B04\000\u1B05\200\u1B34\u0100\u1B3B\200\u1B3C\u0100\u1B3D"
+            + "\200\u1B42\u0100\u1B43\000\u1B45\200\u1B6B\000\u1B74\200\u1B80\u0100\u1B82\000\u1B83"
+            + "\u0100\u1BA1\200\u1BA2\u0100\u1BA6\200\u1BA8\u0100\u1BAA\200\u1BAB\000\u1BAE\200\u1BE6"
+            + "\u0100\u1BE7\200\u1BE8\u0100\u1BEA\200\u1BED\u0100\u1BEE\200\u1BEF\u0100\u1BF2\000\u1BF4"
+            + "\u0100\u1C24\200\u1C2C\u0100\u1C34\200\u1C36\000\u1C38\200\u1CD0\000\u1CD3\200\u1CD4"
+            + "\u0100\u1CE1\200\u1CE2\000\u1CE9\200\u1CED\000\u1CEE\200\u1CF4\000\u1CF5\u0100\u1CF7"
+            + "\200\u1CF8\000\u1CFA\200\u1DC0\000\u1E00\140\u200B\200\u200C\240\u200D\140\u200E"
+            + "\000\u2010\140\u2028\000\u202F\u0200\u203C\000\u203D\u0200\u2049\000\u204A\140\u2060"
+            + "\000\u2070\200\u20D0\000\u20F1\u0200\u2122\000\u2123\u0200\u2139\000\u213A\u0200\u2194"
+            + "\000\u219A\u0200\u21A9\000\u21AB\u0200\u231A\000\u231C\u0200\u2328\000\u2329\u0200\u2388"
+            + "\000\u2389\u0200\u23CF\000\u23D0\u0200\u23E9\000\u23F4\u0200\u23F8\000\u23FB\u0200\u24C2"
+            + "\000\u24C3\u0200\u25AA\000\u25AC\u0200\u25B6\000\u25B7\u0200\u25C0\000\u25C1\u0200\u25FB"
+            + "\000\u25FF\u0200\u2600\000\u2606\u0200\u2607\000\u2613\u0200\u2614\000\u2686\u0200\u2690"
+            + "\000\u2706\u0200\u2708\000\u2713\u0200\u2714\000\u2715\u0200\u2716\000\u2717\u0200\u271D"
+            + "\000\u271E\u0200\u2721\000\u2722\u0200\u2728\000\u2729\u0200\u2733\000\u2735\u0200\u2744"
+            + "\000\u2745\u0200\u2747\000\u2748\u0200\u274C\000\u274D\u0200\u274E\000\u274F\u0200\u2753"
+            + "\000\u2756\u0200\u2757\000\u2758\u0200\u2763\000\u2768\u0200\u2795\000\u2798\u0200\u27A1"
+            + "\000\u27A2\u0200\u27B0\000\u27B1\u0200\u27BF\000\u27C0\u0200\u2934\000\u2936\u0200\u2B05"
+            + "\000\u2B08\u0200\u2B1B\000\u2B1D\u0200\u2B50\000\u2B51\u0200\u2B55\000\u2B56\200\u2CEF"
+            + "\000\u2CF2\200\u2D7F\000\u2D80\200\u2DE0\000\u2E00\200\u302A\u0200\u3030\000\u3031"
+            + "\u0200\u303D\000\u303E\200\u3099\000\u309B\u0200\u3297\000\u3298\u0200\u3299\000\u329A"
+            + "\200\uA66F\000\uA673\200\uA674\000\uA67E\200\uA69E\000\uA6A0\200\uA6F0\000\uA6F2"
+            + "\200\uA802\000\uA803\200\uA806\000\uA807\200\uA80B\000\uA80C\u0100\uA823\200\uA825"
+            + "\u0100\uA827\000\uA828\200\uA82C\000\uA82D\u0100\uA880\000\uA882\u0100\uA8B4\200\uA8C4"
+            + "\000\uA8C6\200\uA8E0\000\uA8F2\200\uA8FF\000\uA900\200\uA926\000\uA92E\200\uA947"
+            + "\u0100\uA952\000\uA954\u0120\uA960\000\uA97D\200\uA980\u0100\uA983\000\uA984\200\uA9B3"
+            + "\u0100\uA9B4\200\uA9B6\u0100\uA9BA\200\uA9BC\u0100\uA9BE\000\uA9C1\200\uA9E5\000\uA9E6"
+            + "\200\uAA29\u0100\uAA2F\200\uAA31\u0100\uAA33\200\uAA35\000\uAA37\200\uAA43\000\uAA44"
+            + "\200\uAA4C\u0100\uAA4D\000\uAA4E\200\uAA7C\000\uAA7D\200\uAAB0\000\uAAB1\200\uAAB2"
+            + "\000\uAAB5\200\uAAB7\000\uAAB9\200\uAABE\000\uAAC0\200\uAAC1\000\uAAC2\u0100\uAAEB"
+            + "\200\uAAEC\u0100\uAAEE\000\uAAF0\u0100\uAAF5\200\uAAF6\000\uAAF7\u0100\uABE3\200\uABE5"
+            + "\u0100\uABE6\200\uABE8\u0100\uABE9\000\uABEB\u0100\uABEC\200\uABED\000\uABEE\u0180\uAC00"
+            + "\u01A0\uAC01\u0180\uAC1C\u01A0\uAC1D\u0180\uAC38\u01A0\uAC39\u0180\uAC54\u01A0\uAC55\u0180\uAC70"
+            + "\u01A0\uAC71\u0180\uAC8C\u01A0\uAC8D\u0180\uACA8\u01A0\uACA9\u0180\uACC4\u01A0\uACC5\u0180\uACE0"
+            + "\u01A0\uACE1\u0180\uACFC\u01A0\uACFD\u0180\uAD18\u01A0\uAD19\u0180\uAD34\u01A0\uAD35\u0180\uAD50"
+            + "\u01A0\uAD51\u0180\uAD6C\u01A0\uAD6D\u0180\uAD88\u01A0\uAD89\u0180\uADA4\u01A0\uADA5\u0180\uADC0"
+            + "\u01A0\uADC1\u0180\uADDC\u01A0\uADDD\u0180\uADF8\u01A0\uADF9\u0180\uAE14\u01A0\uAE15\u0180\uAE30"
+            + "\u01A0\uAE31\u0180\uAE4C\u01A0\uAE4D\u0180\uAE68\u01A0\uAE69\u0180\uAE84\u01A0\uAE85\u0180\uAEA0"
+            + "\u01A0\uAEA1\u0180\uAEBC\u01A0\uAEBD\u0180\uAED8\u01A0\uAED9\u0180\uAEF4\u01A0\uAEF5\u0180\uAF10"
+            + "\u01A0\uAF11\u0180\uAF2C\u01A0\uAF2D\u0180\uAF48\u01A0\uAF49\u0180\uAF64\u01A0\uAF65\u0180\uAF80"
+            + "\u01A0\uAF81\u0180\uAF9C\u01A0\uAF9D\u0180\uAFB8\u01A0\uAFB9\u0180\uAFD4\u01A0\uAFD5\u0180\uAFF0"
+            + "\u01A0\uAFF1\u0180\uB00C\u01A0\uB00D\u0180\uB028\u01A0\uB029\u0180\uB044\u01A0\uB045\u0180\uB060"
+            + "\u01A0\uB061\u0180\uB07C\u01A0\uB07D\u0180\uB098\u01A0\uB099\u0180\uB0B4\u01A0\uB0B5\u0180\uB0D0"
+            + "\u01A0\uB0D1\u0180\uB0EC\u01A0\uB0ED\u0180\uB108\u01A0\uB109\u0180\uB124\u01A0\uB125\u0180\uB140"
+            + "\u01A0\uB141\u0180\uB15C\u01A0\uB15D\u0180\uB178\u01A0\uB179\u0180\uB194\u01A0\uB195\u0180\uB1B0"
+            + "\u01A0\uB1B1\u0180\uB1CC\u01A0\uB1CD\u0180\uB1E8\u01A0\uB1E9\u0180\uB204\u01A0\uB205\u0180\uB220"
+            + "\u01A0\uB221\u0180\uB23C\u01A0\uB23D\u0180\uB258\u01A0\uB259\u0180\uB274\u01A0\uB275\u0180\uB290"
+            + "\u01A0\uB291\u0180\uB2AC\u01A0\uB2AD\u0180\uB2C8\u01A0\uB2C9\u0180\uB2E4\u01A0\uB2E5\u0180\uB300"
+            + "\u01A0\uB301\u0180\uB31C\u01A0\uB31D\u0180\uB338\u01A0\uB339\u0180\uB354\u01A0\uB355\u0180\uB370"
+            + "\u01A0\uB371\u0180\uB38C\u01A0\uB38D\u0180\uB3A8\u01A0\uB3A9\u0180\uB3C4\u01A0\uB3C5\u0180\uB3E0"
+            + "\u01A0\uB3E1\u0180\uB3FC\u01A0\uB3FD\u0180\uB418\u01A0\uB419\u0180\uB434\u01A0\uB435\u0180\uB450"
+            + "\u01A0\uB451\u0180\uB46C\u01A0\uB46D\u0180\uB488\u01A0\uB489\u0180\uB4A4\u01A0\uB4A5\u0180\uB4C0"
+            + "\u01A0\uB4C1\u0180\uB4DC\u01A0\uB4DD\u0180\uB4F8\u01A0\uB4F9\u0180\uB514\u01A0\uB515\u0180\uB530"
+            + "\u01A0\uB531\u0180\uB54C\u01A0\uB54D\u0180\uB568\u01A0\uB569\u0180\uB584\u01A0\uB585\u0180\uB5A0"
+            + "\u01A0\uB5A1\u0180\uB5BC\u01A0\uB5BD\u0180\uB5D8\u01A0\uB5D9\u0180\uB5F4\u01A0\uB5F5\u0180\uB610"
+            + "\u01A0\uB611\u0180\uB62C\u01A0\uB62D\u0180\uB648\u01A0\uB649\u0180\uB664\u01A0\uB665\u0180\uB680"
+            + "\u01A0\uB681\u0180\uB69C\u01A0\uB69D\u0180\uB6B8\u01A0\uB6B9\u0180\uB6D4\u01A0\uB6D5\u0180\uB6F0"
+            + "\u01A0\uB6F1\u0180\uB70C\u01A0\uB70D\u0180\uB728\u01A0\uB729\u0180\uB744\u01A0\uB745\u0180\uB760"
+            + "\u01A0\uB761\u0180\uB77C\u01A0\uB77D\u0180\uB798\u01A0\uB799\u0180\uB7B4\u01A0\uB7B5\u0180\uB7D0"
+            + "\u01A0\uB7D1\u0180\uB7EC\u01A0\uB7ED\u0180\uB808\u01A0\uB809\u0180\uB824\u01A0\uB825\u0180\uB840"
+            + "\u01A0\uB841\u0180\uB85C\u01A0\uB85D\u0180\uB878\u01A0\uB879\u0180\uB894\u01A0\uB895\u0180\uB8B0"
+            + "\u01A0\uB8B1\u0180\uB8CC\u01A0\uB8CD\u0180\uB8E8\u01A0\uB8E9\u0180\uB904\u01A0\uB905\u0180\uB920"
+            + "\u01A0\uB921\u0180\uB93C\u01A0\uB93D\u0180\uB958\u01A0\uB959\u0180\uB974\u01A0\uB975\u0180\uB990"
+            + "\u01A0\uB991\u0180\uB9AC\u01A0\uB9AD\u0180\uB9C8\u01A0\uB9C9\u0180\uB9E4\u01A0\uB9E5\u0180\uBA00"
+            + "\u01A0\uBA01\u0180\uBA1C\u01A0\uBA1D\u0180\uBA38\u01A0\uBA39\u0180\uBA54\u01A0\uBA55\u0180\uBA70"
+            + "\u01A0\uBA71\u0180\uBA8C\u01A0\uBA8D\u0180\uBAA8\u01A0\uBAA9\u0180\uBAC4\u01A0\uBAC5\u0180\uBAE0"
+            + "\u01A0\uBAE1\u0180\uBAFC\u01A0\uBAFD\u0180\uBB18\u01A0\uBB19\u0180\uBB34\u01A0\uBB35\u0180\uBB50"
+            + "\u01A0\uBB51\u0180\uBB6C\u01A0\uBB6D\u0180\uBB88\u01A0\uBB89\u0180\uBBA4\u01A0\uBBA5\u0180\uBBC0"
+            + "\u01A0\uBBC1\u0180\uBBDC\u01A0\uBBDD\u0180\uBBF8\u01A0\uBBF9\u0180\uBC14\u01A0\uBC15\u0180\uBC30"
+            + "\u01A0\uBC31\u0180\uBC4C\u01A0\uBC4D\u0180\uBC68\u01A0\uBC69\u0180\uBC84\u01A0\uBC85\u0180\uBCA0"
+            + "\u01A0\uBCA1\u0180\uBCBC\u01A0\uBCBD\u0180\uBCD8\u01A0\uBCD9\u0180\uBCF4\u01A0\uBCF5\u0180\uBD10"
+            + "\u01A0\uBD11\u0180\uBD2C\u01A0\uBD2D\u0180\uBD48\u01A0\uBD49\u0180\uBD64\u01A0\uBD65\u0180\uBD80"
+            + "\u01A0\uBD81\u0180\uBD9C\u01A0\uBD9D\u0180\uBDB8\u01A0\uBDB9\u0180\uBDD4\u01A0\uBDD5\u0180\uBDF0"
+            + "\u01A0\uBDF1\u0180\uBE0C\u01A0\uBE0D\u0180\uBE28\u01A0\uBE29\u0180\uBE44\u01A0\uBE45\u0180\uBE60"
+            + "\u01A0\uBE61\u0180\uBE7C\u01A0\uBE7D\u0180\uBE98\u01A0\uBE99\u0180\uBEB4\u01A0\uBEB5\u0180\uBED0"
+            + "\u01A0\uBED1\u0180\uBEEC\u01A0\uBEED\u0180\uBF08\u01A0\uBF09\u0180\uBF24\u01A0\uBF25\u0180\uBF40"
+            + "\u01A0\uBF41\u0180\uBF5C\u01A0\uBF5D\u0180\uBF78\u01A0\uBF79\u0180\uBF94\u01A0\uBF95\u0180\uBFB0"
+            + "\u01A0\uBFB1\u0180\uBFCC\u01A0\uBFCD\u0180\uBFE8\u01A0\uBFE9\u0180\uC004\u01A0\uC005\u0180\uC020"
+            + "\u01A0\uC021\u0180\uC03C\u01A0\uC03D\u0180\uC058\u01A0\uC059\u0180\uC074\u01A0\uC075\u0180\uC090"
+            + "\u01A0\uC091\u0180\uC0AC\u01A0\uC0AD\u0180\uC0C8\u01A0\uC0C9\u0180\uC0E4\u01A0\uC0E5\u0180\uC100"
+            + "\u01A0\uC101\u0180\uC11C\u01A0\uC11D\u0180\uC138\u01A0\uC139\u0180\uC154\u01A0\uC155\u0180\uC170"
+            + "\u01A0\uC171\u0180\uC18C\u01A0\uC18D\u0180\uC1A8\u01A0\uC1A9\u0180\uC1C4\u01A0\uC1C5\u0180\uC1E0"
+            + "\u01A0\uC1E1\u0180\uC1FC\u01A0\uC1FD\u0180\uC218\u01A0\uC219\u0180\uC234\u01A0\uC235\u0180\uC250"
+            + "\u01A0\uC251\u0180\uC26C\u01A0\uC26D\u0180\uC288\u01A0\uC289\u0180\uC2A4\u01A0\uC2A5\u0180\uC2C0"
+            + "\u01A0\uC2C1\u0180\uC2DC\u01A0\uC2DD\u0180\uC2F8\u01A0\uC2F9\u0180\uC314\u01A0\uC315\u0180\uC330"
+            + "\u01A0\uC331\u0180\uC34C\u01A0\uC34D\u0180\uC368\u01A0\uC369\u0180\uC384\u01A0\uC385\u0180\uC3A0"
+            + "\u01A0\uC3A1\u0180\uC3BC\u01A0\uC3BD\u0180\uC3D8\u01A0\uC3D9\u0180\uC3F4\u01A0\uC3F5\u0180\uC410"
+            + "\u01A0\uC411\u0180\uC42C\u01A0\uC42D\u0180\uC448\u01A0\uC449\u0180\uC464\u01A0\uC465\u0180\uC480"
+            + "\u01A0\uC481\u0180\uC49C\u01A0\uC49D\u0180\uC4B8\u01A0\uC4B9\u0180\uC4D4\u01A0\uC4D5\u0180\uC4F0"
+            + "\u01A0\uC4F1\u0180\uC50C\u01A0\uC50D\u0180\uC528\u01A0\uC529\u0180\uC544\u01A0\uC545\u0180\uC560"
+            + "\u01A0\uC561\u0180\uC57C\u01A0\uC57D\u0180\uC598\u01A0\uC599\u0180\uC5B4\u01A0\uC5B5\u0180\uC5D0"
+            + "\u01A0\uC5D1\u0180\uC5EC\u01A0\uC5ED\u0180\uC608\u01A0\uC609\u0180\uC624\u01A0\uC625\u0180\uC640"
+            + "\u01A0\uC641\u0180\uC65C\u01A0\uC65D\u0180\uC678\u01A0\uC679\u0180\uC694\u01A0\uC695\u0180\uC6B0"
+            + "\u01A0\uC6B1\u0180\uC6CC\u01A0\uC6CD\u0180\uC6E8\u01A0\uC6E9\u0180\uC704\u01A0\uC705\u0180\uC720"
+            + "\u01A0\uC721\u0180\uC73C\u01A0\uC73D\u0180\uC758\u01A0\uC759\u0180\uC774\u01A0\uC775\u0180\uC790"
+            + "\u01A0\uC791\u0180\uC7AC\u01A0\uC7AD\u0180\uC7C8\u01A0\uC7C9\u0180\uC7E4\u01A0\uC7E5\u0180\uC800"
+            + "\u01A0\uC801\u0180\uC81C\u01A0\uC81D\u0180\uC838\u01A0\uC839\u0180\uC854\u01A0\uC855\u0180\uC870"
+            + "\u01A0\uC871\u0180\uC88C\u01A0\uC88D\u0180\uC8A8\u01A0\uC8A9\u0180\uC8C4\u01A0\uC8C5\u0180\uC8E0"
+            + "\u01A0\uC8E1\u0180\uC8FC\u01A0\uC8FD\u0180\uC918\u01A0\uC919\u0180\uC934\u01A0\uC935\u0180\uC950"
+            + "\u01A0\uC951\u0180\uC96C\u01A0\uC96D\u0180\uC988\u01A0\uC989\u0180\uC9A4\u01A0\uC9A5\u0180\uC9C0"
+            + "\u01A0\uC9C1\u0180\uC9DC\u01A0\uC9DD\u0180\uC9F8\u01A0\uC9F9\u0180\uCA14\u01A0\uCA15\u0180\uCA30"
+            + "\u01A0\uCA31\u0180\uCA4C\u01A0\uCA4D\u0180\uCA68\u01A0\uCA69\u0180\uCA84\u01A0\uCA85\u0180\uCAA0"
+            + "\u01A0\uCAA1\u0180\uCABC\u01A0\uCABD\u0180\uCAD8\u01A0\uCAD9\u0180\uCAF4\u01A0\uCAF5\u0180\uCB10"
+            + "\u01A0\uCB11\u0180\uCB2C\u01A0\uCB2D\u0180\uCB48\u01A0\uCB49\u0180\uCB64\u01A0\uCB65\u0180\uCB80"
+            + "\u01A0\uCB81\u0180\uCB9C\u01A0\uCB9D\u0180\uCBB8\u01A0\uCBB9\u0180\uCBD4\u01A0\uCBD5\u0180\uCBF0"
+            + "\u01A0\uCBF1\u0180\uCC0C\u01A0\uCC0D\u0180\uCC28\u01A0\uCC29\u0180\uCC44\u01A0\uCC45\u0180\uCC60"
+            + "\u01A0\uCC61\u0180\uCC7C\u01A0\uCC7D\u0180\uCC98\u01A0\uCC99\u0180\uCCB4\u01A0\uCCB5\u0180\uCCD0"
+            + "\u01A0\uCCD1\u0180\uCCEC\u01A0\uCCED\u0180\uCD08\u01A0\uCD09\u0180\uCD24\u01A0\uCD25\u0180\uCD40"
+            + "\u01A0\uCD41\u0180\uCD5C\u01A0\uCD5D\u0180\uCD78\u01A0\uCD79\u0180\uCD94\u01A0\uCD95\u0180\uCDB0"
+            + "\u01A0\uCDB1\u0180\uCDCC\u01A0\uCDCD\u0180\uCDE8\u01A0\uCDE9\u0180\uCE04\u01A0\uCE05\u0180\uCE20"
+            + "\u01A0\uCE21\u0180\uCE3C\u01A0\uCE3D\u0180\uCE58\u01A0\uCE59\u0180\uCE74\u01A0\uCE75\u0180\uCE90"
+            + "\u01A0\uCE91\u0180\uCEAC\u01A0\uCEAD\u0180\uCEC8\u01A0\uCEC9\u0180\uCEE4\u01A0\uCEE5\u0180\uCF00"
+            + "\u01A0\uCF01\u0180\uCF1C\u01A0\uCF1D\u0180\uCF38\u01A0\uCF39\u0180\uCF54\u01A0\uCF55\u0180\uCF70"
+            + "\u01A0\uCF71\u0180\uCF8C\u01A0\uCF8D\u0180\uCFA8\u01A0\uCFA9\u0180\uCFC4\u01A0\uCFC5\u0180\uCFE0"
+            + "\u01A0\uCFE1\u0180\uCFFC\u01A0\uCFFD\u0180\uD018\u01A0\uD019\u0180\uD034\u01A0\uD035\u0180\uD050"
+            + "\u01A0\uD051\u0180\uD06C\u01A0\uD06D\u0180\uD088\u01A0\uD089\u0180\uD0A4\u01A0\uD0A5\u0180\uD0C0"
+            + "\u01A0\uD0C1\u0180\uD0DC\u01A0\uD0DD\u0180\uD0F8\u01A0\uD0F9\u0180\uD114\u01A0\uD115\u0180\uD130"
+            + "\u01A0\uD131\u0180\uD14C\u01A0\uD14D\u0180\uD168\u01A0\uD169\u0180\uD184\u01A0\uD185\u0180\uD1A0"
+            + "\u01A0\uD1A1\u0180\uD1BC\u01A0\uD1BD\u0180\uD1D8\u01A0\uD1D9\u0180\uD1F4\u01A0\uD1F5\u0180\uD210"
+            + "\u01A0\uD211\u0180\uD22C\u01A0\uD22D\u0180\uD248\u01A0\uD249\u0180\uD264\u01A0\uD265\u0180\uD280"
+            + "\u01A0\uD281\u0180\uD29C\u01A0\uD29D\u0180\uD2B8\u01A0\uD2B9\u0180\uD2D4\u01A0\uD2D5\u0180\uD2F0"
+            + "\u01A0\uD2F1\u0180\uD30C\u01A0\uD30D\u0180\uD328\u01A0\uD329\u0180\uD344\u01A0\uD345\u0180\uD360"
+            + "\u01A0\uD361\u0180\uD37C\u01A0\uD37D\u0180\uD398\u01A0\uD399\u0180\uD3B4\u01A0\uD3B5\u0180\uD3D0"
+            + "\u01A0\uD3D1\u0180\uD3EC\u01A0\uD3ED\u0180\uD408\u01A0\uD409\u0180\uD424\u01A0\uD425\u0180\uD440"
+            + "\u01A0\uD441\u0180\uD45C\u01A0\uD45D\u0180\uD478\u01A0\uD479\u0180\uD494\u01A0\uD495\u0180\uD4B0"
+            + "\u01A0\uD4B1\u0180\uD4CC\u01A0\uD4CD\u0180\uD4E8\u01A0\uD4E9\u0180\uD504\u01A0\uD505\u0180\uD520"
+            + "\u01A0\uD521\u0180\uD53C\u01A0\uD53D\u0180\uD558\u01A0\uD559\u0180\uD574\u01A0\uD575\u0180\uD590"
+            + "\u01A0\uD591\u0180\uD5AC\u01A0\uD5AD\u0180\uD5C8\u01A0\uD5C9\u0180\uD5E4\u01A0\uD5E5\u0180\uD600"
+            + "\u01A0\uD601\u0180\uD61C\u01A0\uD61D\u0180\uD638\u01A0\uD639\u0180\uD654\u01A0\uD655\u0180\uD670"
+            + "\u01A0\uD671\u0180\uD68C\u01A0\uD68D\u0180\uD6A8\u01A0\uD6A9\u0180\uD6C4\u01A0\uD6C5\u0180\uD6E0"
+            + "\u01A0\uD6E1\u0180\uD6FC\u01A0\uD6FD\u0180\uD718\u01A0\uD719\u0180\uD734\u01A0\uD735\u0180\uD750"
+            + "\u01A0\uD751\u0180\uD76C\u01A0\uD76D\u0180\uD788\u01A0\uD789\000\uD7A4\u0140\uD7B0\000\uD7C7"
+            + "\u0160\uD7CB\000\uD7FC\200\uFB1E\000\uFB1F\200\uFE00\000\uFE10\200\uFE20\000\uFE30"
+            + "\140\uFEFF\000\uFF00\200\uFF9E\000\uFFA0\140\uFFF0\000\uFFFC\201\u01FD\001\u01FE"
+            + "\201\u02E0\001\u02E1\201\u0376\001\u037B\201\u0A01\001\u0A04\201\u0A05\001\u0A07"
+            + "\201\u0A0C\001\u0A10\201\u0A38\001\u0A3B\201\u0A3F\001\u0A40\201\u0AE5\001\u0AE7"
+            + "\201\u0D24\001\u0D28\201\u0EAB\001\u0EAD\201\u0F46\001\u0F51\201\u0F82\001\u0F86"
+            + "\u0101\u1000\201\u1001\u0101\u1002\001\u1003\201\u1038\001\u1047\201\u1070\001\u1071"
+            + "\201\u1073\001\u1075\201\u107F\u0101\u1082\001\u1083\u0101\u10B0\201\u10B3\u0101\u10B7"
+            + "\201\u10B9\001\u10BB\341\u10BD\001\u10BE\201\u10C2\001\u10C3\341\u10CD\001\u10CE"
+            + "\201\u1100\001\u1103\201\u1127\u0101\u112C\201\u112D\001\u1135\u0101\u1145\001\u1147"
+            + "\201\u1173\001\u1174\201\u1180\u0101\u1182\001\u1183\u0101\u11B3\201\u11B6\u0101\u11BF"
+            + "\001\u11C1\341\u11C2\001\u11C4\201\u11C9\001\u11CD\u0101\u11CE\201\u11CF\001\u11D0"
+            + "\u0101\u122C\201\u122F\u0101\u1232\201\u1234\u0101\u1235\201\u1236\001\u1238\201\u123E"
+            + "\001\u123F\201\u12DF\u0101\u12E0\201\u12E3\001\u12EB\201\u1300\u0101\u1302\001\u1304"
+            + "\201\u133B\001\u133D\201\u133E\u0101\u133F\201\u1340\u0101\u1341\001\u1345\u0101\u1347"
+            + "\001\u1349\u0101\u134B\001\u134E\201\u1357\001\u1358\u0101\u1362\001\u1364\201\u1366"
+            + "\001\u136D\201\u1370\001\u1375\u0101\u1435\201\u1438\u0101\u1440\201\u1442\u0101\u1445"
+            + "\201\u1446\001\u1447\201\u145E\001\u145F\201\u14B0\u0101\u14B1\201\u14B3\u0101\u14B9"
+            + "\201\u14BA\u0101\u14BB\201\u14BD\u0101\u14BE\201\u14BF\u0101\u14C1\201\u14C2\001\u14C4"
+            + "\201\u15AF\u0101\u15B0\201\u15B2\001\u15B6\u0101\u15B8\201\u15BC\u0101\u15BE\201\u15BF"
+            + "\001\u15C1\201\u15DC\001\u15DE\u0101\u1630\201\u1633\u0101\u163B\201\u163D\u0101\u163E"
+            + "\201\u163F\001\u1641\201\u16AB\u0101\u16AC\201\u16AD\u0101\u16AE\201\u16B0\u0101\u16B6"
+            + "\201\u16B7\001\u16B8\201\u171D\001\u1720\201\u1722\u0101\u1726\201\u1727\001\u172C"
+            + "\u0101\u182C\201\u182F\u0101\u1838\201\u1839\001\u183B\201\u1930\u0101\u1931\001\u1936"
+            + "\u0101\u1937\001\u1939\201\u193B\u0101\u193D\201\u193E\341\u193F\u0101\u1940\341\u1941"
+            + "\u0101\u1942\201\u1943\001\u1944\u0101\u19D1\201\u19D4\001\u19D8\201\u19DA\u0101\u19DC"
+            + "\201\u19E0\001\u19E1\u0101\u19E4\001\u19E5\201\u1A01\001\u1A0B\201\u1A33\u0101\u1A39"
+            + "\341\u1A3A\201\u1A3B\001\u1A3F\201\u1A47\001\u1A48\201\u1A51\u0101\u1A57\201\u1A59"
+            + "\001\u1A5C\341\u1A84\201\u1A8A\u0101\u1A97\201\u1A98\001\u1A9A\u0101\u1C2F\201\u1C30"
+            + "\001\u1C37\201\u1C38\u0101\u1C3E\201\u1C3F\001\u1C40\201\u1C92\001\u1CA8\u0101\u1CA9"
+            + "\201\u1CAA\u0101\u1CB1\201\u1CB2\u0101\u1CB4\201\u1CB5\001\u1CB7\201\u1D31\001\u1D37"
+            + "\201\u1D3A\001\u1D3B\201\u1D3C\001\u1D3E\201\u1D3F\341\u1D46\201\u1D47\001\u1D48"
+            + "\u0101\u1D8A\001\u1D8F\201\u1D90\001\u1D92\u0101\u1D93\201\u1D95\u0101\u1D96\201\u1D97"
+            + "\001\u1D98\201\u1EF3\u0101\u1EF5\001\u1EF7\141\u3430\001\u3439\201\u6AF0\001\u6AF5"
+            + "\201\u6B30\001\u6B37\201\u6F4F\001\u6F50\u0101\u6F51\001\u6F88\201\u6F8F\001\u6F93"
+            + "\201\u6FE4\001\u6FE5\u0101\u6FF0\001\u6FF2\201\uBC9D\001\uBC9F\141\uBCA0\001\uBCA4"
+            + "\201\uCF00\001\uCF2E\201\uCF30\001\uCF47\201\uD165\u0101\uD166\201\uD167\001\uD16A"
+            + "\u0101\uD16D\201\uD16E\141\uD173\201\uD17B\001\uD183\201\uD185\001\uD18C\201\uD1AA"
+            + "\001\uD1AE\201\uD242\001\uD245\201\uDA00\001\uDA37\201\uDA3B\001\uDA6D\201\uDA75"
+            + "\001\uDA76\201\uDA84\001\uDA85\201\uDA9B\001\uDAA0\201\uDAA1\001\uDAB0\201\uE000"
+            + "\001\uE007\201\uE008\001\uE019\201\uE01B\001\uE022\201\uE023\001\uE025\201\uE026"
+            + "\001\uE02B\201\uE130\001\uE137\201\uE2AE\001\uE2AF\201\uE2EC\001\uE2F0\201\uE8D0"
+            + "\001\uE8D7\201\uE944\001\uE94B\u0201\uF000\001\uF100\u0201\uF10D\001\uF110\u0201\uF12F"
+            + "\001\uF130\u0201\uF16C\001\uF172\u0201\uF17E\001\uF180\u0201\uF18E\001\uF18F\u0201\uF191"
+            + "\001\uF19B\u0201\uF1AD\301\uF1E6\001\uF200\u0201\uF201\001\uF210\u0201\uF21A\001\uF21B"
+            + "\u0201\uF22F\001\uF230\u0201\uF232\001\uF23B\u0201\uF23C\001\uF240\u0201\uF249\201\uF3FB"
+            + "\u0201\uF400\001\uF53E\u0201\uF546\001\uF650\u0201\uF680\001\uF700\u0201\uF774\001\uF780"
+            + "\u0201\uF7D5\001\uF800\u0201\uF80C\001\uF810\u0201\uF848\001\uF850\u0201\uF85A\001\uF860"
+            + "\u0201\uF888\001\uF890\u0201\uF8AE\001\uF900\u0201\uF90C\001\uF93B\u0201\uF93C\001\uF946"
+            + "\u0201\uF947\001\uFB00\u0201\uFC00\001\uFFFE\156\000\216\040\156\200\216\u0100"
+            + "\156\u01F0\016\u1000"
+            ;
+}
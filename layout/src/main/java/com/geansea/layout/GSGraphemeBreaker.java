@@ -0,0 +1,97 @@
+package com.geansea.layout;
+
+// Grapheme cluster boundaries of UAX #29, a glyph is measured for each extended grapheme cluster.
+// Classes are generated into GSGraphemeBreakData by layout/scripts/gen_grapheme_break_data.py.
+final class GSGraphemeBreaker {
+    // Grapheme cluster break classes, in the order of GSGraphemeBreakData
+    private static final int OTHER = 0;
+    private static final int CR = 1;
+    private static final int LF = 2;
+    private static final int CONTROL = 3;
+    private static final int EXTEND = 4;
+    private static final int ZWJ = 5;
+    private static final int REGIONAL_INDICATOR = 6;
+    private static final int PREPEND = 7;
+    private static final int SPACING_MARK = 8;
+    private static final int L = 9;
+    private static final int V = 10;
+    private static final int T = 11;
+    private static final int LV = 12;
+    private static final int LVT = 13;
+    // Flag of Extended_Pictographic, above the class bits
+    private static final int EXTENDED_PICTOGRAPHIC = 0x10;
+    private static final int CLASS_MASK = 0x0F;
+
+    private static final GSCodePointTable classTable = new GSCodePointTable(GSGraphemeBreakData.RANGES,
+            GSCodePointTable.decodeBmp(GSGraphemeBreakData.RANGES));
+
+    // Whether a cluster starts at chars[index], chars before start are not looked at
+    static boolean isBoundary(char[] chars, int start, int index) {
+        if (index <= start || index >= chars.length) {
+            return true;
+        }
+        // Inside a surrogate pair
+        if (Character.isLowSurrogate(chars[index]) && Character.isHighSurrogate(chars[index - 1])) {
+            return false;
+        }
+        int afterValue = classTable.get(Character.codePointAt(chars, index));
+        int beforeIndex = index - Character.charCount(Character.codePointBefore(chars, index, start));
+        int before = classTable.get(Character.codePointAt(chars, beforeIndex)) & CLASS_MASK;
+        int after = afterValue & CLASS_MASK;
+        if (before == OTHER && after == OTHER) {
+            return true;
+        }
+        // GB3 to GB5
+        if (before == CR && after == LF) {
+            return false;
+        }
+        if (before == CR || before == LF || before == CONTROL || after == CR || after == LF || after == CONTROL) {
+            return true;
+        }
+        // GB6 to GB8, Hangul syllables
+        if (before == L && (after == L || after == V || after == LV || after == LVT)) {
+            return false;
+        }
+        if ((before == LV || before == V) && (after == V || after == T)) {
+            return false;
+        }
+        if ((before == LVT || before == T) && after == T) {
+            return false;
+        }
+        // GB9 to GB9b
+        if (after == EXTEND || after == ZWJ || after == SPACING_MARK || before == PREPEND) {
+            return false;
+        }
+        // GB11, emoji joined by ZWJ after extends
+        if (before == ZWJ && (afterValue & EXTENDED_PICTOGRAPHIC) != 0) {
+            int i = beforeIndex;
+            while (i > start) {
+                int codePoint = Character.codePointBefore(chars, i, start);
+                i -= Character.charCount(codePoint);
+                int value = classTable.get(codePoint);
+                if ((value & EXTENDED_PICTOGRAPHIC) != 0) {
+                    return false;
+                }
+                if ((value & CLASS_MASK) != EXTEND) {
+                    break;
+                }
+            }
+            return true;
+        }
+        // GB12, GB13, regional indicators pair from the start of their sequence
+        if (before == REGIONAL_INDICATOR && after == REGIONAL_INDICATOR) {
+            int count = 0;
+            int i = index;
+            while (i > start) {
+                int codePoint = Character.codePointBefore(chars, i, start);
+                if ((classTable.get(codePoint) & CLASS_MASK) != REGIONAL_INDICATOR) {
+                    break;
+                }
+                i -= Character.charCount(codePoint);
+                ++count;
+            }
+            return count % 2 == 0;
+        }
+        return true;
+    }
+}
@@ -1,15 +1,19 @@
 package com.geansea.layout;
 
 import android.graphics.Canvas;
-import android.graphics.PointF;
+import android.graphics.Path;
 import android.graphics.Rect;
 import android.graphics.RectF;
 import android.graphics.Typeface;
 import android.support.annotation.NonNull;
+import android.text.Spanned;
 import android.text.TextPaint;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.LinkedList;
+import java.util.List;
 
 public class GSLayout {
     public enum Alignment {
@@ -19,7 +23,15 @@ public class GSLayout {
         ALIGN_JUSTIFY,
     }
 
+    public enum BreakStrategy {
+        BREAK_GREEDY,
+        BREAK_OPTIMAL,
+    }
+
     public static final class Builder {
+        // Font sizes searched by buildToFit() are multiples of this step from the min size
+        private static final float FIT_STEP = 0.5f;
+
         private final TextPaint paint;
         private Rect rect;
         private int maxLineCount;
@@ -31,6 +43,17 @@ public class GSLayout {
         private float lineSpacing;
         private float paragraphSpacing;
         private boolean vertical;
+        private BreakStrategy breakStrategy;
+        private GSFontMetricsProvider metricsProvider;
+        private GSLineBreakCache lineBreakCache;
+        private GSAdvanceCache advanceCache;
+        private GSRenderCache renderCache;
+        private int maxGlyphLineCount;
+        // Paints of styled glyphs, shared by copies
+        private GSPaintPool paintPool;
+        // Line breaks of the last planned paragraph, shared by layouts of its pages
+        private GSLineBreakCache.Key planKey;
+        private int[] plan;
 
         public static Builder obtain(TextPaint paint) {
             return new Builder(paint);
@@ -96,6 +119,38 @@ public class GSLayout {
             return this;
         }
 
+        public Builder setBreakStrategy(BreakStrategy breakStrategy) {
+            this.breakStrategy = breakStrategy;
+            return this;
+        }
+
+        public Builder setFontMetricsProvider(GSFontMetricsProvider metricsProvider) {
+            this.metricsProvider = metricsProvider;
+            return this;
+        }
+
+        public Builder setLineBreakCache(GSLineBreakCache lineBreakCache) {
+            this.lineBreakCache = lineBreakCache;
+            return this;
+        }
+
+        public Builder setAdvanceCache(GSAdvanceCache advanceCache) {
+            this.advanceCache = advanceCache;
+            return this;
+        }
+
+        public Builder setRenderCache(GSRenderCache renderCache) {
+            this.renderCache = renderCache;
+            return this;
+        }
+
+        // Keep glyphs of at most this many lines of each layout, other lines keep only their metrics and measure
+        // glyphs again when drawn or hit, 0 to keep all
+        public Builder setMaxGlyphLineCount(int maxGlyphLineCount) {
+            this.maxGlyphLineCount = maxGlyphLineCount;
+            return this;
+        }
+
         public GSLayout build(CharSequence text) {
             return build(text, 0, text.length(), true, true);
         }
@@ -119,21 +174,148 @@ public class GSLayout {
             return layout;
         }
 
-        private float getFontSize() {
+        // Layout of the whole text at the largest font size in [minFontSize, maxFontSize] fitting the rect and
+        // the max line count, which is set to the builder. The layout at minFontSize is returned if none fits.
+        // Sizes are searched in binary with advances measured once and scaled, a layout stops at the first line out
+        // of the rect, and the found size is checked with advances measured at it.
+        public GSLayout buildToFit(CharSequence text, float minFontSize, float maxFontSize) {
+            Builder probe = copy();
+            probe.metricsProvider = new GSScaledMetricsProvider(metricsProvider, maxFontSize);
+            // Caches and paints keyed by size are not shared by probes
+            probe.lineBreakCache = null;
+            probe.advanceCache = null;
+            probe.renderCache = null;
+            probe.paintPool = new GSPaintPool();
+            probe.maxGlyphLineCount = 0;
+            int low = 0;
+            int high = Math.max((int) ((maxFontSize - minFontSize) / FIT_STEP), 0);
+            while (low < high) {
+                int mid = (low + high + 1) >>> 1;
+                probe.setFontSize(minFontSize + mid * FIT_STEP);
+                if (probe.fits(text, probe.build(text))) {
+                    low = mid;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            // Scaled advances may differ from advances measured at the size by hinting
+            while (true) {
+                setFontSize(minFontSize + low * FIT_STEP);
+                GSLayout layout = build(text);
+                if (low == 0 || fits(text, layout)) {
+                    return layout;
+                }
+                --low;
+            }
+        }
+
+        // Unlaid layout, for breaking lines without stacking them
+        GSLayout prepare(CharSequence text,
+                         int start,
+                         int end,
+                         boolean asParaStart,
+                         boolean asParaEnd) {
+            return new GSLayout(this, text, start, end, asParaStart, asParaEnd);
+        }
+
+        private boolean fits(CharSequence text, GSLayout layout) {
+            if (layout == null || layout.getLayoutEnd() < text.length()) {
+                return false;
+            }
+            // The first line is stacked even if it does not fit
+            RectF usedRect = layout.getUsedRect();
+            float tolerance = paint.getTextSize() * 0.001f;
+            return usedRect.left >= rect.left - tolerance
+                    && usedRect.top >= rect.top - tolerance
+                    && usedRect.right <= rect.right + tolerance
+                    && usedRect.bottom <= rect.bottom + tolerance;
+        }
+
+        // Snapshot with its own paint, safe to use on another thread
+        Builder copy() {
+            Builder copy = new Builder(new TextPaint(paint));
+            copy.rect = new Rect(rect);
+            copy.maxLineCount = maxLineCount;
+            copy.indent = indent;
+            copy.punctuationCompressRate = punctuationCompressRate;
+            copy.textAlignment = textAlignment;
+            copy.textEndAlignment = textEndAlignment;
+            copy.lineAlignment = lineAlignment;
+            copy.lineSpacing = lineSpacing;
+            copy.paragraphSpacing = paragraphSpacing;
+            copy.vertical = vertical;
+            copy.breakStrategy = breakStrategy;
+            copy.metricsProvider = metricsProvider;
+            copy.lineBreakCache = lineBreakCache;
+            copy.advanceCache = advanceCache;
+            copy.renderCache = renderCache;
+            copy.maxGlyphLineCount = maxGlyphLineCount;
+            copy.paintPool = paintPool;
+            return copy;
+        }
+
+        float getFontSize() {
             return paint.getTextSize();
         }
 
+        // Runs of styled text for one layout, so spans changed between builds are read again
+        GSStyleRuns newStyleRuns(CharSequence text) {
+            if (!(text instanceof Spanned)) {
+                return null;
+            }
+            return new GSStyleRuns((Spanned) text, paint, paintPool);
+        }
+
+        Rect getRect() {
+            return rect;
+        }
+
+        int getMaxLineCount() {
+            return maxLineCount;
+        }
+
+        float getLineSpacing() {
+            return lineSpacing;
+        }
+
+        float getParagraphSpacing() {
+            return paragraphSpacing;
+        }
+
+        boolean isVertical() {
+            return vertical;
+        }
+
+        TextPaint getPaint() {
+            return paint;
+        }
+
+        GSFontMetricsProvider getMetricsProvider() {
+            return metricsProvider;
+        }
+
+        // Settings changing where lines break and glyphs are placed, with stable hash codes
+        Object[] getLayoutSettings() {
+            Typeface typeface = paint.getTypeface();
+            return new Object[]{rect.left, rect.top, rect.right, rect.bottom, maxLineCount, indent,
+                    punctuationCompressRate, textAlignment.ordinal(), textEndAlignment.ordinal(),
+                    lineAlignment.ordinal(), lineSpacing, paragraphSpacing, vertical, breakStrategy.ordinal(),
+                    metricsProvider.getClass().getName(), typeface != null ? typeface.getStyle() : 0,
+                    paint.getTextSize(), paint.getTextScaleX(), paint.getTextSkewX(), paint.getFlags()};
+        }
+
         private Builder(TextPaint paint) {
             this.paint = paint;
             rect = new Rect();
             textAlignment = Alignment.ALIGN_NORMAL;
             textEndAlignment = Alignment.ALIGN_NORMAL;
             lineAlignment = Alignment.ALIGN_NORMAL;
+            breakStrategy = BreakStrategy.BREAK_GREEDY;
+            metricsProvider = GSPaintMetricsProvider.getInstance();
+            paintPool = new GSPaintPool();
         }
     }
 
-    private static final float SIZE_EXTEND_TIMES = 1.3f;
-
     private final Builder builder;
     private final CharSequence text;
     private final int start;
@@ -143,6 +325,26 @@ public class GSLayout {
     private int layoutEnd;
     private RectF usedRect;
     private LinkedList<GSLayoutLine> lines;
+    // Index of lines for hit testing, built on first use
+    private GSLayoutLine[] lineArray;
+    private int[] lineStarts;
+    private GSLineBreakCache.Key cacheKey;
+    private GSLayoutMeasurer measurer;
+    // Planned line breaks of optimal strategy in [planFrom, planTo), line starts and the last line end
+    private int[] plan;
+    private int planFrom;
+    private int planTo;
+    private int planParaStart;
+    // Lines of the layout before an edit, reused by relayout(), with the edit in offsets of the new text
+    private GSLayoutLine[] editedLines;
+    private int[] editedStarts;
+    private int editParaStart;
+    private int editEnd;
+    private int editDelta;
+    // Lines with glyphs measured again in order of use, by a layout of the builder settings when stacked
+    private ArrayDeque<GSLayoutLine> glyphLines;
+    private GSLayout glyphSource;
+    private int maxGlyphLineCount;
 
     public CharSequence getText() {
         return text;
@@ -178,15 +380,211 @@ public class GSLayout {
         return new ArrayList<>(lines);
     }
 
+    // Offset of the caret nearest to the point, in the line nearest to it
+    public int getOffsetForPoint(float x, float y) {
+        if (lines == null || lines.isEmpty()) {
+            return start;
+        }
+        GSLayoutLine line = lineArray()[getLineIndexForCrossPos(builder.vertical ? -x : y)];
+        return line.getOffsetForPos(builder.vertical ? y : x);
+    }
+
+    // Caret before the glyph at offset, as a rect of no width along the line
+    public @NonNull
+    RectF getCaretRect(int offset) {
+        RectF rect = new RectF();
+        if (lines == null || lines.isEmpty()) {
+            return rect;
+        }
+        GSLayoutLine line = lineArray()[getLineIndexForOffset(offset)];
+        line.getUsedRect(rect);
+        float pos = line.getPosForOffset(offset);
+        if (builder.vertical) {
+            rect.top = pos;
+            rect.bottom = pos;
+        } else {
+            rect.left = pos;
+            rect.right = pos;
+        }
+        return rect;
+    }
+
+    // Rects of the text in [start, end) for each line
+    public @NonNull
+    Path getSelectionPath(int start, int end) {
+        Path path = new Path();
+        start = Math.max(start, this.start);
+        end = Math.min(end, layoutEnd);
+        if (start >= end) {
+            return path;
+        }
+        GSLayoutLine[] lineArray = lineArray();
+        RectF rect = new RectF();
+        for (int i = getLineIndexForOffset(start); i < lineArray.length && lineArray[i].getStart() < end; ++i) {
+            GSLayoutLine line = lineArray[i];
+            line.getUsedRect(rect);
+            float startPos = line.getPosForOffset(Math.max(start, line.getStart()));
+            float endPos = line.getPosForOffset(Math.min(end, line.getEnd()));
+            if (builder.vertical) {
+                rect.top = startPos;
+                rect.bottom = endPos;
+            } else {
+                rect.left = startPos;
+                rect.right = endPos;
+            }
+            path.addRect(rect, Path.Direction.CW);
+        }
+        return path;
+    }
+
+    // Layout of text edited from the text of this layout, with removedLength chars at offset replaced by insertedLength
+    // chars. Lines before the edited paragraph are kept, lines are broken again from the paragraph until a line starts
+    // at an old line start, and old lines from there are shifted by the edit.
+    public GSLayout relayout(CharSequence text, int offset, int removedLength, int insertedLength) {
+        int delta = insertedLength - removedLength;
+        int newStart = (start <= offset) ? start : Math.max(start + delta, offset);
+        int newEnd = (end < offset) ? end : Math.max(end + delta, offset + insertedLength);
+        newStart = Math.max(newStart, 0);
+        newEnd = Math.min(newEnd, text.length());
+        if (newStart >= newEnd) {
+            return null;
+        }
+        GSLayout layout = new GSLayout(builder, text, newStart, newEnd, asParaStart, asParaEnd);
+        if (lines != null && !lines.isEmpty()) {
+            GSLayoutLine[] lineArray = lineArray();
+            int paraLine = Math.min(getLineIndexForOffset(offset), lineArray.length - 1);
+            while (paraLine > 0 && !lineArray[paraLine].isParaStart()) {
+                --paraLine;
+            }
+            layout.editedLines = lineArray;
+            layout.editedStarts = lineStarts;
+            layout.editParaStart = Math.min(lineArray[paraLine].getStart(), offset);
+            layout.editEnd = offset + insertedLength;
+            layout.editDelta = delta;
+        }
+        if (builder.vertical) {
+            layout.doVerticalLayout();
+        } else {
+            layout.doHorizontalLayout();
+        }
+        layout.editedLines = null;
+        layout.editedStarts = null;
+        return layout;
+    }
+
     public void draw(Canvas canvas) {
         if (lines == null || lines.size() == 0) {
             return;
         }
+        if (builder.renderCache != null && builder.renderCache.draw(this, canvas)) {
+            return;
+        }
+        drawLines(canvas);
+    }
+
+    void drawLines(Canvas canvas) {
         for (GSLayoutLine line : lines) {
             line.draw(canvas);
         }
     }
 
+    TextPaint getPaint() {
+        return builder.paint;
+    }
+
+    private GSLayoutLine[] lineArray() {
+        if (lineArray == null) {
+            lineArray = lines.toArray(new GSLayoutLine[lines.size()]);
+            lineStarts = new int[lineArray.length];
+            for (int i = 0; i < lineArray.length; ++i) {
+                lineStarts[i] = lineArray[i].getStart();
+            }
+        }
+        return lineArray;
+    }
+
+    // Last line starting at or before offset, the first line if none
+    private int getLineIndexForOffset(int offset) {
+        lineArray();
+        int index = Arrays.binarySearch(lineStarts, offset);
+        return index >= 0 ? index : Math.max(-index - 2, 0);
+    }
+
+    // Line nearest to pos across lines, gaps between lines are split at the middle
+    private int getLineIndexForCrossPos(float pos) {
+        GSLayoutLine[] lineArray = lineArray();
+        int low = 0;
+        int high = lineArray.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            GSLayoutLine line = lineArray[mid];
+            GSLayoutLine next = lineArray[mid + 1];
+            float boundary = (line.getCrossPos() + line.getDescent() + next.getCrossPos() - next.getAscent()) / 2;
+            if (pos < boundary) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    // Glyphs of the released line measured again, lines over the limit release their glyphs again
+    synchronized GSLayoutGlyphRun restoreGlyphs(GSLayoutLine line) {
+        GSLayoutGlyphRun glyphs = line.setGlyphs(glyphSource.breakLine(line.getStart(), line.getEnd()));
+        glyphLines.addLast(line);
+        while (glyphLines.size() > maxGlyphLineCount) {
+            glyphLines.removeFirst().releaseGlyphs(this);
+        }
+        return glyphs;
+    }
+
+    // Keep only metrics of stacked lines if the builder limits lines with glyphs
+    private void releaseGlyphs() {
+        if (builder.maxGlyphLineCount <= 0) {
+            return;
+        }
+        // Settings of now, so that glyphs are measured the same after the builder changes
+        glyphSource = builder.copy().prepare(text, start, end, asParaStart, asParaEnd);
+        glyphLines = new ArrayDeque<>();
+        maxGlyphLineCount = builder.maxGlyphLineCount;
+        for (GSLayoutLine line : lines) {
+            line.releaseGlyphs(this);
+        }
+    }
+
+    List<GSLayoutLine> getLineList() {
+        return lines;
+    }
+
+    boolean isVertical() {
+        return builder.vertical;
+    }
+
+    boolean isAsParaStart() {
+        return asParaStart;
+    }
+
+    boolean isAsParaEnd() {
+        return asParaEnd;
+    }
+
+    // Layout of lines placed before, as restored by GSLayoutArchive
+    static GSLayout restore(Builder builder,
+                            CharSequence text,
+                            int start,
+                            int end,
+                            boolean asParaStart,
+                            boolean asParaEnd,
+                            List<GSLayoutLine> lines,
+                            RectF usedRect) {
+        GSLayout layout = new GSLayout(builder, text, start, end, asParaStart, asParaEnd);
+        layout.lines.addAll(lines);
+        layout.layoutEnd = layout.lines.getLast().getEnd();
+        layout.usedRect = usedRect;
+        return layout;
+    }
+
     private GSLayout(Builder builder,
                      CharSequence text,
                      int start,
@@ -202,6 +600,7 @@ public class GSLayout {
         layoutEnd = start;
         usedRect = new RectF();
         lines = new LinkedList<>();
+        plan = new int[0];
     }
 
     private void doHorizontalLayout() {
@@ -211,13 +610,13 @@ public class GSLayout {
         float paraGap = lineGap + fontSize * builder.paragraphSpacing;
         int lineLocation = start;
         float lineTop = builder.rect.top;
-        while (lineLocation < text.length()) {
+        RectF lineRect = new RectF();
+        while (lineLocation < end) {
             GSLayoutLine line = layoutLine(lineLocation, indent);
-            PointF origin = line.getOrigin();
-            RectF lineRect = line.getUsedRect();
-            origin.y = lineTop - lineRect.top;
-            line.setOrigin(origin);
-            float lineBottom = origin.y + lineRect.bottom;
+            line.getUsedRect(lineRect);
+            float originY = lineTop - lineRect.top;
+            line.setOrigin(line.getOriginX(), originY);
+            float lineBottom = originY + lineRect.bottom;
             if (lineBottom > builder.rect.bottom && !lines.isEmpty()) {
                 break;
             }
@@ -230,6 +629,7 @@ public class GSLayout {
         }
         layoutEnd = lines.getLast().getEnd();
         usedRect = adjustLines();
+        releaseGlyphs();
     }
 
     private void doVerticalLayout() {
@@ -237,18 +637,18 @@ public class GSLayout {
         float indent = fontSize * builder.indent;
         int lineLocation = start;
         float lineRight = builder.rect.right;
-        while (lineLocation < text.length()) {
+        RectF lineRect = new RectF();
+        while (lineLocation < end) {
             GSLayoutLine line = layoutLine(lineLocation, indent);
-            PointF origin = line.getOrigin();
-            RectF lineRect = line.getUsedRect();
-            origin.x = lineRight - lineRect.right;
-            line.setOrigin(origin);
-            float lineLeft = origin.x + lineRect.left;
+            line.getUsedRect(lineRect);
+            float originX = lineRight - lineRect.right;
+            line.setOrigin(originX, line.getOriginY());
+            float lineLeft = originX + lineRect.left;
             if (lineLeft < builder.rect.left && lines.size() > 0) {
                 break;
             }
             lines.add(line);
-            if (builder.maxLineCount > 0 && lines.size() > builder.maxLineCount) {
+            if (builder.maxLineCount > 0 && lines.size() >= builder.maxLineCount) {
                 break;
             }
             lineLocation = line.getEnd();
@@ -259,138 +659,319 @@ public class GSLayout {
         }
         layoutEnd = lines.getLast().getEnd();
         usedRect = adjustLines();
+        releaseGlyphs();
+    }
+
+    GSLayoutLine layoutLine(int lineStart) {
+        return layoutLine(lineStart, builder.getFontSize() * builder.indent);
     }
 
     private GSLayoutLine layoutLine(int lineStart, float indent) {
-        boolean isParaStart = lineStart == start ? asParaStart : GSCharUtils.isNewline(text.charAt(lineStart - 1));
+        if (editedLines != null) {
+            GSLayoutLine line = getEditedLine(lineStart);
+            if (line != null) {
+                return line;
+            }
+        }
+        GSLineBreakCache cache = builder.lineBreakCache;
+        GSLineBreakCache.Key key = cache != null ? getCacheKey(lineStart, indent) : null;
+        if (key == null) {
+            return breakLine(lineStart, indent);
+        }
+        GSLayoutLine line = cache.getLine(key, text, lineStart);
+        if (line == null) {
+            line = breakLine(lineStart, indent);
+            cache.putLine(key, line);
+        }
+        return line;
+    }
+
+    // Key of the paragraph containing lineStart, null if its lines depend on this layout's range
+    private GSLineBreakCache.Key getCacheKey(int lineStart, float indent) {
+        if (cacheKey != null && cacheKey.contains(lineStart)) {
+            return cacheKey;
+        }
+        int paraStart = lineStart;
+        while (paraStart > 0 && !GSCharUtils.isNewline(text.charAt(paraStart - 1))) {
+            --paraStart;
+        }
+        int paraEnd = lineStart;
+        while (paraEnd < end && !GSCharUtils.isNewline(text.charAt(paraEnd))) {
+            ++paraEnd;
+        }
+        if (paraEnd < end) {
+            ++paraEnd;
+        } else if (end < text.length()) {
+            return null;
+        }
+        if (paraEnd == end && !asParaEnd) {
+            return null;
+        }
+        if (lineStart == start && asParaStart != (lineStart == paraStart)) {
+            return null;
+        }
+        float pos = builder.vertical ? builder.rect.top : builder.rect.left;
+        float endPos = builder.vertical ? builder.rect.bottom : builder.rect.right;
+        cacheKey = new GSLineBreakCache.Key(text, paraStart, paraEnd, builder.paint, builder.metricsProvider,
+                builder.advanceCache, indent, builder.punctuationCompressRate, builder.textAlignment,
+                builder.textEndAlignment, builder.vertical, builder.breakStrategy, pos, endPos - pos);
+        return cacheKey;
+    }
+
+    private GSLayoutLine breakLine(int lineStart, float indent) {
+        return breakLine(lineStart, indent, -1);
+    }
+
+    // Line broken before at [lineStart, lineEnd), measured again the same by taking its end as the limit
+    GSLayoutLine breakLine(int lineStart, int lineEnd) {
+        return breakLine(lineStart, builder.getFontSize() * builder.indent, lineEnd);
+    }
+
+    // Line at lineStart ending by lineLimit, or by the plan or layout end if lineLimit is negative
+    private GSLayoutLine breakLine(int lineStart, float indent, int lineLimit) {
+        boolean isParaStart = isParaStart(lineStart);
         float lineIndent = isParaStart ? indent : 0;
         float pos = builder.vertical ? builder.rect.top : builder.rect.left;
         float endPos = builder.vertical ? builder.rect.bottom : builder.rect.right;
         float size = endPos - pos;
-        int count = GSLayoutUtils.breakText(text, builder.paint, lineStart, end, size * SIZE_EXTEND_TIMES);
-        LinkedList<GSLayoutGlyph> glyphs = GSLayoutUtils.getGlyphs(text, builder.paint, lineStart, count, builder.vertical, lineIndent);
-        compressGlyphs(glyphs);
-        int breakIndex = breakGlyphs(glyphs, size);
-        glyphs = new LinkedList<>(glyphs.subList(0, breakIndex));
+        if (measurer == null) {
+            measurer = new GSLayoutMeasurer(text, end, builder.paint, builder.newStyleRuns(text),
+                    builder.metricsProvider, builder.advanceCache, builder.vertical);
+        }
+        if (lineLimit < 0) {
+            lineLimit = end;
+            if (builder.breakStrategy == BreakStrategy.BREAK_OPTIMAL) {
+                lineLimit = getPlannedLineEnd(lineStart, indent, size);
+            }
+        }
+        GSLayoutGlyphRun glyphs = measurer.startLine(lineStart, lineIndent);
+        int breakIndex = breakGlyphs(glyphs, size, lineLimit);
+        glyphs.truncate(breakIndex);
         adjustEndGlyphs(glyphs);
-        int lineEnd = glyphs.getLast().end;
+        int lineEnd = glyphs.end[glyphs.count - 1];
         boolean isParaEnd = lineEnd == end ? asParaEnd : GSCharUtils.isNewline(text.charAt(lineEnd - 1));
-        PointF origin = adjustGlyphs(glyphs, pos, size, isParaEnd);
-        return new GSLayoutLine(text, glyphs, origin, builder.vertical, isParaStart, isParaEnd);
+        float originPos = adjustGlyphs(glyphs, pos, size, isParaEnd);
+        float originX = builder.vertical ? 0 : originPos;
+        float originY = builder.vertical ? originPos : 0;
+        GSLayoutDecorations decorations = GSLayoutDecorations.resolve(text, glyphs, lineStart, lineEnd);
+        return new GSLayoutLine(text, glyphs, originX, originY, builder.vertical, isParaStart, isParaEnd, decorations);
     }
 
-    private void compressGlyphs(LinkedList<GSLayoutGlyph> glyphs) {
-        float move = 0;
-        GSLayoutGlyph glyph0 = null;
-        for (GSLayoutGlyph glyph1 : glyphs) {
-            // Add gap
-            if (GSCharUtils.shouldAddGap(glyph0, glyph1)) {
-                move += builder.getFontSize() / 6;
-            }
-            // Punctuation compress
-            if (GSCharUtils.shouldCompressStart(glyph1)) {
-                if (glyph0 == null && GSCharUtils.canCompress(glyph1)) {
-                    glyph1.compressStart = glyph1.size * builder.punctuationCompressRate;
-                    move -= glyph1.compressStart;
+    // Old line at lineStart not changed by the edit, null if it is broken again
+    private GSLayoutLine getEditedLine(int lineStart) {
+        if (lineStart < editParaStart) {
+            int index = Arrays.binarySearch(editedStarts, lineStart);
+            return index >= 0 ? editedLines[index].copy(text, 0) : null;
+        }
+        if (lineStart < editEnd) {
+            return null;
+        }
+        // Lines of optimal strategy depend on the whole paragraph
+        boolean isParaStart = isParaStart(lineStart);
+        if (builder.breakStrategy == BreakStrategy.BREAK_OPTIMAL && !isParaStart) {
+            return null;
+        }
+        int index = Arrays.binarySearch(editedStarts, lineStart - editDelta);
+        if (index < 0 || editedLines[index].isParaStart() != isParaStart) {
+            return null;
+        }
+        return editedLines[index].copy(text, editDelta);
+    }
+
+    private boolean isParaStart(int lineStart) {
+        if (lineStart == start) {
+            return asParaStart;
+        }
+        return lineStart == 0 || GSCharUtils.isNewline(text.charAt(lineStart - 1));
+    }
+
+    // End of line at lineStart by plan of its paragraph, the layout end if there is no plan
+    private int getPlannedLineEnd(int lineStart, float indent, float size) {
+        int index = Arrays.binarySearch(plan, lineStart);
+        if (index < 0 || index + 1 >= plan.length) {
+            if (planFrom <= lineStart && lineStart < planTo) {
+                // Line did not follow the plan, plan the rest once
+                if (planFrom == planParaStart) {
+                    planLines(lineStart, indent, size);
                 }
-                if (GSCharUtils.shouldCompressEnd(glyph0)) {
-                    if (GSCharUtils.canCompress(glyph1)) {
-                        glyph1.compressStart = glyph1.size * builder.punctuationCompressRate / 2;
-                        move -= glyph1.compressStart;
-                    }
-                    if (GSCharUtils.canCompress(glyph0)) {
-                        glyph0.compressEnd = glyph0.size * builder.punctuationCompressRate / 2;
-                        move -= glyph0.compressEnd;
-                    }
+            } else {
+                // Plan from paragraph start, so that layouts starting at any line agree
+                planParaStart = lineStart;
+                while (planParaStart > 0 && !GSCharUtils.isNewline(text.charAt(planParaStart - 1))) {
+                    --planParaStart;
                 }
-            }
-            if (GSCharUtils.shouldCompressEnd(glyph1)) {
-                if (GSCharUtils.shouldCompressEnd(glyph0) && GSCharUtils.canCompress(glyph0)) {
-                    glyph0.compressEnd = glyph0.size * builder.punctuationCompressRate / 2;
-                    move -= glyph0.compressEnd;
+                planLines(planParaStart, indent, size);
+                if (Arrays.binarySearch(plan, lineStart) < 0 && planParaStart < lineStart) {
+                    planLines(lineStart, indent, size);
                 }
             }
-            // Move
-            if (builder.vertical) {
-                glyph1.y += move;
-            } else {
-                glyph1.x += move;
+            index = Arrays.binarySearch(plan, lineStart);
+        }
+        return (index >= 0 && index + 1 < plan.length) ? plan[index + 1] : end;
+    }
+
+    private void planLines(int planStart, float indent, float size) {
+        float planIndent = isParaStart(planStart) ? indent : 0;
+        planFrom = planStart;
+        planTo = planStart;
+        while (planTo < end && !GSCharUtils.isNewline(text.charAt(planTo))) {
+            ++planTo;
+        }
+        planTo = Math.min(planTo + 1, end);
+        float pos = builder.vertical ? builder.rect.top : builder.rect.left;
+        GSLineBreakCache.Key key = new GSLineBreakCache.Key(text, planFrom, planTo, builder.paint,
+                builder.metricsProvider, builder.advanceCache, planIndent, builder.punctuationCompressRate,
+                builder.textAlignment, builder.textEndAlignment, builder.vertical, builder.breakStrategy, pos, size);
+        if (!key.equals(builder.planKey)) {
+            builder.planKey = key;
+            builder.plan = breakParagraph(planStart, planIndent, size);
+        }
+        plan = builder.plan;
+    }
+
+    // Line starts and the last line end, empty if the paragraph cannot be planned
+    private int[] breakParagraph(int planStart, float planIndent, float size) {
+        GSLayoutGlyphRun glyphs = measurer.startLine(planStart, planIndent);
+        float move = 0;
+        while (measurer.addGlyph(end)) {
+            move = compressGlyph(glyphs, glyphs.count - 1, move);
+        }
+        Alignment alignment = builder.textAlignment;
+        int[] lineEnds = GSOptimalBreaker.breakParagraph(glyphs, size, builder.getFontSize(),
+                builder.punctuationCompressRate, alignment == Alignment.ALIGN_JUSTIFY);
+        if (lineEnds == null) {
+            return new int[0];
+        }
+        int[] lineBreaks = new int[lineEnds.length + 1];
+        lineBreaks[0] = planStart;
+        for (int i = 0; i < lineEnds.length; ++i) {
+            lineBreaks[i + 1] = glyphs.end[lineEnds[i] - 1];
+        }
+        return lineBreaks;
+    }
+
+    // Compress glyph at index1 with its previous one, returns the move of following glyphs
+    private float compressGlyph(GSLayoutGlyphRun glyphs, int index1, float move) {
+        int index0 = index1 - 1;
+        // Add gap
+        if (GSCharUtils.shouldAddGap(glyphs, index0, index1)) {
+            move += builder.getFontSize() / 6;
+        }
+        // Punctuation compress
+        if (GSCharUtils.shouldCompressStart(glyphs, index1)) {
+            if (index0 < 0 && GSCharUtils.canCompress(glyphs, index1)) {
+                glyphs.compressStart[index1] = glyphs.size[index1] * builder.punctuationCompressRate;
+                move -= glyphs.compressStart[index1];
             }
-            // Fix CRLF width
-            if (GSCharUtils.isNewline(glyph1)) {
-                glyph1.compressEnd = glyph1.size;
-                move -= glyph1.size;
+            if (GSCharUtils.shouldCompressEnd(glyphs, index0)) {
+                if (GSCharUtils.canCompress(glyphs, index1)) {
+                    glyphs.compressStart[index1] = glyphs.size[index1] * builder.punctuationCompressRate / 2;
+                    move -= glyphs.compressStart[index1];
+                }
+                if (GSCharUtils.canCompress(glyphs, index0)) {
+                    glyphs.compressEnd[index0] = glyphs.size[index0] * builder.punctuationCompressRate / 2;
+                    move -= glyphs.compressEnd[index0];
+                }
             }
-            glyph0 = glyph1;
         }
+        if (GSCharUtils.shouldCompressEnd(glyphs, index1)) {
+            if (GSCharUtils.shouldCompressEnd(glyphs, index0) && GSCharUtils.canCompress(glyphs, index0)) {
+                glyphs.compressEnd[index0] = glyphs.size[index0] * builder.punctuationCompressRate / 2;
+                move -= glyphs.compressEnd[index0];
+            }
+        }
+        // Move
+        if (builder.vertical) {
+            glyphs.y[index1] += move;
+        } else {
+            glyphs.x[index1] += move;
+        }
+        // Fix CRLF width
+        if (GSCharUtils.isNewline(glyphs, index1)) {
+            glyphs.compressEnd[index1] = glyphs.size[index1];
+            move -= glyphs.size[index1];
+        }
+        return move;
     }
 
-    private int breakGlyphs(LinkedList<GSLayoutGlyph> glyphs, float size) {
+    // Add glyphs from measurer until the line is full, each glyph is measured
+    // after compressing the next one, which may compress its end
+    private int breakGlyphs(GSLayoutGlyphRun glyphs, float size, int lineLimit) {
+        float move = 0;
+        if (measurer.addGlyph(lineLimit)) {
+            move = compressGlyph(glyphs, 0, move);
+        }
         int breakIndex = 0;
         int index = 0;
-        GSLayoutGlyph glyph0 = null;
-        for (GSLayoutGlyph glyph1 : glyphs) {
-            if (GSCharUtils.canBreak(glyph0, glyph1)) {
+        for (; index < glyphs.count; ++index) {
+            if (index + 1 == glyphs.count && measurer.addGlyph(lineLimit)) {
+                move = compressGlyph(glyphs, index + 1, move);
+            }
+            if (GSCharUtils.canBreak(glyphs, index - 1, index)) {
                 breakIndex = index;
             }
-            float currentSize = glyph1.getUsedEndPos();
+            // Newline takes no room, it is placed at the used end of the glyph before it by adjustEndGlyphs()
+            if (GSCharUtils.isNewline(glyphs, index)) {
+                continue;
+            }
+            float currentSize = glyphs.getUsedEndPos(index);
             if (currentSize > size) {
-                if (GSCharUtils.shouldCompressEnd(glyph1) && GSCharUtils.canCompress(glyph1)) {
-                    float compressEnd = glyph1.size * builder.punctuationCompressRate;
-                    currentSize = glyph1.getEndPos() - compressEnd;
+                if (GSCharUtils.shouldCompressEnd(glyphs, index) && GSCharUtils.canCompress(glyphs, index)) {
+                    float compressEnd = glyphs.size[index] * builder.punctuationCompressRate;
+                    currentSize = glyphs.getEndPos(index) - compressEnd;
                 }
             }
             if (currentSize > size) {
                 break;
             }
-            ++index;
-            glyph0 = glyph1;
         }
         // If all glyphs can be in line
-        if (index == glyphs.size()) {
+        if (index == glyphs.count) {
             breakIndex = index;
         }
         // If no valid break position
         if (0 == breakIndex) {
             breakIndex = index;
         }
+        // Keep at least one glyph in line
+        if (0 == breakIndex) {
+            breakIndex = 1;
+        }
         // Add next space if possible, for latin layout
-        if (breakIndex < glyphs.size()) {
-            if (glyphs.get(breakIndex).code() == ' ') {
+        if (breakIndex < glyphs.count) {
+            if (glyphs.code(breakIndex) == ' ') {
                 ++breakIndex;
             }
         }
         return breakIndex;
     }
 
-    private void adjustEndGlyphs(LinkedList<GSLayoutGlyph> glyphs) {
+    private void adjustEndGlyphs(GSLayoutGlyphRun glyphs) {
         // Compress last none CRLF glyph if possible
-        GSLayoutGlyph lastGlyph = glyphs.getLast();
-        GSLayoutGlyph crlfGlyph = null;
-        if (GSCharUtils.isNewline(lastGlyph) && glyphs.size() > 1) {
-            crlfGlyph = glyphs.removeLast();
-            lastGlyph = glyphs.getLast();
+        int lastIndex = glyphs.count - 1;
+        int crlfIndex = -1;
+        if (GSCharUtils.isNewline(glyphs, lastIndex) && glyphs.count > 1) {
+            crlfIndex = lastIndex;
+            --lastIndex;
         }
-        if (GSCharUtils.shouldCompressEnd(lastGlyph) && GSCharUtils.canCompress(lastGlyph)) {
-            lastGlyph.compressEnd = lastGlyph.size * builder.punctuationCompressRate;
+        if (GSCharUtils.shouldCompressEnd(glyphs, lastIndex) && GSCharUtils.canCompress(glyphs, lastIndex)) {
+            glyphs.compressEnd[lastIndex] = glyphs.size[lastIndex] * builder.punctuationCompressRate;
         }
-        if (lastGlyph.code() == ' ') {
-            lastGlyph.compressEnd = lastGlyph.size;
+        if (glyphs.code(lastIndex) == ' ') {
+            glyphs.compressEnd[lastIndex] = glyphs.size[lastIndex];
         }
-        if (crlfGlyph != null) {
+        if (crlfIndex >= 0) {
             if (builder.vertical) {
-                crlfGlyph.y = lastGlyph.getUsedEndPos();
+                glyphs.y[crlfIndex] = glyphs.getUsedEndPos(lastIndex);
             } else {
-                crlfGlyph.x = lastGlyph.getUsedEndPos();
+                glyphs.x[crlfIndex] = glyphs.getUsedEndPos(lastIndex);
             }
-            glyphs.addLast(crlfGlyph);
         }
     }
 
-    private PointF adjustGlyphs(LinkedList<GSLayoutGlyph> glyphs, float pos, float size, boolean isParaEnd) {
+    private float adjustGlyphs(GSLayoutGlyphRun glyphs, float pos, float size, boolean isParaEnd) {
         float originPos = pos;
-        GSLayoutGlyph lastGlyph = glyphs.getLast();
-        float adjustSize = size - lastGlyph.getUsedEndPos();
+        float adjustSize = size - glyphs.getUsedEndPos(glyphs.count - 1);
         if (adjustSize > 0) {
             Alignment alignment = isParaEnd ? builder.textEndAlignment : builder.textAlignment;
             switch (alignment) {
@@ -404,25 +985,21 @@ public class GSLayout {
                     break;
                 case ALIGN_JUSTIFY:
                     int stretchCount = 0;
-                    for (int i = 1; i < glyphs.size(); ++i) {
-                        GSLayoutGlyph prevGlyph = glyphs.get(i - 1);
-                        GSLayoutGlyph thisGlyph = glyphs.get(i);
-                        if (GSCharUtils.canStretch(prevGlyph, thisGlyph)) {
+                    for (int i = 1; i < glyphs.count; ++i) {
+                        if (GSCharUtils.canStretch(glyphs, i - 1, i)) {
                             ++stretchCount;
                         }
                     }
                     float stretchSize = adjustSize / stretchCount;
                     float move = 0;
-                    for (int i = 1; i < glyphs.size(); ++i) {
-                        GSLayoutGlyph prevGlyph = glyphs.get(i - 1);
-                        GSLayoutGlyph thisGlyph = glyphs.get(i);
-                        if (GSCharUtils.canStretch(prevGlyph, thisGlyph)) {
+                    for (int i = 1; i < glyphs.count; ++i) {
+                        if (GSCharUtils.canStretch(glyphs, i - 1, i)) {
                             move += stretchSize;
                         }
                         if (builder.vertical) {
-                            thisGlyph.y += move;
+                            glyphs.y[i] += move;
                         } else {
-                            thisGlyph.x += move;
+                            glyphs.x[i] += move;
                         }
                     }
                     break;
@@ -430,11 +1007,12 @@ public class GSLayout {
                     break;
             }
         }
-        return builder.vertical ? new PointF(0, originPos) : new PointF(originPos, 0);
+        return originPos;
     }
 
     private RectF adjustLines() {
-        RectF lastLineRect = lines.getLast().getUsedRect();
+        RectF lastLineRect = new RectF();
+        lines.getLast().getUsedRect(lastLineRect);
         float adjustSize = builder.vertical ? (lastLineRect.left - builder.rect.left) : (builder.rect.bottom - lastLineRect.bottom);
         if (adjustSize > 0) {
             float move = 0;
@@ -453,23 +1031,18 @@ public class GSLayout {
                     break;
             }
             for (GSLayoutLine line : lines) {
-                PointF origin = line.getOrigin();
                 if (builder.vertical) {
-                    origin.x -= move;
+                    line.setOrigin(line.getOriginX() - move, line.getOriginY());
                 } else {
-                    origin.y += move;
+                    line.setOrigin(line.getOriginX(), line.getOriginY() + move);
                 }
-                line.setOrigin(origin);
             }
         }
-        RectF rect = null;
+        RectF rect = new RectF();
+        lines.getFirst().getUsedRect(rect);
         for (GSLayoutLine line : lines) {
-            RectF lineRect = line.getUsedRect();
-            if (rect == null) {
-                rect = lineRect;
-            } else {
-                rect.union(lineRect);
-            }
+            line.getUsedRect(lastLineRect);
+            rect.union(lastLineRect);
         }
         return rect;
     }
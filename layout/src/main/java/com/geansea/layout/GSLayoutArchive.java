@@ -0,0 +1,457 @@
+package com.geansea.layout;
+
+import android.graphics.RectF;
+import android.text.Spanned;
+import android.text.TextPaint;
+import android.text.TextUtils;
+import android.text.style.CharacterStyle;
+import android.text.style.MetricAffectingSpan;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Pages of a text laid out once and saved, restored as drawable layouts without measuring the text again.
+ * The file is memory mapped, and a page is decoded from its own bytes only when asked.
+ * It is valid only for the same text, spans, builder settings and font, which are checked by a fingerprint at open.
+ * Positions are kept to 1/64 pixel, paints are not saved but resolved from the spans of the text when a page is asked.
+ */
+public class GSLayoutArchive {
+    private static final int MAGIC = 0x47534C41;
+    private static final int VERSION = 2;
+    private static final int HEADER_SIZE = 24;
+    private static final int PAGE_ENTRY_SIZE = 12;
+    private static final float QUANTUM = 64;
+    // Glyph values quantized and coded as deltas to their predictions, in this order
+    private static final int ASCENT = 0;
+    private static final int DESCENT = 1;
+    private static final int SIZE = 2;
+    private static final int COMPRESS_START = 3;
+    private static final int COMPRESS_END = 4;
+    private static final int X = 5;
+    private static final int Y = 6;
+    private static final int GLYPH_VALUE_COUNT = 7;
+    // Flags of the glyph head, with the glyph length above them
+    private static final int GLYPH_ROTATE = 1;
+    private static final int GLYPH_GAP = 2;
+    private static final int GLYPH_LENGTH_SHIFT = 2;
+    private static final String PROBE_CHARS = "永。Ag,";
+
+    private final ByteBuffer buffer;
+    private final GSLayout.Builder builder;
+    private final CharSequence text;
+    private final int pageCount;
+
+    private GSLayoutArchive(ByteBuffer buffer, GSLayout.Builder builder, CharSequence text) {
+        this.buffer = buffer;
+        // Settings checked at open, not changed by later use of the builder
+        this.builder = builder.copy();
+        this.text = text;
+        pageCount = buffer.getInt(20);
+    }
+
+    // Archive of pages of text laid out by builder, null if it was saved for another text, settings or font
+    public static GSLayoutArchive open(File file, GSLayout.Builder builder, CharSequence text) throws IOException {
+        RandomAccessFile input = new RandomAccessFile(file, "r");
+        try {
+            FileChannel channel = input.getChannel();
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return open(buffer, builder, text);
+        } finally {
+            input.close();
+        }
+    }
+
+    // Archive in buffer from position 0, only absolute reads are used so buffer may be shared
+    public static GSLayoutArchive open(ByteBuffer buffer, GSLayout.Builder builder, CharSequence text)
+            throws IOException {
+        buffer = buffer.duplicate().order(ByteOrder.BIG_ENDIAN);
+        if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a layout archive");
+        }
+        if (buffer.getInt(4) != VERSION || buffer.getLong(8) != getFingerprint(builder, text)) {
+            return null;
+        }
+        if (buffer.getInt(16) != text.length() || buffer.limit() < HEADER_SIZE + buffer.getInt(20) * PAGE_ENTRY_SIZE) {
+            throw new IOException("Broken layout archive");
+        }
+        return new GSLayoutArchive(buffer, builder, text);
+    }
+
+    // Paginate the whole text and save its pages, each page is laid out, saved and dropped in turn
+    public static void write(final GSPaginator paginator, File file) throws IOException {
+        paginator.paginateAll();
+        write(paginator.getBuilder(), paginator.getText(), new PageSource() {
+            @Override
+            public int getPageCount() {
+                return paginator.getPageCount();
+            }
+
+            @Override
+            public GSLayout getPage(int pageIndex) {
+                return paginator.getPage(pageIndex);
+            }
+        }, file);
+    }
+
+    // Save pages of text laid out by builder, in order
+    public static void write(GSLayout.Builder builder, CharSequence text, final List<GSLayout> pages, File file)
+            throws IOException {
+        write(builder, text, new PageSource() {
+            @Override
+            public int getPageCount() {
+                return pages.size();
+            }
+
+            @Override
+            public GSLayout getPage(int pageIndex) {
+                return pages.get(pageIndex);
+            }
+        }, file);
+    }
+
+    // Records are written after room for the header, which is written last with the record offsets
+    private static void write(GSLayout.Builder builder, CharSequence text, PageSource pages, File file)
+            throws IOException {
+        int pageCount = pages.getPageCount();
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE + pageCount * PAGE_ENTRY_SIZE);
+        header.putInt(MAGIC);
+        header.putInt(VERSION);
+        header.putLong(getFingerprint(builder, text));
+        header.putInt(text.length());
+        header.putInt(pageCount);
+        Encoder records = new Encoder();
+        FileOutputStream output = new FileOutputStream(file);
+        try {
+            FileChannel channel = output.getChannel();
+            long offset = header.capacity();
+            channel.position(offset);
+            for (int i = 0; i < pageCount; ++i) {
+                GSLayout page = pages.getPage(i);
+                header.putInt((int) offset);
+                header.putInt(page.getStart());
+                header.putInt(page.getLayoutEnd());
+                records.reset();
+                encodePage(page, records);
+                offset += records.writeTo(channel);
+            }
+            header.flip();
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+        } finally {
+            output.close();
+        }
+    }
+
+    public CharSequence getText() {
+        return text;
+    }
+
+    public int getPageCount() {
+        return pageCount;
+    }
+
+    public int getPageStart(int pageIndex) {
+        checkPageIndex(pageIndex);
+        return buffer.getInt(HEADER_SIZE + pageIndex * PAGE_ENTRY_SIZE + 4);
+    }
+
+    public int getPageEnd(int pageIndex) {
+        checkPageIndex(pageIndex);
+        return buffer.getInt(HEADER_SIZE + pageIndex * PAGE_ENTRY_SIZE + 8);
+    }
+
+    // Index of the page containing offset, -1 if offset is before the first page
+    public int getPageIndex(int offset) {
+        int low = 0;
+        int high = pageCount - 1;
+        if (pageCount == 0 || offset < getPageStart(0)) {
+            return -1;
+        }
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (getPageStart(mid) <= offset) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    // Layout of page decoded from its bytes, its lines are drawable without measuring
+    public GSLayout getPage(int pageIndex) {
+        checkPageIndex(pageIndex);
+        Decoder in = new Decoder(buffer, buffer.getInt(HEADER_SIZE + pageIndex * PAGE_ENTRY_SIZE));
+        int start = getPageStart(pageIndex);
+        int layoutEnd = getPageEnd(pageIndex);
+        int flags = in.readByte();
+        int end = layoutEnd + in.readVarint();
+        // Each glyph takes the run paint at its start from the spans as they are now
+        GSStyleRuns styleRuns = builder.newStyleRuns(text);
+        RectF usedRect = new RectF(in.readFloat(), in.readFloat(), in.readFloat(), in.readFloat());
+        char[] chars = new char[layoutEnd - start];
+        TextUtils.getChars(text, start, layoutEnd, chars, 0);
+        boolean vertical = builder.isVertical();
+        if (vertical) {
+            GSCharUtils.replaceTextForVertical(chars, 0, chars.length);
+        }
+        int lineCount = in.readVarint();
+        List<GSLayoutLine> lines = new ArrayList<>(lineCount);
+        int[] previous = new int[GLYPH_VALUE_COUNT];
+        int[] values = new int[GLYPH_VALUE_COUNT];
+        int glyphEnd = start;
+        for (int l = 0; l < lineCount; ++l) {
+            int lineFlags = in.readByte();
+            float originX = in.readFloat();
+            float originY = in.readFloat();
+            int glyphCount = in.readVarint();
+            GSLayoutGlyphRun glyphs = new GSLayoutGlyphRun(vertical, chars, start, glyphCount);
+            Arrays.fill(previous, 0);
+            for (int i = 0; i < glyphCount; ++i) {
+                int head = in.readVarint();
+                int glyphStart = glyphEnd + (((head & GLYPH_GAP) != 0) ? in.readVarint() : 0);
+                TextPaint paint = (styleRuns != null) ? styleRuns.getRunPaint(glyphStart) : builder.getPaint();
+                int index = glyphs.add(glyphStart, paint);
+                glyphEnd = glyphStart + (head >>> GLYPH_LENGTH_SHIFT);
+                glyphs.end[index] = glyphEnd;
+                glyphs.rotateForVertical[index] = (head & GLYPH_ROTATE) != 0;
+                int mask = in.readByte();
+                for (int v = 0; v < GLYPH_VALUE_COUNT; ++v) {
+                    values[v] = predict(previous, values, v, vertical) + (((mask & (1 << v)) != 0) ? in.readZigzag() : 0);
+                }
+                glyphs.ascent[index] = values[ASCENT] / QUANTUM;
+                glyphs.descent[index] = values[DESCENT] / QUANTUM;
+                glyphs.size[index] = values[SIZE] / QUANTUM;
+                glyphs.compressStart[index] = values[COMPRESS_START] / QUANTUM;
+                glyphs.compressEnd[index] = values[COMPRESS_END] / QUANTUM;
+                glyphs.x[index] = values[X] / QUANTUM;
+                glyphs.y[index] = values[Y] / QUANTUM;
+                System.arraycopy(values, 0, previous, 0, GLYPH_VALUE_COUNT);
+            }
+            GSLayoutDecorations decorations = GSLayoutDecorations.resolve(text, glyphs,
+                    glyphs.start[0], glyphs.end[glyphCount - 1]);
+            lines.add(new GSLayoutLine(text, glyphs, originX, originY, vertical,
+                    (lineFlags & 1) != 0, (lineFlags & 2) != 0, decorations));
+        }
+        return GSLayout.restore(builder, text, start, end, (flags & 1) != 0, (flags & 2) != 0, lines, usedRect);
+    }
+
+    private static void encodePage(GSLayout page, Encoder out) {
+        int start = page.getStart();
+        List<GSLayoutLine> lines = page.getLineList();
+        boolean vertical = page.isVertical();
+        out.writeByte((page.isAsParaStart() ? 1 : 0) | (page.isAsParaEnd() ? 2 : 0));
+        out.writeVarint(page.getEnd() - page.getLayoutEnd());
+        RectF usedRect = page.getUsedRect();
+        out.writeFloat(usedRect.left);
+        out.writeFloat(usedRect.top);
+        out.writeFloat(usedRect.right);
+        out.writeFloat(usedRect.bottom);
+        out.writeVarint(lines.size());
+        int[] previous = new int[GLYPH_VALUE_COUNT];
+        int[] values = new int[GLYPH_VALUE_COUNT];
+        int[] deltas = new int[GLYPH_VALUE_COUNT];
+        int glyphEnd = start;
+        for (GSLayoutLine line : lines) {
+            GSLayoutGlyphRun glyphs = line.getGlyphRun();
+            out.writeByte((line.isParaStart() ? 1 : 0) | (line.isParaEnd() ? 2 : 0));
+            out.writeFloat(line.getOriginX());
+            out.writeFloat(line.getOriginY());
+            out.writeVarint(glyphs.count);
+            Arrays.fill(previous, 0);
+            for (int i = 0; i < glyphs.count; ++i) {
+                int gap = glyphs.start[i] - glyphEnd;
+                int head = (glyphs.end[i] - glyphs.start[i]) << GLYPH_LENGTH_SHIFT;
+                head |= glyphs.rotateForVertical[i] ? GLYPH_ROTATE : 0;
+                head |= (gap != 0) ? GLYPH_GAP : 0;
+                out.writeVarint(head);
+                if (gap != 0) {
+                    out.writeVarint(gap);
+                }
+                glyphEnd = glyphs.end[i];
+                values[ASCENT] = quantize(glyphs.ascent[i]);
+                values[DESCENT] = quantize(glyphs.descent[i]);
+                values[SIZE] = quantize(glyphs.size[i]);
+                values[COMPRESS_START] = quantize(glyphs.compressStart[i]);
+                values[COMPRESS_END] = quantize(glyphs.compressEnd[i]);
+                values[X] = quantize(glyphs.x[i]);
+                values[Y] = quantize(glyphs.y[i]);
+                // Values equal to the prediction are skipped by the mask
+                int mask = 0;
+                for (int v = 0; v < GLYPH_VALUE_COUNT; ++v) {
+                    deltas[v] = values[v] - predict(previous, values, v, vertical);
+                    mask |= (deltas[v] != 0) ? (1 << v) : 0;
+                }
+                out.writeByte(mask);
+                for (int v = 0; v < GLYPH_VALUE_COUNT; ++v) {
+                    if (deltas[v] != 0) {
+                        out.writeVarint(Encoder.zigzag(deltas[v]));
+                    }
+                }
+                System.arraycopy(values, 0, previous, 0, GLYPH_VALUE_COUNT);
+            }
+        }
+    }
+
+    // Value v of a glyph predicted from the glyph before, as the same metrics placed right after it.
+    // Values before v of the glyph are known.
+    private static int predict(int[] previous, int[] values, int v, boolean vertical) {
+        int advance = previous[SIZE] - previous[COMPRESS_END] - values[COMPRESS_START];
+        if ((v == X && !vertical) || (v == Y && vertical)) {
+            return previous[v] + advance;
+        }
+        return previous[v];
+    }
+
+    // FNV-1a of the text, its spans, the builder settings and metrics of some chars for the font identity
+    static long getFingerprint(GSLayout.Builder builder, CharSequence text) {
+        long hash = 0xCBF29CE484222325L;
+        int length = text.length();
+        hash = mix(hash, length);
+        for (int i = 0; i < length; ++i) {
+            hash = mix(hash, text.charAt(i));
+        }
+        TextPaint paint = builder.getPaint();
+        if (text instanceof Spanned) {
+            Spanned spanned = (Spanned) text;
+            TextPaint spanPaint = new TextPaint();
+            for (CharacterStyle span : spanned.getSpans(0, length, CharacterStyle.class)) {
+                hash = mix(hash, spanned.getSpanStart(span));
+                hash = mix(hash, spanned.getSpanEnd(span));
+                hash = mix(hash, span.getClass().getName().hashCode());
+                if (span instanceof MetricAffectingSpan) {
+                    spanPaint.set(paint);
+                    ((MetricAffectingSpan) span).updateMeasureState(spanPaint);
+                    hash = mix(hash, Float.floatToIntBits(spanPaint.getTextSize()));
+                    hash = mix(hash, Float.floatToIntBits(spanPaint.getTextScaleX()));
+                    hash = mix(hash, spanPaint.getFlags());
+                    hash = mix(hash, spanPaint.baselineShift);
+                }
+            }
+        }
+        for (Object setting : builder.getLayoutSettings()) {
+            hash = mix(hash, setting.hashCode());
+        }
+        GSFontMetricsProvider provider = builder.getMetricsProvider();
+        char[] probe = PROBE_CHARS.toCharArray();
+        float[] widths = new float[probe.length];
+        provider.getTextWidths(paint, probe, 0, probe.length, widths);
+        for (float width : widths) {
+            hash = mix(hash, Float.floatToIntBits(width));
+        }
+        hash = mix(hash, Float.floatToIntBits(provider.getAscent(paint)));
+        hash = mix(hash, Float.floatToIntBits(provider.getDescent(paint)));
+        return hash;
+    }
+
+    private static long mix(long hash, int value) {
+        for (int i = 0; i < 4; ++i) {
+            hash ^= (value >>> (i * 8)) & 0xFF;
+            hash *= 0x100000001B3L;
+        }
+        return hash;
+    }
+
+    private void checkPageIndex(int pageIndex) {
+        if (pageIndex < 0 || pageIndex >= pageCount) {
+            throw new IndexOutOfBoundsException("Page " + pageIndex + " of " + pageCount);
+        }
+    }
+
+    private static int quantize(float value) {
+        return Math.round(value * QUANTUM);
+    }
+
+    // Pages to save, laid out when asked
+    private interface PageSource {
+        int getPageCount();
+
+        GSLayout getPage(int pageIndex);
+    }
+
+    private static final class Encoder {
+        private byte[] bytes = new byte[256];
+        private int count;
+
+        void reset() {
+            count = 0;
+        }
+
+        // Bytes written to channel at its position, which is moved
+        int writeTo(FileChannel channel) throws IOException {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes, 0, count);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            return count;
+        }
+
+        void writeByte(int value) {
+            if (count == bytes.length) {
+                bytes = Arrays.copyOf(bytes, count * 2);
+            }
+            bytes[count++] = (byte) value;
+        }
+
+        void writeVarint(int value) {
+            while ((value & ~0x7F) != 0) {
+                writeByte((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            writeByte(value);
+        }
+
+        void writeFloat(float value) {
+            writeVarint(zigzag(quantize(value)));
+        }
+
+        static int zigzag(int value) {
+            return (value << 1) ^ (value >> 31);
+        }
+    }
+
+    private static final class Decoder {
+        private final ByteBuffer buffer;
+        private int position;
+
+        Decoder(ByteBuffer buffer, int position) {
+            this.buffer = buffer;
+            this.position = position;
+        }
+
+        int readByte() {
+            return buffer.get(position++) & 0xFF;
+        }
+
+        int readVarint() {
+            int value = 0;
+            for (int shift = 0; ; shift += 7) {
+                int b = readByte();
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+        }
+
+        int readZigzag() {
+            int value = readVarint();
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        float readFloat() {
+            return readZigzag() / QUANTUM;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.geansea.layout;
+
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.RectF;
+import android.text.Spanned;
+import android.text.TextPaint;
+import android.text.style.CharacterStyle;
+
+import java.util.Arrays;
+
+// Decorations of a line resolved from spans once, any CharacterStyle setting background color, underline or strike
+// through is drawn. Geometry is relative to the line origin, 4 floats each, as rect for background and as line ends
+// for others. Backgrounds come first, then underlines, then strike throughs.
+final class GSLayoutDecorations {
+    static final GSLayoutDecorations EMPTY = new GSLayoutDecorations();
+
+    private static final Paint linePaint = new Paint();
+
+    static {
+        linePaint.setAntiAlias(true);
+        linePaint.setStyle(Paint.Style.STROKE);
+        linePaint.setStrokeWidth(2); // TODO
+        linePaint.setARGB(0xFF, 0, 0, 0); // TODO
+    }
+
+    private float[] geometry;
+    private Paint[] paints;
+    private int backgroundCount;
+    private int underlineCount;
+    private int count;
+
+    private GSLayoutDecorations() {
+        geometry = new float[0];
+        paints = new Paint[0];
+    }
+
+    static GSLayoutDecorations resolve(CharSequence text, GSLayoutGlyphRun glyphs, int start, int end) {
+        if (!(text instanceof Spanned)) {
+            return EMPTY;
+        }
+        Spanned spanned = (Spanned) text;
+        CharacterStyle[] spans = spanned.getSpans(start, end, CharacterStyle.class);
+        if (spans == null || spans.length == 0) {
+            return EMPTY;
+        }
+        int spanCount = spans.length;
+        int[] backgrounds = new int[spanCount];
+        boolean[] underlines = new boolean[spanCount];
+        boolean[] strikeThroughs = new boolean[spanCount];
+        RectF[] rects = new RectF[spanCount];
+        TextPaint state = new TextPaint();
+        for (int i = 0; i < spanCount; ++i) {
+            state.bgColor = 0;
+            state.setUnderlineText(false);
+            state.setStrikeThruText(false);
+            spans[i].updateDrawState(state);
+            if (state.bgColor == 0 && !state.isUnderlineText() && !state.isStrikeThruText()) {
+                continue;
+            }
+            int spanStart = Math.max(spanned.getSpanStart(spans[i]), start);
+            int spanEnd = Math.min(spanned.getSpanEnd(spans[i]), end);
+            if (spanStart >= spanEnd) {
+                continue;
+            }
+            int glyphStart = GSLayoutHelper.getGlyphIndexWithPosition(glyphs, spanStart);
+            int glyphEnd = GSLayoutHelper.getGlyphIndexWithPosition(glyphs, spanEnd - 1) + 1;
+            RectF rect = new RectF();
+            if (!GSLayoutHelper.getRect(glyphs, glyphStart, glyphEnd, rect)) {
+                continue;
+            }
+            rects[i] = rect;
+            backgrounds[i] = state.bgColor;
+            underlines[i] = state.isUnderlineText();
+            strikeThroughs[i] = state.isStrikeThruText();
+        }
+        GSLayoutDecorations decorations = new GSLayoutDecorations();
+        Paint lastBackground = null;
+        for (int i = 0; i < spanCount; ++i) {
+            if (rects[i] != null && backgrounds[i] != 0) {
+                // Spans of the same color share the paint
+                if (lastBackground == null || lastBackground.getColor() != backgrounds[i]) {
+                    lastBackground = new Paint();
+                    lastBackground.setAntiAlias(true);
+                    lastBackground.setStyle(Paint.Style.FILL);
+                    lastBackground.setColor(backgrounds[i]);
+                }
+                RectF rect = rects[i];
+                decorations.add(rect.left, rect.top, rect.right, rect.bottom, lastBackground);
+            }
+        }
+        decorations.backgroundCount = decorations.count;
+        for (int i = 0; i < spanCount; ++i) {
+            if (rects[i] != null && underlines[i]) {
+                RectF rect = rects[i];
+                if (glyphs.vertical) {
+                    decorations.add(rect.left, rect.top, rect.left, rect.bottom, linePaint);
+                } else {
+                    float lineY = rect.bottom / 2;
+                    decorations.add(rect.left, lineY, rect.right, lineY, linePaint);
+                }
+            }
+        }
+        decorations.underlineCount = decorations.count - decorations.backgroundCount;
+        for (int i = 0; i < spanCount; ++i) {
+            if (rects[i] != null && strikeThroughs[i]) {
+                RectF rect = rects[i];
+                if (glyphs.vertical) {
+                    float lineX = (rect.left + rect.right) / 2;
+                    decorations.add(lineX, rect.top, lineX, rect.bottom, linePaint);
+                } else {
+                    float lineY = (rect.top + rect.bottom) / 3;
+                    decorations.add(rect.left, lineY, rect.right, lineY, linePaint);
+                }
+            }
+        }
+        return decorations.count > 0 ? decorations : EMPTY;
+    }
+
+    // Backgrounds and underlines
+    void drawBelowText(Canvas canvas, float originX, float originY) {
+        int underlineEnd = backgroundCount + underlineCount;
+        for (int i = 0, g = 0; i < underlineEnd; ++i, g += 4) {
+            if (i < backgroundCount) {
+                canvas.drawRect(originX + geometry[g], originY + geometry[g + 1],
+                        originX + geometry[g + 2], originY + geometry[g + 3], paints[i]);
+            } else {
+                canvas.drawLine(originX + geometry[g], originY + geometry[g + 1],
+                        originX + geometry[g + 2], originY + geometry[g + 3], paints[i]);
+            }
+        }
+    }
+
+    // Strike throughs
+    void drawAboveText(Canvas canvas, float originX, float originY) {
+        for (int i = backgroundCount + underlineCount, g = i * 4; i < count; ++i, g += 4) {
+            canvas.drawLine(originX + geometry[g], originY + geometry[g + 1],
+                    originX + geometry[g + 2], originY + geometry[g + 3], paints[i]);
+        }
+    }
+
+    private void add(float x0, float y0, float x1, float y1, Paint paint) {
+        if (count == paints.length) {
+            int capacity = Math.max(4, count * 2);
+            geometry = Arrays.copyOf(geometry, capacity * 4);
+            paints = Arrays.copyOf(paints, capacity);
+        }
+        int g = count * 4;
+        geometry[g] = x0;
+        geometry[g + 1] = y0;
+        geometry[g + 2] = x1;
+        geometry[g + 3] = y1;
+        paints[count] = paint;
+        ++count;
+    }
+}
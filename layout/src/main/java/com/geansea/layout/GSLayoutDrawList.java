@@ -0,0 +1,120 @@
+package com.geansea.layout;
+
+import android.graphics.Canvas;
+
+import java.util.Arrays;
+
+// Glyphs of a line grouped into runs of the same paint and orientation, each run is drawn by one call.
+// Runs of single char glyphs are drawn by drawPosText(), a glyph of more chars is a run drawn by drawText().
+// Positions are rounded as glyphs are placed one by one, and are kept until the origin changes.
+final class GSLayoutDrawList {
+    private final GSLayoutGlyphRun glyphs;
+    private int runCount;
+    // Glyph index of each run start, runStarts[runCount] is the glyph count
+    private int[] runStarts;
+    private boolean[] runRotated;
+    private boolean[] runPositioned;
+    // Positions of the run glyphs, x and y for each, in the rotated canvas for rotated runs
+    private float[][] runPositions;
+    private float positionsX = Float.NaN;
+    private float positionsY = Float.NaN;
+
+    GSLayoutDrawList(GSLayoutGlyphRun glyphs) {
+        this.glyphs = glyphs;
+        runStarts = new int[8];
+        runRotated = new boolean[8];
+        runPositioned = new boolean[8];
+        for (int i = 0; i < glyphs.count; ) {
+            int runEnd = i + 1;
+            boolean positioned = isSingleChar(i);
+            if (positioned) {
+                while (runEnd < glyphs.count
+                        && isSingleChar(runEnd)
+                        && glyphs.paint[runEnd] == glyphs.paint[i]
+                        && glyphs.rotateForVertical[runEnd] == glyphs.rotateForVertical[i]
+                        && glyphs.start[runEnd] == glyphs.end[runEnd - 1]) {
+                    ++runEnd;
+                }
+            }
+            addRun(i, glyphs.rotateForVertical[i], positioned);
+            i = runEnd;
+        }
+        runStarts[runCount] = glyphs.count;
+        runPositions = new float[runCount][];
+        for (int r = 0; r < runCount; ++r) {
+            runPositions[r] = new float[2 * (runStarts[r + 1] - runStarts[r])];
+        }
+    }
+
+    int getRunCount() {
+        return runCount;
+    }
+
+    // Draw glyphs of the line at origin, rotated runs in a row share one canvas transform
+    void draw(Canvas canvas, float originX, float originY) {
+        if (originX != positionsX || originY != positionsY) {
+            updatePositions(originX, originY);
+        }
+        boolean rotated = false;
+        for (int r = 0; r < runCount; ++r) {
+            if (runRotated[r] != rotated) {
+                if (rotated) {
+                    canvas.restore();
+                } else {
+                    canvas.save();
+                    canvas.rotate(90);
+                }
+                rotated = runRotated[r];
+            }
+            int first = runStarts[r];
+            int charIndex = glyphs.start[first] - glyphs.charsStart;
+            int charCount = glyphs.end[runStarts[r + 1] - 1] - glyphs.start[first];
+            float[] positions = runPositions[r];
+            if (runPositioned[r]) {
+                canvas.drawPosText(glyphs.chars, charIndex, charCount, positions, glyphs.paint[first]);
+            } else {
+                canvas.drawText(glyphs.chars, charIndex, charCount, positions[0], positions[1], glyphs.paint[first]);
+            }
+        }
+        if (rotated) {
+            canvas.restore();
+        }
+    }
+
+    private void updatePositions(float originX, float originY) {
+        for (int r = 0; r < runCount; ++r) {
+            float[] positions = runPositions[r];
+            for (int i = runStarts[r], p = 0; i < runStarts[r + 1]; ++i, p += 2) {
+                float glyphX = Math.round(originX + glyphs.getDrawX(i));
+                float glyphY = Math.round(originY + glyphs.getDrawY(i));
+                if (runRotated[r]) {
+                    // Canvas rotated by 90 degrees maps (x, y) to (-y, x)
+                    positions[p] = glyphY;
+                    positions[p + 1] = -glyphX;
+                } else {
+                    positions[p] = glyphX;
+                    positions[p + 1] = glyphY;
+                }
+            }
+        }
+        positionsX = originX;
+        positionsY = originY;
+    }
+
+    private boolean isSingleChar(int index) {
+        return glyphs.end[index] - glyphs.start[index] == 1;
+    }
+
+    private void addRun(int start, boolean rotated, boolean positioned) {
+        if (runCount + 1 >= runStarts.length) {
+            int capacity = runStarts.length * 2;
+            runStarts = Arrays.copyOf(runStarts, capacity);
+            runRotated = Arrays.copyOf(runRotated, capacity);
+            runPositioned = Arrays.copyOf(runPositioned, capacity);
+        }
+        runStarts[runCount] = start;
+        runRotated[runCount] = rotated;
+        runPositioned[runCount] = positioned;
+        ++runCount;
+    }
+}
@@ -6,7 +6,9 @@ import android.text.TextPaint;
 public class GSLayoutGlyph {
     int start;
     int end;
-    String text;
+    // Text buffer shared by glyphs of the line, indexed by (offset - charsStart)
+    char[] chars;
+    int charsStart;
     TextPaint paint;
     float x;
     float y;
@@ -19,26 +21,25 @@ public class GSLayoutGlyph {
     boolean rotateForVertical;
 
     public RectF getUsedRect() {
-        RectF rect;
+        RectF rect = new RectF();
+        getUsedRect(rect);
+        return rect;
+    }
+
+    public void getUsedRect(RectF out) {
         if (rotateForVertical) {
-            rect = new RectF(-descent, compressStart, ascent, size - compressEnd);
+            out.set(-descent, compressStart, ascent, size - compressEnd);
         } else if (vertical) {
-            rect = new RectF(0, -ascent + compressStart, size, descent - compressEnd);
+            out.set(0, -ascent + compressStart, size, descent - compressEnd);
         } else {
-            rect = new RectF(compressStart, -ascent, size - compressEnd, descent);
+            out.set(compressStart, -ascent, size - compressEnd, descent);
         }
-        rect.offset(getDrawX(), getDrawY());
-        return rect;
+        out.offset(getDrawX(), getDrawY());
     }
 
     GSLayoutGlyph() {
     }
 
-    char code() {
-        // Use UTF-16 code to handle attributes
-        return text.charAt(0);
-    }
-
     float getDrawX() {
         return vertical ? (x - paint.baselineShift) : x;
     }
@@ -46,31 +47,4 @@ public class GSLayoutGlyph {
     float getDrawY() {
         return vertical ? y : (y + paint.baselineShift);
     }
-
-    boolean isFullSize() {
-        return (size >= paint.getTextSize() * 0.9);
-    }
-
-    boolean isItalic() {
-        return (!vertical || rotateForVertical) && paint.getTypeface().isItalic();
-    }
-
-    float getEndPos() {
-        return vertical ? getRect().bottom : getRect().right;
-    }
-
-    float getUsedEndPos() {
-        return vertical ? getUsedRect().bottom : getUsedRect().right;
-    }
-
-    private RectF getRect() {
-        RectF rect;
-        if (rotateForVertical) {
-            rect = new RectF(-descent, 0, ascent, size);
-        } else {
-            rect = new RectF(0, -ascent, size, descent);
-        }
-        rect.offset(getDrawX(), getDrawY());
-        return rect;
-    }
 }
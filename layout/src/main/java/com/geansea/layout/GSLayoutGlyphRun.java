@@ -0,0 +1,238 @@
+package com.geansea.layout;
+
+import android.graphics.RectF;
+import android.text.TextPaint;
+
+import java.util.Arrays;
+
+final class GSLayoutGlyphRun {
+    final boolean vertical;
+    // Glyph text, indexed by (offset - charsStart)
+    char[] chars;
+    int charsStart;
+    int count;
+    int[] start;
+    int[] end;
+    TextPaint[] paint;
+    float[] x;
+    float[] y;
+    float[] ascent;
+    float[] descent;
+    float[] size;
+    float[] compressStart;
+    float[] compressEnd;
+    boolean[] rotateForVertical;
+    // Line break class of GSLineBreaker
+    byte[] breakClass;
+
+    GSLayoutGlyphRun(boolean vertical, char[] chars, int charsStart, int capacity) {
+        this.vertical = vertical;
+        this.chars = chars;
+        this.charsStart = charsStart;
+        capacity = Math.max(capacity, 1);
+        start = new int[capacity];
+        end = new int[capacity];
+        paint = new TextPaint[capacity];
+        x = new float[capacity];
+        y = new float[capacity];
+        ascent = new float[capacity];
+        descent = new float[capacity];
+        size = new float[capacity];
+        compressStart = new float[capacity];
+        compressEnd = new float[capacity];
+        rotateForVertical = new boolean[capacity];
+        breakClass = new byte[capacity];
+    }
+
+    // Glyphs with offsets moved by delta, arrays other than offsets are shared
+    GSLayoutGlyphRun copy(int delta) {
+        GSLayoutGlyphRun run = new GSLayoutGlyphRun(this, charsStart + delta);
+        for (int i = 0; i < count; ++i) {
+            run.start[i] = start[i] + delta;
+            run.end[i] = end[i] + delta;
+        }
+        return run;
+    }
+
+    private GSLayoutGlyphRun(GSLayoutGlyphRun other, int charsStart) {
+        vertical = other.vertical;
+        chars = other.chars;
+        this.charsStart = charsStart;
+        count = other.count;
+        start = new int[other.start.length];
+        end = new int[other.end.length];
+        paint = other.paint;
+        x = other.x;
+        y = other.y;
+        ascent = other.ascent;
+        descent = other.descent;
+        size = other.size;
+        compressStart = other.compressStart;
+        compressEnd = other.compressEnd;
+        rotateForVertical = other.rotateForVertical;
+        breakClass = other.breakClass;
+    }
+
+    int add(int offset, TextPaint glyphPaint) {
+        if (count == start.length) {
+            grow(count * 2);
+        }
+        int index = count++;
+        start[index] = offset;
+        end[index] = offset + 1;
+        paint[index] = glyphPaint;
+        compressStart[index] = 0;
+        compressEnd[index] = 0;
+        rotateForVertical[index] = false;
+        return index;
+    }
+
+    void truncate(int newCount) {
+        for (int i = newCount; i < count; ++i) {
+            paint[i] = null;
+        }
+        count = Math.min(count, newCount);
+    }
+
+    void removeFirst(int n) {
+        int newCount = count - n;
+        System.arraycopy(start, n, start, 0, newCount);
+        System.arraycopy(end, n, end, 0, newCount);
+        System.arraycopy(paint, n, paint, 0, newCount);
+        System.arraycopy(x, n, x, 0, newCount);
+        System.arraycopy(y, n, y, 0, newCount);
+        System.arraycopy(ascent, n, ascent, 0, newCount);
+        System.arraycopy(descent, n, descent, 0, newCount);
+        System.arraycopy(size, n, size, 0, newCount);
+        System.arraycopy(compressStart, n, compressStart, 0, newCount);
+        System.arraycopy(compressEnd, n, compressEnd, 0, newCount);
+        System.arraycopy(rotateForVertical, n, rotateForVertical, 0, newCount);
+        System.arraycopy(breakClass, n, breakClass, 0, newCount);
+        truncate(newCount);
+    }
+
+    char code(int index) {
+        // Use UTF-16 code to handle attributes
+        return chars[start[index] - charsStart];
+    }
+
+    int codePoint(int index) {
+        char code = chars[start[index] - charsStart];
+        if (Character.isHighSurrogate(code)) {
+            return Character.codePointAt(chars, start[index] - charsStart, end[index] - charsStart);
+        }
+        return code;
+    }
+
+    float getDrawX(int index) {
+        return vertical ? (x[index] - paint[index].baselineShift) : x[index];
+    }
+
+    float getDrawY(int index) {
+        return vertical ? y[index] : (y[index] + paint[index].baselineShift);
+    }
+
+    boolean isFullSize(int index) {
+        return (size[index] >= paint[index].getTextSize() * 0.9);
+    }
+
+    boolean isItalic(int index) {
+        return (!vertical || rotateForVertical[index]) && paint[index].getTypeface().isItalic();
+    }
+
+    float getEndPos(int index) {
+        if (rotateForVertical[index]) {
+            return size[index] + getDrawY(index);
+        } else if (vertical) {
+            return descent[index] + getDrawY(index);
+        } else {
+            return size[index] + getDrawX(index);
+        }
+    }
+
+    float getUsedStartPos(int index) {
+        return vertical ? getUsedTop(index) : getUsedLeft(index);
+    }
+
+    float getUsedEndPos(int index) {
+        return vertical ? getUsedBottom(index) : getUsedRight(index);
+    }
+
+    float getUsedLeft(int index) {
+        if (rotateForVertical[index]) {
+            return -descent[index] + getDrawX(index);
+        } else if (vertical) {
+            return getDrawX(index);
+        } else {
+            return compressStart[index] + getDrawX(index);
+        }
+    }
+
+    float getUsedTop(int index) {
+        if (rotateForVertical[index]) {
+            return compressStart[index] + getDrawY(index);
+        } else if (vertical) {
+            return (-ascent[index] + compressStart[index]) + getDrawY(index);
+        } else {
+            return -ascent[index] + getDrawY(index);
+        }
+    }
+
+    float getUsedRight(int index) {
+        if (rotateForVertical[index]) {
+            return ascent[index] + getDrawX(index);
+        } else if (vertical) {
+            return size[index] + getDrawX(index);
+        } else {
+            return (size[index] - compressEnd[index]) + getDrawX(index);
+        }
+    }
+
+    float getUsedBottom(int index) {
+        if (rotateForVertical[index]) {
+            return (size[index] - compressEnd[index]) + getDrawY(index);
+        } else if (vertical) {
+            return (descent[index] - compressEnd[index]) + getDrawY(index);
+        } else {
+            return descent[index] + getDrawY(index);
+        }
+    }
+
+    void getUsedRect(int index, RectF out) {
+        out.set(getUsedLeft(index), getUsedTop(index), getUsedRight(index), getUsedBottom(index));
+    }
+
+    GSLayoutGlyph getGlyph(int index) {
+        GSLayoutGlyph glyph = new GSLayoutGlyph();
+        glyph.start = start[index];
+        glyph.end = end[index];
+        glyph.chars = chars;
+        glyph.charsStart = charsStart;
+        glyph.paint = paint[index];
+        glyph.x = x[index];
+        glyph.y = y[index];
+        glyph.ascent = ascent[index];
+        glyph.descent = descent[index];
+        glyph.size = size[index];
+        glyph.compressStart = compressStart[index];
+        glyph.compressEnd = compressEnd[index];
+        glyph.vertical = vertical;
+        glyph.rotateForVertical = rotateForVertical[index];
+        return glyph;
+    }
+
+    private void grow(int capacity) {
+        start = Arrays.copyOf(start, capacity);
+        end = Arrays.copyOf(end, capacity);
+        paint = Arrays.copyOf(paint, capacity);
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        ascent = Arrays.copyOf(ascent, capacity);
+        descent = Arrays.copyOf(descent, capacity);
+        size = Arrays.copyOf(size, capacity);
+        compressStart = Arrays.copyOf(compressStart, capacity);
+        compressEnd = Arrays.copyOf(compressEnd, capacity);
+        rotateForVertical = Arrays.copyOf(rotateForVertical, capacity);
+        breakClass = Arrays.copyOf(breakClass, capacity);
+    }
+}
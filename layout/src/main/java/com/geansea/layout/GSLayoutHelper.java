@@ -3,6 +3,7 @@ package com.geansea.layout;
 import android.graphics.RectF;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 public final class GSLayoutHelper {
@@ -15,34 +16,28 @@ public final class GSLayoutHelper {
         if (!(start <= position && position < end)) {
             return -1;
         }
-        // Guess
-        int glyphIndex = position - start;
-        GSLayoutGlyph glyph = glyphs.get(glyphIndex);
-        // Fix
-        if (glyph.end <= position) {
-            for (++glyphIndex; glyphIndex < glyphs.size(); ++glyphIndex) {
-                glyph = glyphs.get(glyphIndex);
-                if (glyph.start <= position && position < glyph.end) {
-                    break;
-                }
-            }
-        } else if (position < glyph.start) {
-            for (--glyphIndex; glyphIndex >= 0; --glyphIndex) {
-                glyph = glyphs.get(glyphIndex);
-                if (glyph.start <= position && position < glyph.end) {
-                    break;
-                }
+        // Last glyph starting at or before position
+        int low = 0;
+        int high = glyphs.size() - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (glyphs.get(mid).start <= position) {
+                low = mid;
+            } else {
+                high = mid - 1;
             }
         }
-        return glyphIndex;
+        return low;
     }
 
     public static RectF getRect(ArrayList<GSLayoutGlyph> glyphs, int glyphIndexStart, int glyphIndexEnd, boolean vertical) {
         if (!(0 <= glyphIndexStart && glyphIndexStart < glyphIndexEnd && glyphIndexEnd <= glyphs.size())) {
             return null;
         }
-        RectF startRect = glyphs.get(glyphIndexStart).getUsedRect();
-        RectF endRect = glyphs.get(glyphIndexEnd - 1).getUsedRect();
+        RectF startRect = new RectF();
+        RectF endRect = new RectF();
+        glyphs.get(glyphIndexStart).getUsedRect(startRect);
+        glyphs.get(glyphIndexEnd - 1).getUsedRect(endRect);
         float ascent = getGlyphsMaxAscent(glyphs.subList(glyphIndexStart, glyphIndexEnd), vertical);
         float descent = getGlyphsMaxDescent(glyphs.subList(glyphIndexStart, glyphIndexEnd), vertical);
         if (vertical) {
@@ -52,25 +47,84 @@ public final class GSLayoutHelper {
         }
     }
 
-    static float getGlyphsMaxAscent(List<GSLayoutGlyph> glyphs, boolean vertical) {
+    static int getGlyphIndexWithPosition(GSLayoutGlyphRun glyphs, int position) {
+        if (glyphs.count == 0) {
+            return -1;
+        }
+        int start = glyphs.start[0];
+        int end = glyphs.end[glyphs.count - 1];
+        if (!(start <= position && position < end)) {
+            return -1;
+        }
+        // Last glyph starting at or before position
+        int glyphIndex = Arrays.binarySearch(glyphs.start, 0, glyphs.count, position);
+        return glyphIndex >= 0 ? glyphIndex : -glyphIndex - 2;
+    }
+
+    // First glyph used beyond pos along the line, the last glyph if none
+    static int getGlyphIndexWithPos(GSLayoutGlyphRun glyphs, float pos) {
+        int low = 0;
+        int high = glyphs.count - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (glyphs.getUsedEndPos(mid) > pos) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    static boolean getRect(GSLayoutGlyphRun glyphs, int glyphIndexStart, int glyphIndexEnd, RectF out) {
+        if (!(0 <= glyphIndexStart && glyphIndexStart < glyphIndexEnd && glyphIndexEnd <= glyphs.count)) {
+            return false;
+        }
+        float ascent = getGlyphsMaxAscent(glyphs, glyphIndexStart, glyphIndexEnd);
+        float descent = getGlyphsMaxDescent(glyphs, glyphIndexStart, glyphIndexEnd);
+        if (glyphs.vertical) {
+            out.set(-descent, glyphs.getUsedTop(glyphIndexStart), ascent, glyphs.getUsedBottom(glyphIndexEnd - 1));
+        } else {
+            out.set(glyphs.getUsedLeft(glyphIndexStart), -ascent, glyphs.getUsedRight(glyphIndexEnd - 1), descent);
+        }
+        return true;
+    }
+
+    static float getGlyphsMaxAscent(GSLayoutGlyphRun glyphs, int glyphIndexStart, int glyphIndexEnd) {
         float ascent = 0;
-        if (glyphs == null || glyphs.size() == 0) {
-            return ascent;
+        for (int i = glyphIndexStart; i < glyphIndexEnd; ++i) {
+            float glyphAscent = glyphs.vertical ? glyphs.getUsedRight(i) : -glyphs.getUsedTop(i);
+            ascent = Math.max(ascent, glyphAscent);
+        }
+        return ascent;
+    }
+
+    static float getGlyphsMaxDescent(GSLayoutGlyphRun glyphs, int glyphIndexStart, int glyphIndexEnd) {
+        float descent = 0;
+        for (int i = glyphIndexStart; i < glyphIndexEnd; ++i) {
+            float glyphDescent = glyphs.vertical ? -glyphs.getUsedLeft(i) : glyphs.getUsedBottom(i);
+            descent = Math.max(descent, glyphDescent);
         }
+        return descent;
+    }
+
+    private static float getGlyphsMaxAscent(List<GSLayoutGlyph> glyphs, boolean vertical) {
+        float ascent = 0;
+        RectF rect = new RectF();
         for (GSLayoutGlyph glyph : glyphs) {
-            float glyphAscent = vertical ? glyph.getUsedRect().right : -glyph.getUsedRect().top;
+            glyph.getUsedRect(rect);
+            float glyphAscent = vertical ? rect.right : -rect.top;
             ascent = Math.max(ascent, glyphAscent);
         }
         return ascent;
     }
 
-    static float getGlyphsMaxDescent(List<GSLayoutGlyph> glyphs, boolean vertical) {
+    private static float getGlyphsMaxDescent(List<GSLayoutGlyph> glyphs, boolean vertical) {
         float descent = 0;
-        if (glyphs == null || glyphs.size() == 0) {
-            return descent;
-        }
+        RectF rect = new RectF();
         for (GSLayoutGlyph glyph : glyphs) {
-            float glyphDescent = vertical ? -glyph.getUsedRect().left : glyph.getUsedRect().bottom;
+            glyph.getUsedRect(rect);
+            float glyphDescent = vertical ? -rect.left : rect.bottom;
             descent = Math.max(descent, glyphDescent);
         }
         return descent;
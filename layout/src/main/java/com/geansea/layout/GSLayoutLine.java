@@ -1,23 +1,16 @@
 package com.geansea.layout;
 
 import android.graphics.Canvas;
-import android.graphics.Paint;
 import android.graphics.PointF;
 import android.graphics.RectF;
-import android.text.Spanned;
-import android.text.style.BackgroundColorSpan;
-import android.text.style.CharacterStyle;
-import android.text.style.StrikethroughSpan;
-import android.text.style.UnderlineSpan;
 
 import java.util.ArrayList;
-import java.util.LinkedList;
 
 public class GSLayoutLine {
     private CharSequence text;
     private int start;
     private int end;
-    private LinkedList<GSLayoutGlyph> glyphs;
+    private GSLayoutGlyphRun glyphs;
     private float originX;
     private float originY;
     private float ascent;
@@ -26,6 +19,10 @@ public class GSLayoutLine {
     private boolean vertical;
     private boolean isParaStart;
     private boolean isParaEnd;
+    private GSLayoutDecorations decorations = GSLayoutDecorations.EMPTY;
+    private GSLayoutDrawList drawList;
+    // Layout measuring glyphs again after they are released, null if they are kept
+    private GSLayout source;
 
     public CharSequence getText() {
         return text;
@@ -43,173 +40,172 @@ public class GSLayoutLine {
         return new PointF(originX, originY);
     }
 
+    public float getOriginX() {
+        return originX;
+    }
+
+    public float getOriginY() {
+        return originY;
+    }
+
     public void setOrigin(PointF origin) {
-        originX = origin.x;
-        originY = origin.y;
+        setOrigin(origin.x, origin.y);
+    }
+
+    public void setOrigin(float x, float y) {
+        originX = x;
+        originY = y;
     }
 
     public RectF getUsedRect() {
+        RectF rect = new RectF();
+        getUsedRect(rect);
+        return rect;
+    }
+
+    public void getUsedRect(RectF out) {
         if (vertical) {
-            return new RectF(originX - descent, originY, originX + ascent, originY + size);
+            out.set(originX - descent, originY, originX + ascent, originY + size);
         } else {
-            return new RectF(originX, originY - ascent, originX + size, originY + descent);
+            out.set(originX, originY - ascent, originX + size, originY + descent);
         }
     }
 
     public ArrayList<GSLayoutGlyph> getGlyphs() {
-        return new ArrayList<>(glyphs);
+        GSLayoutGlyphRun glyphs = getGlyphRun();
+        ArrayList<GSLayoutGlyph> glyphList = new ArrayList<>(glyphs.count);
+        for (int i = 0; i < glyphs.count; ++i) {
+            glyphList.add(glyphs.getGlyph(i));
+        }
+        return glyphList;
     }
 
     public void draw(Canvas canvas) {
+        GSLayoutGlyphRun glyphs = getGlyphRun();
+        GSLayoutDecorations decorations = this.decorations;
         // Decoration below text
-        drawBackgroundColor(canvas);
-        drawUnderline(canvas);
-        // Text
-        for (GSLayoutGlyph glyph : glyphs) {
-            float glyphX = Math.round(originX + glyph.getDrawX());
-            float glyphY = Math.round(originY + glyph.getDrawY());
-            if (glyph.rotateForVertical) {
-                canvas.save();
-                canvas.translate(glyphX, glyphY);
-                canvas.rotate(90);
-                canvas.drawText(glyph.text, 0, 0, glyph.paint);
-                canvas.restore();
-            } else {
-                canvas.drawText(glyph.text, glyphX, glyphY, glyph.paint);
-            }
+        decorations.drawBelowText(canvas, originX, originY);
+        // Text, runs are grouped on first draw
+        GSLayoutDrawList drawList = this.drawList;
+        if (drawList == null) {
+            drawList = new GSLayoutDrawList(glyphs);
+            this.drawList = drawList;
         }
+        drawList.draw(canvas, originX, originY);
         // Decoration above text
-        drawStrikeThrough(canvas);
+        decorations.drawAboveText(canvas, originX, originY);
     }
 
     GSLayoutLine(CharSequence text,
-                 LinkedList<GSLayoutGlyph> glyphs,
-                 PointF origin,
+                 GSLayoutGlyphRun glyphs,
+                 float originX,
+                 float originY,
                  boolean vertical,
                  boolean isParaStart,
-                 boolean isParaEnd) {
-        if (glyphs.size() > 0) {
-            GSLayoutGlyph first = glyphs.getFirst();
-            GSLayoutGlyph last = glyphs.getLast();
+                 boolean isParaEnd,
+                 GSLayoutDecorations decorations) {
+        if (glyphs.count > 0) {
+            int last = glyphs.count - 1;
             this.text = text;
-            start = first.start;
-            end = last.end;
+            start = glyphs.start[0];
+            end = glyphs.end[last];
             this.glyphs = glyphs;
-            originX = origin.x;
-            originY = origin.y;
-            ascent = GSLayoutHelper.getGlyphsMaxAscent(glyphs, vertical);
-            descent = GSLayoutHelper.getGlyphsMaxDescent(glyphs, vertical);
-            size = vertical ? last.getUsedRect().bottom : last.getUsedRect().right;
+            this.originX = originX;
+            this.originY = originY;
+            ascent = GSLayoutHelper.getGlyphsMaxAscent(glyphs, 0, glyphs.count);
+            descent = GSLayoutHelper.getGlyphsMaxDescent(glyphs, 0, glyphs.count);
+            size = glyphs.getUsedEndPos(last);
             this.vertical = vertical;
             this.isParaStart = isParaStart;
             this.isParaEnd = isParaEnd;
+            this.decorations = decorations;
         }
     }
 
-    boolean isParaStart() {
-        return isParaStart;
+    // Glyphs of the line, measured again by the source layout if released
+    GSLayoutGlyphRun getGlyphRun() {
+        GSLayoutGlyphRun glyphs = this.glyphs;
+        if (glyphs == null) {
+            glyphs = source.restoreGlyphs(this);
+        }
+        return glyphs;
     }
 
-    boolean isParaEnd() {
-        return isParaEnd;
+    boolean hasGlyphs() {
+        return glyphs != null;
     }
 
-    private void drawBackgroundColor(Canvas canvas) {
-        if (!(text instanceof Spanned)) {
-            return;
-        }
-        Spanned spanned = (Spanned) text;
-        BackgroundColorSpan[] spans = spanned.getSpans(start, end, BackgroundColorSpan.class);
-        if (spans == null || spans.length == 0) {
-            return;
-        }
-        Paint paint = new Paint();
-        paint.setAntiAlias(true);
-        paint.setStyle(Paint.Style.FILL);
-        for (BackgroundColorSpan span : spans) {
-            RectF spanRect = getRect(span);
-            if (spanRect == null) {
-                continue;
-            }
-            spanRect.offset(originX, originY);
-            paint.setColor(span.getBackgroundColor());
-            canvas.drawRect(spanRect, paint);
-        }
+    GSLayoutDecorations getDecorations() {
+        getGlyphRun();
+        return decorations;
     }
 
-    private void drawUnderline(Canvas canvas) {
-        if (!(text instanceof Spanned)) {
-            return;
-        }
-        Spanned spanned = (Spanned) text;
-        UnderlineSpan[] spans = spanned.getSpans(start, end, UnderlineSpan.class);
-        if (spans == null || spans.length == 0) {
-            return;
-        }
-        Paint paint = new Paint();
-        paint.setAntiAlias(true);
-        paint.setStyle(Paint.Style.STROKE);
-        paint.setStrokeWidth(2); // TODO
-        paint.setARGB(0xFF, 0, 0, 0); // TODO
-        for (UnderlineSpan span : spans) {
-            RectF spanRect = getRect(span);
-            if (spanRect == null) {
-                continue;
-            }
-            spanRect.offset(originX, originY);
-            if (vertical) {
-                float lineX = spanRect.left;
-                canvas.drawLine(lineX, spanRect.top, lineX, spanRect.bottom, paint);
-            } else {
-                float lineY = (spanRect.bottom + originY) / 2;
-                canvas.drawLine(spanRect.left, lineY, spanRect.right, lineY, paint);
-            }
-        }
+    // Keep only metrics of the line, glyphs are measured again by source when needed
+    void releaseGlyphs(GSLayout source) {
+        this.source = source;
+        glyphs = null;
+        decorations = null;
+        drawList = null;
     }
 
-    private void drawStrikeThrough(Canvas canvas) {
-        if (!(text instanceof Spanned)) {
-            return;
-        }
-        Spanned spanned = (Spanned) text;
-        StrikethroughSpan[] spans = spanned.getSpans(start, end, StrikethroughSpan.class);
-        if (spans == null || spans.length == 0) {
-            return;
-        }
-        Paint paint = new Paint();
-        paint.setAntiAlias(true);
-        paint.setStyle(Paint.Style.STROKE);
-        paint.setStrokeWidth(2); // TODO
-        paint.setARGB(0xFF, 0, 0, 0); // TODO
-        for (StrikethroughSpan span : spans) {
-            RectF spanRect = getRect(span);
-            if (spanRect == null) {
-                continue;
-            }
-            spanRect.offset(originX, originY);
-            if (vertical) {
-                float lineX = (spanRect.left + spanRect.right) / 2;
-                canvas.drawLine(lineX, spanRect.top, lineX, spanRect.bottom, paint);
-            } else {
-                float lineY = (spanRect.top + spanRect.bottom + originY) / 3;
-                canvas.drawLine(spanRect.left, lineY, spanRect.right, lineY, paint);
-            }
-        }
+    // Take glyphs of the same line measured again, returns the glyphs
+    GSLayoutGlyphRun setGlyphs(GSLayoutLine line) {
+        decorations = line.decorations;
+        glyphs = line.glyphs;
+        return line.glyphs;
+    }
+
+    // Same line of text with offsets moved by delta, not yet placed across lines
+    GSLayoutLine copy(CharSequence text, int delta) {
+        GSLayoutGlyphRun glyphs = getGlyphRun();
+        GSLayoutDecorations decorations = this.decorations;
+        GSLayoutGlyphRun run = (delta != 0) ? glyphs.copy(delta) : glyphs;
+        float x = vertical ? 0 : originX;
+        float y = vertical ? originY : 0;
+        return new GSLayoutLine(text, run, x, y, vertical, isParaStart, isParaEnd, decorations);
+    }
+
+    // Position across lines, increasing in line order, y for horizontal and -x for vertical
+    float getCrossPos() {
+        return vertical ? -originX : originY;
+    }
+
+    float getAscent() {
+        return ascent;
+    }
+
+    float getDescent() {
+        return descent;
     }
 
-    private RectF getRect(CharacterStyle span) {
-        if (!(text instanceof Spanned)) {
-            return null;
+    // Offset at the glyph edge nearest to pos along the line, kept before the newline
+    int getOffsetForPos(float pos) {
+        GSLayoutGlyphRun glyphs = getGlyphRun();
+        float linePos = pos - (vertical ? originY : originX);
+        int index = GSLayoutHelper.getGlyphIndexWithPos(glyphs, linePos);
+        float glyphCenter = (glyphs.getUsedStartPos(index) + glyphs.getUsedEndPos(index)) / 2;
+        if (linePos < glyphCenter || GSCharUtils.isNewline(glyphs.chars[glyphs.start[index] - glyphs.charsStart])) {
+            return glyphs.start[index];
         }
-        Spanned spanned = (Spanned) text;
-        int spanStart = Math.max(spanned.getSpanStart(span), start);
-        int spanEnd = Math.min(spanned.getSpanEnd(span), end);
-        if (spanStart >= spanEnd) {
-            return null;
+        return glyphs.end[index];
+    }
+
+    // Position along the line before the glyph at offset, or after the last glyph for the line end
+    float getPosForOffset(int offset) {
+        GSLayoutGlyphRun glyphs = getGlyphRun();
+        float originPos = vertical ? originY : originX;
+        if (offset >= end) {
+            return originPos + glyphs.getUsedEndPos(glyphs.count - 1);
         }
-        ArrayList<GSLayoutGlyph> glyphs = getGlyphs();
-        int glyphStart = GSLayoutHelper.getGlyphIndexWithPosition(glyphs, spanStart);
-        int glyphEnd = GSLayoutHelper.getGlyphIndexWithPosition(glyphs, spanEnd - 1) + 1;
-        return GSLayoutHelper.getRect(glyphs, glyphStart, glyphEnd, vertical);
+        int index = GSLayoutHelper.getGlyphIndexWithPosition(glyphs, Math.max(offset, start));
+        return originPos + glyphs.getUsedStartPos(index);
+    }
+
+    boolean isParaStart() {
+        return isParaStart;
+    }
+
+    boolean isParaEnd() {
+        return isParaEnd;
     }
 }
@@ -0,0 +1,245 @@
+package com.geansea.layout;
+
+import android.text.TextPaint;
+import android.text.TextUtils;
+
+import java.util.Arrays;
+
+// Measures glyphs of lines on demand, glyphs measured after a line end are kept for the next line
+final class GSLayoutMeasurer {
+    private static final int SNAPSHOT_LENGTH = 1024;
+    private static final int MEASURE_LENGTH = 32;
+
+    private final CharSequence text;
+    private final int end;
+    private final TextPaint paint;
+    private final GSStyleRuns styleRuns;
+    private final GSFontMetricsProvider provider;
+    private final GSAdvanceCache cache;
+    private final boolean vertical;
+    private final float[] verticalMetrics;
+    // Snapshot of text in [charsStart, charsEnd), replaced for vertical
+    private char[] chars;
+    private int charsStart;
+    private int charsEnd;
+    // Glyphs measured from the current line start, positions are set when added to line
+    private GSLayoutGlyphRun measured;
+    private boolean[] spanStarts;
+    private int measuredEnd;
+    private int next;
+    private float[] widths;
+    // Span at measuredEnd
+    private int spanEnd;
+    private TextPaint spanPaint;
+    private float spanAscent;
+    private float spanDescent;
+    private boolean spanHasGlyph;
+    // Width of the last measured glyph before vertical metrics, as following chars of its cluster are added
+    private float clusterWidth;
+    // Current line
+    private int lineStart;
+    private GSLayoutGlyphRun line;
+    private float linePos;
+    private float spanPos;
+
+    GSLayoutMeasurer(CharSequence text,
+                     int end,
+                     TextPaint paint,
+                     GSStyleRuns styleRuns,
+                     GSFontMetricsProvider provider,
+                     GSAdvanceCache cache,
+                     boolean vertical) {
+        this.text = text;
+        this.end = end;
+        this.paint = paint;
+        this.styleRuns = styleRuns;
+        this.provider = provider;
+        this.cache = cache;
+        this.vertical = vertical;
+        widths = new float[MEASURE_LENGTH];
+        verticalMetrics = new float[3];
+    }
+
+    // Glyphs of the new line are added by addGlyph(), starting at pos
+    GSLayoutGlyphRun startLine(int lineStart, float pos) {
+        int first = 0;
+        if (measured != null) {
+            while (first < measured.count && measured.start[first] < lineStart) {
+                ++first;
+            }
+        }
+        if (measured == null || first == measured.count || measured.start[first] != lineStart) {
+            // Not following the previous line, measure again
+            if (chars == null || lineStart < charsStart || lineStart >= charsEnd) {
+                takeSnapshot(lineStart, SNAPSHOT_LENGTH);
+            }
+            measured = new GSLayoutGlyphRun(vertical, chars, charsStart, MEASURE_LENGTH);
+            spanStarts = new boolean[MEASURE_LENGTH];
+            measuredEnd = lineStart;
+            spanEnd = lineStart;
+        } else {
+            measured.removeFirst(first);
+            System.arraycopy(spanStarts, first, spanStarts, 0, measured.count);
+        }
+        next = 0;
+        this.lineStart = lineStart;
+        // Lines are usually as long as the previous one
+        line = new GSLayoutGlyphRun(vertical, chars, charsStart, line != null ? line.count + 8 : MEASURE_LENGTH);
+        linePos = pos;
+        return line;
+    }
+
+    // Add the next glyph to line if it starts before limit, false at the end of paragraph or layout
+    boolean addGlyph(int limit) {
+        // The last measured glyph may still take following zero width chars
+        while (next + 1 >= measured.count) {
+            if (!measure()) {
+                break;
+            }
+        }
+        if (next >= measured.count || measured.start[next] >= limit) {
+            return false;
+        }
+        int i = next++;
+        int index = line.add(measured.start[i], measured.paint[i]);
+        line.end[index] = measured.end[i];
+        line.ascent[index] = measured.ascent[i];
+        line.descent[index] = measured.descent[i];
+        line.size[index] = measured.size[i];
+        line.rotateForVertical[index] = measured.rotateForVertical[i];
+        line.breakClass[index] = measured.breakClass[i];
+        float pos = (index > 0 && spanStarts[i]) ? spanPos : linePos;
+        if (!vertical) {
+            line.x[index] = pos;
+            line.y[index] = 0;
+        } else if (line.rotateForVertical[index]) {
+            line.x[index] = measured.x[i];
+            line.y[index] = pos;
+        } else {
+            line.x[index] = measured.x[i];
+            line.y[index] = pos + line.ascent[index];
+        }
+        linePos = pos + line.size[index];
+        if (next < measured.count && spanStarts[next]) {
+            spanPos = line.getEndPos(index);
+        }
+        return true;
+    }
+
+    private boolean measure() {
+        if (measuredEnd == charsEnd) {
+            if (charsEnd == end || GSCharUtils.isNewline(chars[charsEnd - charsStart - 1])) {
+                return false;
+            }
+            takeSnapshot(lineStart, Math.max(SNAPSHOT_LENGTH, charsEnd - lineStart) * 2);
+            measured.chars = chars;
+            measured.charsStart = charsStart;
+            line.chars = chars;
+            line.charsStart = charsStart;
+        }
+        int chunkStart = measuredEnd;
+        if (chunkStart >= spanEnd) {
+            startSpan(chunkStart);
+        }
+        int limit = Math.min(charsEnd, spanEnd);
+        int chunkEnd = Math.min(chunkStart + MEASURE_LENGTH, limit);
+        // Keep words and clusters in one chunk, for shaping
+        while (chunkEnd < limit && (!GSGraphemeBreaker.isBoundary(chars, 0, chunkEnd - charsStart)
+                || (isWordChar(chars[chunkEnd - 1 - charsStart]) && isWordChar(chars[chunkEnd - charsStart])))) {
+            ++chunkEnd;
+        }
+        int count = chunkEnd - chunkStart;
+        if (widths.length < count) {
+            widths = new float[count];
+        }
+        GSLayoutUtils.getTextWidths(chars, chunkStart - charsStart, count, spanPaint, provider, cache, widths);
+        float fontSize = spanPaint.getTextSize();
+        for (int i = 0; i < count; ++i) {
+            float width = widths[i];
+            int offset = chunkStart + i;
+            int last = measured.count - 1;
+            if (last >= 0 && measured.end[last] == offset && !GSGraphemeBreaker.isBoundary(chars, 0, offset - charsStart)) {
+                addToCluster(last, width);
+                continue;
+            }
+            int index = measured.add(offset, spanPaint);
+            measured.breakClass[index] = GSLineBreaker.getBreakClass(chars, offset - charsStart, charsEnd - charsStart);
+            clusterWidth = width;
+            if (vertical) {
+                GSLayoutUtils.setVerticalGlyph(measured, index, provider, fontSize, width, verticalMetrics);
+            } else {
+                measured.ascent[index] = spanAscent;
+                measured.descent[index] = spanDescent;
+                measured.size[index] = width;
+            }
+            if (spanStarts.length < measured.start.length) {
+                spanStarts = Arrays.copyOf(spanStarts, measured.start.length);
+            }
+            spanStarts[index] = !spanHasGlyph;
+            spanHasGlyph = true;
+        }
+        measuredEnd = chunkEnd;
+        return true;
+    }
+
+    // Following char of the cluster of the last glyph, which is usually measured as zero width
+    private void addToCluster(int index, float width) {
+        measured.end[index]++;
+        if (width == 0) {
+            return;
+        }
+        clusterWidth += width;
+        if (vertical) {
+            float fontSize = measured.paint[index].getTextSize();
+            GSLayoutUtils.setVerticalGlyph(measured, index, provider, fontSize, clusterWidth, verticalMetrics);
+        } else {
+            measured.size[index] = clusterWidth;
+        }
+    }
+
+    private void startSpan(int spanStart) {
+        if (styleRuns != null) {
+            spanEnd = styleRuns.getRunEnd(spanStart, end);
+            spanPaint = styleRuns.getRunPaint(spanStart);
+        } else {
+            spanEnd = end;
+            spanPaint = paint;
+        }
+        spanAscent = provider.getAscent(spanPaint);
+        spanDescent = provider.getDescent(spanPaint);
+        spanHasGlyph = false;
+    }
+
+    // Copy at most length chars from snapshotStart, stopping after a newline
+    private void takeSnapshot(int snapshotStart, int length) {
+        int snapshotEnd = snapshotStart;
+        int limit = (int) Math.min((long) snapshotStart + length, end);
+        while (snapshotEnd < limit) {
+            if (GSCharUtils.isNewline(text.charAt(snapshotEnd++))) {
+                break;
+            }
+        }
+        chars = new char[snapshotEnd - snapshotStart];
+        TextUtils.getChars(text, snapshotStart, snapshotEnd, chars, 0);
+        if (vertical) {
+            GSCharUtils.replaceTextForVertical(chars, 0, chars.length);
+        }
+        charsStart = snapshotStart;
+        charsEnd = snapshotEnd;
+    }
+
+    private static boolean isWordChar(char code) {
+        if (code >= 0x2E80) {
+            return false;
+        }
+        switch (Character.getType(code)) {
+            case Character.NON_SPACING_MARK:
+            case Character.ENCLOSING_MARK:
+            case Character.COMBINING_SPACING_MARK:
+            case Character.FORMAT:
+                return true;
+            default:
+                return Character.isLetterOrDigit(code);
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package com.geansea.layout;
+
+import android.graphics.Typeface;
+import android.text.TextPaint;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded LRU cache of broken lines per paragraph, shared by layouts built with the same settings.
+ */
+public class GSLineBreakCache {
+    private final int maxLineCount;
+    private final LinkedHashMap<Key, Paragraph> paragraphs;
+    private int lineCount;
+    private int hitCount;
+    private int missCount;
+    private int evictionCount;
+
+    public GSLineBreakCache(int maxLineCount) {
+        this.maxLineCount = maxLineCount;
+        paragraphs = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    public synchronized int getLineCount() {
+        return lineCount;
+    }
+
+    public synchronized int getParagraphCount() {
+        return paragraphs.size();
+    }
+
+    public synchronized int getHitCount() {
+        return hitCount;
+    }
+
+    public synchronized int getMissCount() {
+        return missCount;
+    }
+
+    public synchronized int getEvictionCount() {
+        return evictionCount;
+    }
+
+    public synchronized void clear() {
+        paragraphs.clear();
+        lineCount = 0;
+    }
+
+    synchronized GSLayoutLine getLine(Key key, CharSequence text, int lineStart) {
+        Paragraph paragraph = paragraphs.get(key);
+        int index = paragraph != null ? paragraph.indexOf(lineStart) : -1;
+        if (index < 0) {
+            ++missCount;
+            return null;
+        }
+        ++hitCount;
+        float originPos = paragraph.originPos[index];
+        float originX = key.vertical ? 0 : originPos;
+        float originY = key.vertical ? originPos : 0;
+        boolean isParaStart = lineStart == key.paraStart;
+        return new GSLayoutLine(text, paragraph.glyphs[index], originX, originY, key.vertical, isParaStart,
+                paragraph.paraEnds[index], paragraph.decorations[index]);
+    }
+
+    // Lines are added in order from the paragraph start, others are ignored
+    synchronized void putLine(Key key, GSLayoutLine line) {
+        Paragraph paragraph = paragraphs.get(key);
+        if (paragraph == null) {
+            if (line.getStart() != key.paraStart) {
+                return;
+            }
+            paragraph = new Paragraph();
+            paragraphs.put(key, paragraph);
+        } else if (line.getStart() != paragraph.nextStart) {
+            return;
+        }
+        float originPos = key.vertical ? line.getOriginY() : line.getOriginX();
+        paragraph.add(line.getGlyphRun(), line.getDecorations(), line.getEnd(), originPos, line.isParaEnd());
+        ++lineCount;
+        trimToSize();
+    }
+
+    private void trimToSize() {
+        Iterator<Map.Entry<Key, Paragraph>> iterator = paragraphs.entrySet().iterator();
+        while (lineCount > maxLineCount && iterator.hasNext()) {
+            Paragraph paragraph = iterator.next().getValue();
+            iterator.remove();
+            lineCount -= paragraph.count;
+            ++evictionCount;
+        }
+    }
+
+    static final class Key {
+        private final CharSequence spanned;
+        private final String content;
+        private final int paraStart;
+        private final GSFontMetricsProvider provider;
+        private final GSAdvanceCache advanceCache;
+        private final Typeface typeface;
+        private final float textSize;
+        private final float textScaleX;
+        private final float textSkewX;
+        private final int flags;
+        private final int color;
+        private final float indent;
+        private final float punctuationCompressRate;
+        private final GSLayout.Alignment textAlignment;
+        private final GSLayout.Alignment textEndAlignment;
+        private final boolean vertical;
+        private final GSLayout.BreakStrategy breakStrategy;
+        private final float pos;
+        private final float size;
+        private final int hash;
+
+        Key(CharSequence text,
+            int paraStart,
+            int paraEnd,
+            TextPaint paint,
+            GSFontMetricsProvider provider,
+            GSAdvanceCache advanceCache,
+            float indent,
+            float punctuationCompressRate,
+            GSLayout.Alignment textAlignment,
+            GSLayout.Alignment textEndAlignment,
+            boolean vertical,
+            GSLayout.BreakStrategy breakStrategy,
+            float pos,
+            float size) {
+            // Spans are not compared, so styled text is also matched by identity
+            spanned = (text instanceof String) ? null : text;
+            content = text.subSequence(paraStart, paraEnd).toString();
+            this.paraStart = paraStart;
+            this.provider = provider;
+            // Advances of single chars may differ from advances of runs by kerning
+            this.advanceCache = advanceCache;
+            typeface = paint.getTypeface();
+            textSize = paint.getTextSize();
+            textScaleX = paint.getTextScaleX();
+            textSkewX = paint.getTextSkewX();
+            flags = paint.getFlags();
+            color = paint.getColor();
+            this.indent = indent;
+            this.punctuationCompressRate = punctuationCompressRate;
+            this.textAlignment = textAlignment;
+            this.textEndAlignment = textEndAlignment;
+            this.vertical = vertical;
+            this.breakStrategy = breakStrategy;
+            this.pos = pos;
+            this.size = size;
+            hash = Arrays.hashCode(new Object[]{
+                    content, paraStart, typeface, textSize, flags, color, indent, vertical, size});
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return hash == key.hash
+                    && spanned == key.spanned
+                    && paraStart == key.paraStart
+                    && provider == key.provider
+                    && advanceCache == key.advanceCache
+                    && typeface == key.typeface
+                    && textSize == key.textSize
+                    && textScaleX == key.textScaleX
+                    && textSkewX == key.textSkewX
+                    && flags == key.flags
+                    && color == key.color
+                    && indent == key.indent
+                    && punctuationCompressRate == key.punctuationCompressRate
+                    && textAlignment == key.textAlignment
+                    && textEndAlignment == key.textEndAlignment
+                    && vertical == key.vertical
+                    && breakStrategy == key.breakStrategy
+                    && pos == key.pos
+                    && size == key.size
+                    && content.equals(key.content);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        boolean contains(int offset) {
+            return paraStart <= offset && offset < paraStart + content.length();
+        }
+    }
+
+    private static final class Paragraph {
+        int count;
+        int nextStart = -1;
+        int[] starts = new int[4];
+        GSLayoutGlyphRun[] glyphs = new GSLayoutGlyphRun[4];
+        GSLayoutDecorations[] decorations = new GSLayoutDecorations[4];
+        float[] originPos = new float[4];
+        boolean[] paraEnds = new boolean[4];
+
+        void add(GSLayoutGlyphRun run, GSLayoutDecorations lineDecorations, int end, float lineOriginPos, boolean paraEnd) {
+            if (count == starts.length) {
+                int capacity = count * 2;
+                starts = Arrays.copyOf(starts, capacity);
+                glyphs = Arrays.copyOf(glyphs, capacity);
+                decorations = Arrays.copyOf(decorations, capacity);
+                originPos = Arrays.copyOf(originPos, capacity);
+                paraEnds = Arrays.copyOf(paraEnds, capacity);
+            }
+            starts[count] = run.start[0];
+            glyphs[count] = run;
+            decorations[count] = lineDecorations;
+            originPos[count] = lineOriginPos;
+            paraEnds[count] = paraEnd;
+            ++count;
+            nextStart = end;
+        }
+
+        int indexOf(int lineStart) {
+            int index = Arrays.binarySearch(starts, 0, count, lineStart);
+            return index >= 0 ? index : -1;
+        }
+    }
+}
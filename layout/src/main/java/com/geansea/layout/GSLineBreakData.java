@@ -0,0 +1,481 @@
+package com.geansea.layout;
+
+// Generated by layout/scripts/gen_line_break_data.py from LineBreak-14.0.0.txt, do not edit
+final class GSLineBreakData {
+    // Ranges of code points by line break class and East Asian wide flag 0x40,
+    // as ((class | wide) << 5 | start >> 16, start & 0xFFFF),
+    // each range ends at the start of the next
+    static final String RANGES = ""
+            + "\u02A0\000\u0220\011\u0480\012\u0440\013\u0460\015\u02A0\016\u0420\040\300\041"
+            + "\140\042\u0180\043\u0120\044\u0140\045\u0180\046\140\047\000\050\100\051"
+            + "\u0180\052\u0120\053\u0100\054\u0200\055\u0100\056\340\057\u0160\060\u0100\072"
+            + "\u0180\074\300\077\u0180\100\000\133\u0120\134\100\135\u0180\136\000\173"
+            + "\u0220\174\040\175\u0180\176\u02A0\177\u04A0\205\u02A0\206\200\240\000\241"
+            + "\u0140\242\u0120\243\u0180\246\140\253\u0180\254\u0220\255\u0180\256\u0140\260"
+            + "\u0120\261\u0180\262\u0240\264\u0180\265\140\273\u0180\274\000\277\u0180\300"
+            + "\u0240\u02C8\u0180\u02C9\u0240\u02CC\u0180\u02CD\u0240\u02DF\u0180\u02E0\u02A0\u0300\200\u034F"
+            + "\u02A0\u0350\200\u035C\u02A0\u0363\u0180\u0370\u0980\u0378\u0180\u037A\u0100\u037E\u0180\u037F"
+            + "\u0980\u0380\u0180\u0384\u0980\u038B\u0180\u038C\u0980\u038D\u0180\u038E\u0980\u03A2\u0180\u03A3"
+            + "\u02A0\u0483\u0180\u048A\u0980\u0530\u0180\u0531\u0980\u0557\u0180\u0559\u0100\u0589\u0220\u058A"
+            + "\u0980\u058B\u0180\u058D\u0120\u058F\u0980\u0590\u02A0\u0591\u0220\u05BE\u02A0\u05BF\u0180\u05C0"
+            + "\u02A0\u05C1\u0180\u05C3\u02A0\u05C4\300\u05C6\u02A0\u05C7\u0980\u05C8\u01A0\u05D0\u0980\u05EB"
+            + "\u01A0\u05EF\u0180\u05F3\u0980\u05F5\u0180\u0600\u0140\u0609\u0100\u060C\u0180\u060E\u02A0\u0610"
+            + "\300\u061B\u02A0\u061C\300\u061D\u0180\u0620\u02A0\u064B\u0160\u0660\u0140\u066A\u0160\u066B"
+            + "\u0180\u066D\u02A0\u0670\u0180\u0671\300\u06D4\u0180\u06D5\u02A0\u06D6\u0180\u06DD\u02A0\u06DF"
+            + "\u0180\u06E5\u02A0\u06E7\u0180\u06E9\u02A0\u06EA\u0180\u06EE\u0160\u06F0\u0180\u06FA\u0980\u070E"
+            + "\u0180\u070F\u02A0\u0711\u0180\u0712\u02A0\u0730\u0980\u074B\u0180\u074D\u02A0\u07A6\u0180\u07B1"
+            + "\u0980\u07B2\u0160\u07C0\u0180\u07CA\u02A0\u07EB\u0180\u07F4\u0100\u07F8\300\u07F9\u0180\u07FA"
+            + "\u0980\u07FB\u02A0\u07FD\u0120\u07FE\u0180\u0800\u02A0\u0816\u0180\u081A\u02A0\u081B\u0180\u0824"
+            + "\u02A0\u0825\u0180\u0828\u02A0\u0829\u0980\u082E\u0180\u0830\u0980\u083F\u0180\u0840\u02A0\u0859"
+            + "\u0980\u085C\u0180\u085E\u0980\u085F\u0180\u0860\u0980\u086B\u0180\u0870\u0980\u088F\u0180\u0890"
+            + "\u0980\u0892\u02A0\u0898\u0180\u08A0\u02A0\u08CA\u0180\u08E2\u02A0\u08E3\u0180\u0904\u02A0\u093A"
+            + "\u0180\u093D\u02A0\u093E\u0180\u0950\u02A0\u0951\u0180\u0958\u02A0\u0962\u0220\u0964\u0160\u0966"
+            + "\u0180\u0970\u02A0\u0981\u0980\u0984\u0180\u0985\u0980\u098D\u0180\u098F\u0980\u0991\u0180\u0993"
+            + "\u0980\u09A9\u0180\u09AA\u0980\u09B1\u0180\u09B2\u0980\u09B3\u0180\u09B6\u0980\u09BA\u02A0\u09BC"
+            + "\u0180\u09BD\u02A0\u09BE\u0980\u09C5\u02A0\u09C7\u0980\u09C9\u02A0\u09CB\u0180\u09CE\u0980\u09CF"
+            + "\u02A0\u09D7\u0980\u09D8\u0180\u09DC\u0980\u09DE\u0180\u09DF\u02A0\u09E2\u0980\u09E4\u0160\u09E6"
+            + "\u0180\u09F0\u0140\u09F2\u0180\u09F4\u0140\u09F9\u0180\u09FA\u0120\u09FB\u0180\u09FC\u02A0\u09FE"
+            + "\u0980\u09FF\u02A0\u0A01\u0980\u0A04\u0180\u0A05\u0980\u0A0B\u0180\u0A0F\u0980\u0A11\u0180\u0A13"
+            + "\u0980\u0A29\u0180\u0A2A\u0980\u0A31\u0180\u0A32\u0980\u0A34\u0180\u0A35\u0980\u0A37\u0180\u0A38"
+            + "\u0980\u0A3A\u02A0\u0A3C\u0980\u0A3D\u02A0\u0A3E\u0980\u0A43\u02A0\u0A47\u0980\u0A49\u02A0\u0A4B"
+            + "\u0980\u0A4E\u02A0\u0A51\u0980\u0A52\u0180\u0A59\u0980\u0A5D\u0180\u0A5E\u0980\u0A5F\u0160\u0A66"
+            + "\u02A0\u0A70\u0180\u0A72\u02A0\u0A75\u0180\u0A76\u0980\u0A77\u02A0\u0A81\u0980\u0A84\u0180\u0A85"
+            + "\u0980\u0A8E\u0180\u0A8F\u0980\u0A92\u0180\u0A93\u0980\u0AA9\u0180\u0AAA\u0980\u0AB1\u0180\u0AB2"
+            + "\u0980\u0AB4\u0180\u0AB5\u0980\u0ABA\u02A0\u0ABC\u0180\u0ABD\u02A0\u0ABE\u0980\u0AC6\u02A0\u0AC7"
+            + "\u0980\u0ACA\u02A0\u0ACB\u0980\u0ACE\u0180\u0AD0\u0980\u0AD1\u0180\u0AE0\u02A0\u0AE2\u0980\u0AE4"
+            + "\u0160\u0AE6\u0180\u0AF0\u0120\u0AF1\u0980\u0AF2\u0180\u0AF9\u02A0\u0AFA\u0980\u0B00\u02A0\u0B01"
+            + "\u0980\u0B04\u0180\u0B05\u0980\u0B0D\u0180\u0B0F\u0980\u0B11\u0180\u0B13\u0980\u0B29\u0180\u0B2A"
+            + "\u0980\u0B31\u0180\u0B32\u0980\u0B34\u0180\u0B35\u0980\u0B3A\u02A0\u0B3C\u0180\u0B3D\u02A0\u0B3E"
+            + "\u0980\u0B45\u02A0\u0B47\u0980\u0B49\u02A0\u0B4B\u0980\u0B4E\u02A0\u0B55\u0980\u0B58\u0180\u0B5C"
+            + "\u0980\u0B5E\u0180\u0B5F\u02A0\u0B62\u0980\u0B64\u0160\u0B66\u0180\u0B70\u0980\u0B78\u02A0\u0B82"
+            + "\u0180\u0B83\u0980\u0B84\u0180\u0B85\u0980\u0B8B\u0180\u0B8E\u0980\u0B91\u0180\u0B92\u0980\u0B96"
+            + "\u0180\u0B99\u0980\u0B9B\u0180\u0B9C\u0980\u0B9D\u0180\u0B9E\u0980\u0BA0\u0180\u0BA3\u0980\u0BA5"
+            + "\u0180\u0BA8\u0980\u0BAB\u0180\u0BAE\u0980\u0BBA\u02A0\u0BBE\u0980\u0BC3\u02A0\u0BC6\u0980\u0BC9"
+            + "\u02A0\u0BCA\u0980\u0BCE\u0180\u0BD0\u0980\u0BD1\u02A0\u0BD7\u0980\u0BD8\u0160\u0BE6\u0180\u0BF0"
+            + "\u0120\u0BF9\u0180\u0BFA\u0980\u0BFB\u02A0\u0C00\u0180\u0C05\u0980\u0C0D\u0180\u0C0E\u0980\u0C11"
+            + "\u0180\u0C12\u0980\u0C29\u0180\u0C2A\u0980\u0C3A\u02A0\u0C3C\u0180\u0C3D\u02A0\u0C3E\u0980\u0C45"
+            + "\u02A0\u0C46\u0980\u0C49\u02A0\u0C4A\u0980\u0C4E\u02A0\u0C55\u0980\u0C57\u0180\u0C58\u0980\u0C5B"
+            + "\u0180\u0C5D\u0980\u0C5E\u0180\u0C60\u02A0\u0C62\u0980\u0C64\u0160\u0C66\u0980\u0C70\u0240\u0C77"
+            + "\u0180\u0C78\u02A0\u0C81\u0240\u0C84\u0180\u0C85\u0980\u0C8D\u0180\u0C8E\u0980\u0C91\u0180\u0C92"
+            + "\u0980\u0CA9\u0180\u0CAA\u0980\u0CB4\u0180\u0CB5\u0980\u0CBA\u02A0\u0CBC\u0180\u0CBD\u02A0\u0CBE"
+            + "\u0980\u0CC5\u02A0\u0CC6\u0980\u0CC9\u02A0\u0CCA\u0980\u0CCE\u02A0\u0CD5\u0980\u0CD7\u0180\u0CDD"
+            + "\u0980\u0CDF\u0180\u0CE0\u02A0\u0CE2\u0980\u0CE4\u0160\u0CE6\u0980\u0CF0\u0180\u0CF1\u0980\u0CF3"
+            + "\u02A0\u0D00\u0180\u0D04\u0980\u0D0D\u0180\u0D0E\u0980\u0D11\u0180\u0D12\u02A0\u0D3B\u0180\u0D3D"
+            + "\u02A0\u0D3E\u0980\u0D45\u02A0\u0D46\u0980\u0D49\u02A0\u0D4A\u0180\u0D4E\u0980\u0D50\u0180\u0D54"
+            + "\u02A0\u0D57\u0180\u0D58\u02A0\u0D62\u0980\u0D64\u0160\u0D66\u0180\u0D70\u0140\u0D79\u0180\u0D7A"
+            + "\u0980\u0D80\u02A0\u0D81\u0980\u0D84\u0180\u0D85\u0980\u0D97\u0180\u0D9A\u0980\u0DB2\u0180\u0DB3"
+            + "\u0980\u0DBC\u0180\u0DBD\u0980\u0DBE\u0180\u0DC0\u0980\u0DC7\u02A0\u0DCA\u0980\u0DCB\u02A0\u0DCF"
+            + "\u0980\u0DD5\u02A0\u0DD6\u0980\u0DD7\u02A0\u0DD8\u0980\u0DE0\u0160\u0DE6\u0980\u0DF0\u02A0\u0DF2"
+            + "\u0180\u0DF4\u0980\u0DF5\u0180\u0E01\u02A0\u0E31\u0180\u0E32\u02A0\u0E34\u0980\u0E3B\u0120\u0E3F"
+            + "\u0180\u0E40\u02A0\u0E47\u0180\u0E4F\u0160\u0E50\u0220\u0E5A\u0980\u0E5C\u0180\u0E81\u0980\u0E83"
+            + "\u0180\u0E84\u0980\u0E85\u0180\u0E86\u0980\u0E8B\u0180\u0E8C\u0980\u0EA4\u0180\u0EA5\u0980\u0EA6"
+            + "\u0180\u0EA7\u02A0\u0EB1\u0180\u0EB2\u02A0\u0EB4\u0180\u0EBD\u0980\u0EBE\u0180\u0EC0\u0980\u0EC5"
+            + "\u0180\u0EC6\u0980\u0EC7\u02A0\u0EC8\u0980\u0ECE\u0160\u0ED0\u0980\u0EDA\u0180\u0EDC\u0980\u0EE0"
+            + "\u0180\u0F00\u0240\u0F01\u0180\u0F05\u0240\u0F06\200\u0F08\u0240\u0F09\u0220\u0F0B\200\u0F0C"
+            + "\300\u0F0D\200\u0F12\u0180\u0F13\300\u0F14\u0180\u0F15\u02A0\u0F18\u0180\u0F1A\u0160\u0F20"
+            + "\u0180\u0F2A\u0220\u0F34\u02A0\u0F35\u0180\u0F36\u02A0\u0F37\u0180\u0F38\u02A0\u0F39\000\u0F3A"
+            + "\040\u0F3B\000\u0F3C\040\u0F3D\u02A0\u0F3E\u0180\u0F40\u0980\u0F48\u0180\u0F49\u0980\u0F6D"
+            + "\u02A0\u0F71\u0220\u0F7F\u02A0\u0F80\u0220\u0F85\u02A0\u0F86\u0180\u0F88\u02A0\u0F8D\u0980\u0F98"
+            + "\u02A0\u0F99\u0980\u0FBD\u0220\u0FBE\u0180\u0FC0\u02A0\u0FC6\u0180\u0FC7\u0980\u0FCD\u0180\u0FCE"
+            + "\u0240\u0FD0\u0220\u0FD2\u0240\u0FD3\u0180\u0FD4\200\u0FD9\u0980\u0FDB\u0180\u1000\u02A0\u102B"
+            + "\u0180\u103F\u0160\u1040\u0220\u104A\u0180\u104C\u02A0\u1056\u0180\u105A\u02A0\u105E\u0180\u1061"
+            + "\u02A0\u1062\u0180\u1065\u02A0\u1067\u0180\u106E\u02A0\u1071\u0180\u1075\u02A0\u1082\u0180\u108E"
+            + "\u02A0\u108F\u0160\u1090\u02A0\u109A\u0180\u109E\u0980\u10C6\u0180\u10C7\u0980\u10C8\u0180\u10CD"
+            + "\u0980\u10CE\u0180\u10D0\u0B20\u1100\u0340\u1160\u0360\u11A8\u0180\u1200\u0980\u1249\u0180\u124A"
+            + "\u0980\u124E\u0180\u1250\u0980\u1257\u0180\u1258\u0980\u1259\u0180\u125A\u0980\u125E\u0180\u1260"
+            + "\u0980\u1289\u0180\u128A\u0980\u128E\u0180\u1290\u0980\u12B1\u0180\u12B2\u0980\u12B6\u0180\u12B8"
+            + "\u0980\u12BF\u0180\u12C0\u0980\u12C1\u0180\u12C2\u0980\u12C6\u0180\u12C8\u0980\u12D7\u0180\u12D8"
+            + "\u0980\u1311\u0180\u1312\u0980\u1316\u0180\u1318\u0980\u135B\u02A0\u135D\u0180\u1360\u0220\u1361"
+            + "\u0180\u1362\u0980\u137D\u0180\u1380\u0980\u139A\u0180\u13A0\u0980\u13F6\u0180\u13F8\u0980\u13FE"
+            + "\u0220\u1400\u0180\u1401\u0220\u1680\u0180\u1681\000\u169B\040\u169C\u0980\u169D\u0180\u16A0"
+            + "\u0220\u16EB\u0180\u16EE\u0980\u16F9\u0180\u1700\u02A0\u1712\u0980\u1716\u0180\u171F\u02A0\u1732"
+            + "\u0220\u1735\u0980\u1737\u0180\u1740\u02A0\u1752\u0980\u1754\u0180\u1760\u0980\u176D\u0180\u176E"
+            + "\u0980\u1771\u02A0\u1772\u0980\u1774\u0180\u1780\u02A0\u17B4\u0220\u17D4\240\u17D6\u0180\u17D7"
+            + "\u0220\u17D8\u0180\u17D9\u0220\u17DA\u0120\u17DB\u0180\u17DC\u02A0\u17DD\u0980\u17DE\u0160\u17E0"
+            + "\u0980\u17EA\u0180\u17F0\u0980\u17FA\u0180\u1800\300\u1802\u0220\u1804\u0240\u1806\u0180\u1807"
+            + "\300\u1808\u0180\u180A\u02A0\u180B\200\u180E\u02A0\u180F\u0160\u1810\u0980\u181A\u0180\u1820"
+            + "\u0980\u1879\u0180\u1880\u02A0\u1885\u0180\u1887\u02A0\u18A9\u0180\u18AA\u0980\u18AB\u0180\u18B0"
+            + "\u0980\u18F6\u0180\u1900\u0980\u191F\u02A0\u1920\u0980\u192C\u02A0\u1930\u0980\u193C\u0180\u1940"
+            + "\u0980\u1941\300\u1944\u0160\u1946\u0180\u1950\u0980\u196E\u0180\u1970\u0980\u1975\u0180\u1980"
+            + "\u0980\u19AC\u0180\u19B0\u0980\u19CA\u0160\u19D0\u0180\u19DA\u0980\u19DB\u0180\u19DE\u02A0\u1A17"
+            + "\u0980\u1A1C\u0180\u1A1E\u02A0\u1A55\u0980\u1A5F\u02A0\u1A60\u0980\u1A7D\u02A0\u1A7F\u0160\u1A80"
+            + "\u0980\u1A8A\u0160\u1A90\u0980\u1A9A\u0180\u1AA0\u0980\u1AAE\u02A0\u1AB0\u0980\u1ACF\u02A0\u1B00"
+            + "\u0180\u1B05\u02A0\u1B34\u0180\u1B45\u0980\u1B4D\u0160\u1B50\u0220\u1B5A\u0180\u1B5C\u0220\u1B5D"
+            + "\u0180\u1B61\u02A0\u1B6B\u0180\u1B74\u0220\u1B7D\u0980\u1B7F\u02A0\u1B80\u0180\u1B83\u02A0\u1BA1"
+            + "\u0180\u1BAE\u0160\u1BB0\u0180\u1BBA\u02A0\u1BE6\u0980\u1BF4\u0180\u1BFC\u02A0\u1C24\u0980\u1C38"
+            + "\u0220\u1C3B\u0160\u1C40\u0980\u1C4A\u0180\u1C4D\u0160\u1C50\u0180\u1C5A\u0220\u1C7E\u0180\u1C80"
+            + "\u0980\u1C89\u0180\u1C90\u0980\u1CBB\u0180\u1CBD\u0980\u1CC8\u02A0\u1CD0\u0180\u1CD3\u02A0\u1CD4"
+            + "\u0180\u1CE9\u02A0\u1CED\u0180\u1CEE\u02A0\u1CF4\u0180\u1CF5\u02A0\u1CF7\u0180\u1CFA\u0980\u1CFB"
+            + "\u0180\u1D00\u02A0\u1DC0\u0180\u1E00\u0980\u1F16\u0180\u1F18\u0980\u1F1E\u0180\u1F20\u0980\u1F46"
+            + "\u0180\u1F48\u0980\u1F4E\u0180\u1F50\u0980\u1F58\u0180\u1F59\u0980\u1F5A\u0180\u1F5B\u0980\u1F5C"
+            + "\u0180\u1F5D\u0980\u1F5E\u0180\u1F5F\u0980\u1F7E\u0180\u1F80\u0980\u1FB5\u0180\u1FB6\u0980\u1FC5"
+            + "\u0180\u1FC6\u0980\u1FD4\u0180\u1FD6\u0980\u1FDC\u0180\u1FDD\u0980\u1FF0\u0180\u1FF2\u0980\u1FF5"
+            + "\u0180\u1FF6\u0240\u1FFD\u0180\u1FFE\u0980\u1FFF\u0220\u2000\200\u2007\u0220\u2008\u0280\u200B"
+            + "\u02A0\u200C\u03E0\u200D\u02A0\u200E\u0220\u2010\200\u2011\u0220\u2012\u0260\u2014\u0180\u2015"
+            + "\140\u2018\000\u201A\140\u201B\000\u201E\140\u201F\u0180\u2020\u01E0\u2024\u0220\u2027"
+            + "\u0440\u2028\u02A0\u202A\200\u202F\u0140\u2030\u0180\u2038\140\u2039\u0180\u203B\240\u203C"
+            + "\u0180\u203E\u0100\u2044\000\u2045\040\u2046\240\u2047\u0180\u204A\u0220\u2056\u0180\u2057"
+            + "\u0220\u2058\u0180\u205C\u0220\u205D\u02C0\u2060\u0180\u2061\u0980\u2065\u02A0\u2066\u0180\u2070"
+            + "\u0980\u2072\u0180\u2074\000\u207D\040\u207E\u0180\u207F\000\u208D\040\u208E\u0980\u208F"
+            + "\u0180\u2090\u0980\u209D\u0120\u20A0\u0140\u20A7\u0120\u20A8\u0920\u20A9\u0120\u20AA\u0140\u20B6"
+            + "\u0120\u20B7\u0140\u20BB\u0120\u20BC\u0140\u20BE\u0120\u20BF\u0140\u20C0\u0920\u20C1\u02A0\u20D0"
+            + "\u0980\u20F1\u0180\u2100\u0140\u2103\u0180\u2104\u0140\u2109\u0180\u210A\u0120\u2116\u0180\u2117"
+            + "\u0980\u218C\u0180\u2190\u0120\u2212\u0180\u2214\u01E0\u22EF\u0180\u22F0\000\u2308\040\u2309"
+            + "\000\u230A\040\u230B\u0180\u230C\u09C0\u231A\u0180\u231C\u0CC0\u2329\u0820\u232A\u0180\u232B"
+            + "\u0980\u23E9\u0180\u23ED\u09C0\u23F0\u01C0\u23F1\u09C0\u23F3\u0180\u23F4\u0980\u2427\u0180\u2440"
+            + "\u0980\u244B\u0180\u2460\u0980\u25FD\u0180\u25FF\u01C0\u2600\u0180\u2604\u09C0\u2614\u0180\u2616"
+            + "\u01C0\u2618\u0180\u2619\u01C0\u261A\u03A0\u261D\u01C0\u261E\u0180\u2620\u01C0\u2639\u0180\u263C"
+            + "\u0980\u2648\u0180\u2654\u01C0\u2668\u0180\u2669\u09C0\u267F\u0180\u2680\u0980\u2693\u0180\u2694"
+            + "\u0980\u26A1\u0180\u26A2\u0980\u26AA\u0180\u26AC\u09C0\u26BD\u01C0\u26BF\u09C0\u26C4\u01C0\u26C6"
+            + "\u0180\u26C9\u01C0\u26CD\u0980\u26CE\u01C0\u26CF\u0180\u26D2\u01C0\u26D3\u09C0\u26D4\u0180\u26D5"
+            + "\u01C0\u26D8\u0180\u26DA\u01C0\u26DC\u0180\u26DD\u01C0\u26DF\u0180\u26E2\u09C0\u26EA\u0180\u26EB"
+            + "\u01C0\u26F1\u09C0\u26F2\u01C0\u26F4\u09C0\u26F5\u0180\u26F6\u01C0\u26F7\u03A0\u26F9\u09C0\u26FA"
+            + "\u0180\u26FB\u09C0\u26FD\u01C0\u26FE\u0980\u2705\u0180\u2706\u01C0\u2708\u0BA0\u270A\u03A0\u270C"
+            + "\u0180\u270E\u0980\u2728\u0180\u2729\u0980\u274C\u0180\u274D\u0980\u274E\u0180\u274F\u0980\u2753"
+            + "\u0180\u2756\u0980\u2757\u0180\u2758\140\u275B\u0180\u2761\300\u2762\u01C0\u2764\u0180\u2765"
+            + "\000\u2768\040\u2769\000\u276A\040\u276B\000\u276C\040\u276D\000\u276E\040\u276F"
+            + "\000\u2770\040\u2771\000\u2772\040\u2773\000\u2774\040\u2775\u0180\u2776\u0980\u2795"
+            + "\u0180\u2798\u0980\u27B0\u0180\u27B1\u0980\u27BF\u0180\u27C0\000\u27C5\040\u27C6\u0180\u27C7"
+            + "\000\u27E6\040\u27E7\000\u27E8\040\u27E9\000\u27EA\040\u27EB\000\u27EC\040\u27ED"
+            + "\000\u27EE\040\u27EF\u0180\u27F0\000\u2983\040\u2984\000\u2985\040\u2986\000\u2987"
+            + "\040\u2988\000\u2989\040\u298A\000\u298B\040\u298C\000\u298D\040\u298E\000\u298F"
+            + "\040\u2990\000\u2991\040\u2992\000\u2993\040\u2994\000\u2995\040\u2996\000\u2997"
+            + "\040\u2998\u0180\u2999\000\u29D8\040\u29D9\000\u29DA\040\u29DB\u0180\u29DC\000\u29FC"
+            + "\040\u29FD\u0180\u29FE\u0980\u2B1B\u0180\u2B1D\u0980\u2B50\u0180\u2B51\u0980\u2B55\u0180\u2B56"
+            + "\u0980\u2B74\u0180\u2B76\u0980\u2B96\u0180\u2B97\u02A0\u2CEF\u0180\u2CF2\u0980\u2CF4\300\u2CF9"
+            + "\u0220\u2CFA\u0180\u2CFD\300\u2CFE\u0220\u2CFF\u0180\u2D00\u0980\u2D26\u0180\u2D27\u0980\u2D28"
+            + "\u0180\u2D2D\u0980\u2D2E\u0180\u2D30\u0980\u2D68\u0180\u2D6F\u0220\u2D70\u0980\u2D71\u02A0\u2D7F"
+            + "\u0180\u2D80\u0980\u2D97\u0180\u2DA0\u0980\u2DA7\u0180\u2DA8\u0980\u2DAF\u0180\u2DB0\u0980\u2DB7"
+            + "\u0180\u2DB8\u0980\u2DBF\u0180\u2DC0\u0980\u2DC7\u0180\u2DC8\u0980\u2DCF\u0180\u2DD0\u0980\u2DD7"
+            + "\u0180\u2DD8\u0980\u2DDF\u02A0\u2DE0\140\u2E00\u0220\u2E0E\u0180\u2E16\u0220\u2E17\000\u2E18"
+            + "\u0220\u2E19\u0180\u2E1A\140\u2E1C\u0180\u2E1E\140\u2E20\000\u2E22\040\u2E23\000\u2E24"
+            + "\040\u2E25\000\u2E26\040\u2E27\000\u2E28\040\u2E29\u0220\u2E2A\300\u2E2E\u0180\u2E2F"
+            + "\u0220\u2E30\u0180\u2E32\u0220\u2E33\u0180\u2E35\u0260\u2E3A\u0220\u2E3C\u0180\u2E3F\u0220\u2E40"
+            + "\000\u2E42\u0220\u2E43\u0180\u2E4B\u0220\u2E4C\u0180\u2E4D\u0220\u2E4E\u0180\u2E50\300\u2E53"
+            + "\000\u2E55\040\u2E56\000\u2E57\040\u2E58\000\u2E59\040\u2E5A\000\u2E5B\040\u2E5C"
+            + "\u0220\u2E5D\u0980\u2E5E\u09C0\u2E80\u0980\u2E9A\u09C0\u2E9B\u0980\u2EF4\u09C0\u2F00\u0980\u2FD6"
+            + "\u09C0\u2FF0\u0980\u2FFC\u0A20\u3000\u0820\u3001\u09C0\u3003\u08A0\u3005\u09C0\u3006\u0CC0\u3008"
+            + "\u0820\u3009\u0CC0\u300A\u0820\u300B\u0CC0\u300C\u0820\u300D\u0CC0\u300E\u0820\u300F\u0CC0\u3010"
+            + "\u0820\u3011\u09C0\u3012\u0CC0\u3014\u0820\u3015\u0CC0\u3016\u0820\u3017\u0CC0\u3018\u0820\u3019"
+            + "\u0CC0\u301A\u0820\u301B\u08A0\u301C\u0CC0\u301D\u0820\u301E\u09C0\u3020\u0AA0\u302A\u09C0\u3030"
+            + "\u0AA0\u3035\u09C0\u3036\u08A0\u303B\u09C0\u303D\u01C0\u303F\u0980\u3040\u08A0\u3041\u09C0\u3042"
+            + "\u08A0\u3043\u09C0\u3044\u08A0\u3045\u09C0\u3046\u08A0\u3047\u09C0\u3048\u08A0\u3049\u09C0\u304A"
+            + "\u08A0\u3063\u09C0\u3064\u08A0\u3083\u09C0\u3084\u08A0\u3085\u09C0\u3086\u08A0\u3087\u09C0\u3088"
+            + "\u08A0\u308E\u09C0\u308F\u08A0\u3095\u0980\u3097\u0AA0\u3099\u08A0\u309B\u09C0\u309F\u08A0\u30A0"
+            + "\u09C0\u30A2\u08A0\u30A3\u09C0\u30A4\u08A0\u30A5\u09C0\u30A6\u08A0\u30A7\u09C0\u30A8\u08A0\u30A9"
+            + "\u09C0\u30AA\u08A0\u30C3\u09C0\u30C4\u08A0\u30E3\u09C0\u30E4\u08A0\u30E5\u09C0\u30E6\u08A0\u30E7"
+            + "\u09C0\u30E8\u08A0\u30EE\u09C0\u30EF\u08A0\u30F5\u09C0\u30F7\u08A0\u30FB\u09C0\u30FF\u0980\u3100"
+            + "\u09C0\u3105\u0980\u3130\u09C0\u3131\u0980\u318F\u09C0\u3190\u0980\u31E4\u08A0\u31F0\u09C0\u3200"
+            + "\u0980\u321F\u09C0\u3220\u0180\u3248\u09C0\u3250\u0180\u4DC0\u09C0\u4E00\u08A0\uA015\u09C0\uA016"
+            + "\u0980\uA48D\u09C0\uA490\u0980\uA4C7\u0180\uA4D0\u0220\uA4FE\u0180\uA500\u0220\uA60D\300\uA60E"
+            + "\u0220\uA60F\u0180\uA610\u0160\uA620\u0180\uA62A\u0980\uA62C\u0180\uA640\u02A0\uA66F\u0180\uA673"
+            + "\u02A0\uA674\u0180\uA67E\u02A0\uA69E\u0180\uA6A0\u02A0\uA6F0\u0180\uA6F2\u0220\uA6F3\u0980\uA6F8"
+            + "\u0180\uA700\u0980\uA7CB\u0180\uA7D0\u0980\uA7D2\u0180\uA7D3\u0980\uA7D4\u0180\uA7D5\u0980\uA7DA"
+            + "\u0180\uA7F2\u02A0\uA802\u0180\uA803\u02A0\uA806\u0180\uA807\u02A0\uA80B\u0180\uA80C\u02A0\uA823"
+            + "\u0180\uA828\u02A0\uA82C\u0980\uA82D\u0180\uA830\u0140\uA838\u0180\uA839\u0980\uA83A\u0180\uA840"
+            + "\u0240\uA874\300\uA876\u0980\uA878\u02A0\uA880\u0180\uA882\u02A0\uA8B4\u0980\uA8C6\u0220\uA8CE"
+            + "\u0160\uA8D0\u0980\uA8DA\u02A0\uA8E0\u0180\uA8F2\u0240\uA8FC\u0180\uA8FD\u02A0\uA8FF\u0160\uA900"
+            + "\u0180\uA90A\u02A0\uA926\u0220\uA92E\u0180\uA930\u02A0\uA947\u0980\uA954\u0180\uA95F\u0B20\uA960"
+            + "\u0980\uA97D\u02A0\uA980\u0180\uA984\u02A0\uA9B3\u0180\uA9C1\u0220\uA9C7\u0180\uA9CA\u0980\uA9CE"
+            + "\u0180\uA9CF\u0160\uA9D0\u0980\uA9DA\u0180\uA9DE\u02A0\uA9E5\u0180\uA9E6\u0160\uA9F0\u0180\uA9FA"
+            + "\u0980\uA9FF\u0180\uAA00\u02A0\uAA29\u0980\uAA37\u0180\uAA40\u02A0\uAA43\u0180\uAA44\u02A0\uAA4C"
+            + "\u0980\uAA4E\u0160\uAA50\u0980\uAA5A\u0180\uAA5C\u0220\uAA5D\u0180\uAA60\u02A0\uAA7B\u0180\uAA7E"
+            + "\u02A0\uAAB0\u0180\uAAB1\u02A0\uAAB2\u0180\uAAB5\u02A0\uAAB7\u0180\uAAB9\u02A0\uAABE\u0180\uAAC0"
+            + "\u02A0\uAAC1\u0180\uAAC2\u0980\uAAC3\u0180\uAADB\u02A0\uAAEB\u0220\uAAF0\u0180\uAAF2\u02A0\uAAF5"
+            + "\u0980\uAAF7\u0180\uAB01\u0980\uAB07\u0180\uAB09\u0980\uAB0F\u0180\uAB11\u0980\uAB17\u0180\uAB20"
+            + "\u0980\uAB27\u0180\uAB28\u0980\uAB2F\u0180\uAB30\u0980\uAB6C\u0180\uAB70\u02A0\uABE3\u0220\uABEB"
+            + "\u02A0\uABEC\u0980\uABEE\u0160\uABF0\u0980\uABFA\u0AE0\uAC00\u0B00\uAC01\u0AE0\uAC1C\u0B00\uAC1D"
+            + "\u0AE0\uAC38\u0B00\uAC39\u0AE0\uAC54\u0B00\uAC55\u0AE0\uAC70\u0B00\uAC71\u0AE0\uAC8C\u0B00\uAC8D"
+            + "\u0AE0\uACA8\u0B00\uACA9\u0AE0\uACC4\u0B00\uACC5\u0AE0\uACE0\u0B00\uACE1\u0AE0\uACFC\u0B00\uACFD"
+            + "\u0AE0\uAD18\u0B00\uAD19\u0AE0\uAD34\u0B00\uAD35\u0AE0\uAD50\u0B00\uAD51\u0AE0\uAD6C\u0B00\uAD6D"
+            + "\u0AE0\uAD88\u0B00\uAD89\u0AE0\uADA4\u0B00\uADA5\u0AE0\uADC0\u0B00\uADC1\u0AE0\uADDC\u0B00\uADDD"
+            + "\u0AE0\uADF8\u0B00\uADF9\u0AE0\uAE14\u0B00\uAE15\u0AE0\uAE30\u0B00\uAE31\u0AE0\uAE4C\u0B00\uAE4D"
+            + "\u0AE0\uAE68\u0B00\uAE69\u0AE0\uAE84\u0B00\uAE85\u0AE0\uAEA0\u0B00\uAEA1\u0AE0\uAEBC\u0B00\uAEBD"
+            + "\u0AE0\uAED8\u0B00\uAED9\u0AE0\uAEF4\u0B00\uAEF5\u0AE0\uAF10\u0B00\uAF11\u0AE0\uAF2C\u0B00\uAF2D"
+            + "\u0AE0\uAF48\u0B00\uAF49\u0AE0\uAF64\u0B00\uAF65\u0AE0\uAF80\u0B00\uAF81\u0AE0\uAF9C\u0B00\uAF9D"
+            + "\u0AE0\uAFB8\u0B00\uAFB9\u0AE0\uAFD4\u0B00\uAFD5\u0AE0\uAFF0\u0B00\uAFF1\u0AE0\uB00C\u0B00\uB00D"
+            + "\u0AE0\uB028\u0B00\uB029\u0AE0\uB044\u0B00\uB045\u0AE0\uB060\u0B00\uB061\u0AE0\uB07C\u0B00\uB07D"
+            + "\u0AE0\uB098\u0B00\uB099\u0AE0\uB0B4\u0B00\uB0B5\u0AE0\uB0D0\u0B00\uB0D1\u0AE0\uB0EC\u0B00\uB0ED"
+            + "\u0AE0\uB108\u0B00\uB109\u0AE0\uB124\u0B00\uB125\u0AE0\uB140\u0B00\uB141\u0AE0\uB15C\u0B00\uB15D"
+            + "\u0AE0\uB178\u0B00\uB179\u0AE0\uB194\u0B00\uB195\u0AE0\uB1B0\u0B00\uB1B1\u0AE0\uB1CC\u0B00\uB1CD"
+            + "\u0AE0\uB1E8\u0B00\uB1E9\u0AE0\uB204\u0B00\uB205\u0AE0\uB220\u0B00\uB221\u0AE0\uB23C\u0B00\uB23D"
+            + "\u0AE0\uB258\u0B00\uB259\u0AE0\uB274\u0B00\uB275\u0AE0\uB290\u0B00\uB291\u0AE0\uB2AC\u0B00\uB2AD"
+            + "\u0AE0\uB2C8\u0B00\uB2C9\u0AE0\uB2E4\u0B00\uB2E5\u0AE0\uB300\u0B00\uB301\u0AE0\uB31C\u0B00\uB31D"
+            + "\u0AE0\uB338\u0B00\uB339\u0AE0\uB354\u0B00\uB355\u0AE0\uB370\u0B00\uB371\u0AE0\uB38C\u0B00\uB38D"
+            + "\u0AE0\uB3A8\u0B00\uB3A9\u0AE0\uB3C4\u0B00\uB3C5\u0AE0\uB3E0\u0B00\uB3E1\u0AE0\uB3FC\u0B00\uB3FD"
+            + "\u0AE0\uB418\u0B00\uB419\u0AE0\uB434\u0B00\uB435\u0AE0\uB450\u0B00\uB451\u0AE0\uB46C\u0B00\uB46D"
+            + "\u0AE0\uB488\u0B00\uB489\u0AE0\uB4A4\u0B00\uB4A5\u0AE0\uB4C0\u0B00\uB4C1\u0AE0\uB4DC\u0B00\uB4DD"
+            + "\u0AE0\uB4F8\u0B00\uB4F9\u0AE0\uB514\u0B00\uB515\u0AE0\uB530\u0B00\uB531\u0AE0\uB54C\u0B00\uB54D"
+            + "\u0AE0\uB568\u0B00\uB569\u0AE0\uB584\u0B00\uB585\u0AE0\uB5A0\u0B00\uB5A1\u0AE0\uB5BC\u0B00\uB5BD"
+            + "\u0AE0\uB5D8\u0B00\uB5D9\u0AE0\uB5F4\u0B00\uB5F5\u0AE0\uB610\u0B00\uB611\u0AE0\uB62C\u0B00\uB62D"
+            + "\u0AE0\uB648\u0B00\uB649\u0AE0\uB664\u0B00\uB665\u0AE0\uB680\u0B00\uB681\u0AE0\uB69C\u0B00\uB69D"
+            + "\u0AE0\uB6B8\u0B00\uB6B9\u0AE0\uB6D4\u0B00\uB6D5\u0AE0\uB6F0\u0B00\uB6F1\u0AE0\uB70C\u0B00\uB70D"
+            + "\u0AE0\uB728\u0B00\uB729\u0AE0\uB744\u0B00\uB745\u0AE0\uB760\u0B00\uB761\u0AE0\uB77C\u0B00\uB77D"
+            + "\u0AE0\uB798\u0B00\uB799\u0AE0\uB7B4\u0B00\uB7B5\u0AE0\uB7D0\u0B00\uB7D1\u0AE0\uB7EC\u0B00\uB7ED"
+            + "\u0AE0\uB808\u0B00\uB809\u0AE0\uB824\u0B00\uB825\u0AE0\uB840\u0B00\uB841\u0AE0\uB85C\u0B00\uB85D"
+            + "\u0AE0\uB878\u0B00\uB879\u0AE0\uB894\u0B00\uB895\u0AE0\uB8B0\u0B00\uB8B1\u0AE0\uB8CC\u0B00\uB8CD"
+            + "\u0AE0\uB8E8\u0B00\uB8E9\u0AE0\uB904\u0B00\uB905\u0AE0\uB920\u0B00\uB921\u0AE0\uB93C\u0B00\uB93D"
+            + "\u0AE0\uB958\u0B00\uB959\u0AE0\uB974\u0B00\uB975\u0AE0\uB990\u0B00\uB991\u0AE0\uB9AC\u0B00\uB9AD"
+            + "\u0AE0\uB9C8\u0B00\uB9C9\u0AE0\uB9E4\u0B00\uB9E5\u0AE0\uBA00\u0B00\uBA01\u0AE0\uBA1C\u0B00\uBA1D"
+            + "\u0AE0\uBA38\u0B00\uBA39\u0AE0\uBA54\u0B00\uBA55\u0AE0\uBA70\u0B00\uBA71\u0AE0\uBA8C\u0B00\uBA8D"
+            + "\u0AE0\uBAA8\u0B00\uBAA9\u0AE0\uBAC4\u0B00\uBAC5\u0AE0\uBAE0\u0B00\uBAE1\u0AE0\uBAFC\u0B00\uBAFD"
+            + "\u0AE0\uBB18\u0B00\uBB19\u0AE0\uBB34\u0B00\uBB35\u0AE0\uBB50\u0B00\uBB51\u0AE0\uBB6C\u0B00\uBB6D"
+            + "\u0AE0\uBB88\u0B00\uBB89\u0AE0\uBBA4\u0B00\uBBA5\u0AE0\uBBC0\u0B00\uBBC1\u0AE0\uBBDC\u0B00\uBBDD"
+            + "\u0AE0\uBBF8\u0B00\uBBF9\u0AE0\uBC14\u0B00\uBC15\u0AE0\uBC30\u0B00\uBC31\u0AE0\uBC4C\u0B00\uBC4D"
+            + "\u0AE0\uBC68\u0B00\uBC69\u0AE0\uBC84\u0B00\uBC85\u0AE0\uBCA0\u0B00\uBCA1\u0AE0\uBCBC\u0B00\uBCBD"
+            + "\u0AE0\uBCD8\u0B00\uBCD9\u0AE0\uBCF4\u0B00\uBCF5\u0AE0\uBD10\u0B00\uBD11\u0AE0\uBD2C\u0B00\uBD2D"
+            + "\u0AE0\uBD48\u0B00\uBD49\u0AE0\uBD64\u0B00\uBD65\u0AE0\uBD80\u0B00\uBD81\u0AE0\uBD9C\u0B00\uBD9D"
+            + "\u0AE0\uBDB8\u0B00\uBDB9\u0AE0\uBDD4\u0B00\uBDD5\u0AE0\uBDF0\u0B00\uBDF1\u0AE0\uBE0C\u0B00\uBE0D"
+            + "\u0AE0\uBE28\u0B00\uBE29\u0AE0\uBE44\u0B00\uBE45\u0AE0\uBE60\u0B00\uBE61\u0AE0\uBE7C\u0B00\uBE7D"
+            + "\u0AE0\uBE98\u0B00\uBE99\u0AE0\uBEB4\u0B00\uBEB5\u0AE0\uBED0\u0B00\uBED1\u0AE0\uBEEC\u0B00\uBEED"
+            + "\u0AE0\uBF08\u0B00\uBF09\u0AE0\uBF24\u0B00\uBF25\u0AE0\uBF40\u0B00\uBF41\u0AE0\uBF5C\u0B00\uBF5D"
+            + "\u0AE0\uBF78\u0B00\uBF79\u0AE0\uBF94\u0B00\uBF95\u0AE0\uBFB0\u0B00\uBFB1\u0AE0\uBFCC\u0B00\uBFCD"
+            + "\u0AE0\uBFE8\u0B00\uBFE9\u0AE0\uC004\u0B00\uC005\u0AE0\uC020\u0B00\uC021\u0AE0\uC03C\u0B00\uC03D"
+            + "\u0AE0\uC058\u0B00\uC059\u0AE0\uC074\u0B00\uC075\u0AE0\uC090\u0B00\uC091\u0AE0\uC0AC\u0B00\uC0AD"
+            + "\u0AE0\uC0C8\u0B00\uC0C9\u0AE0\uC0E4\u0B00\uC0E5\u0AE0\uC100\u0B00\uC101\u0AE0\uC11C\u0B00\uC11D"
+            + "\u0AE0\uC138\u0B00\uC139\u0AE0\uC154\u0B00\uC155\u0AE0\uC170\u0B00\uC171\u0AE0\uC18C\u0B00\uC18D"
+            + "\u0AE0\uC1A8\u0B00\uC1A9\u0AE0\uC1C4\u0B00\uC1C5\u0AE0\uC1E0\u0B00\uC1E1\u0AE0\uC1FC\u0B00\uC1FD"
+            + "\u0AE0\uC218\u0B00\uC219\u0AE0\uC234\u0B00\uC235\u0AE0\uC250\u0B00\uC251\u0AE0\uC26C\u0B00\uC26D"
+            + "\u0AE0\uC288\u0B00\uC289\u0AE0\uC2A4\u0B00\uC2A5\u0AE0\uC2C0\u0B00\uC2C1\u0AE0\uC2DC\u0B00\uC2DD"
+            + "\u0AE0\uC2F8\u0B00\uC2F9\u0AE0\uC314\u0B00\uC315\u0AE0\uC330\u0B00\uC331\u0AE0\uC34C\u0B00\uC34D"
+            + "\u0AE0\uC368\u0B00\uC369\u0AE0\uC384\u0B00\uC385\u0AE0\uC3A0\u0B00\uC3A1\u0AE0\uC3BC\u0B00\uC3BD"
+            + "\u0AE0\uC3D8\u0B00\uC3D9\u0AE0\uC3F4\u0B00\uC3F5\u0AE0\uC410\u0B00\uC411\u0AE0\uC42C\u0B00\uC42D"
+            + "\u0AE0\uC448\u0B00\uC449\u0AE0\uC464\u0B00\uC465\u0AE0\uC480\u0B00\uC481\u0AE0\uC49C\u0B00\uC49D"
+            + "\u0AE0\uC4B8\u0B00\uC4B9\u0AE0\uC4D4\u0B00\uC4D5\u0AE0\uC4F0\u0B00\uC4F1\u0AE0\uC50C\u0B00\uC50D"
+            + "\u0AE0\uC528\u0B00\uC529\u0AE0\uC544\u0B00\uC545\u0AE0\uC560\u0B00\uC561\u0AE0\uC57C\u0B00\uC57D"
+            + "\u0AE0\uC598\u0B00\uC599\u0AE0\uC5B4\u0B00\uC5B5\u0AE0\uC5D0\u0B00\uC5D1\u0AE0\uC5EC\u0B00\uC5ED"
+            + "\u0AE0\uC608\u0B00\uC609\u0AE0\uC624\u0B00\uC625\u0AE0\uC640\u0B00\uC641\u0AE0\uC65C\u0B00\uC65D"
+            + "\u0AE0\uC678\u0B00\uC679\u0AE0\uC694\u0B00\uC695\u0AE0\uC6B0\u0B00\uC6B1\u0AE0\uC6CC\u0B00\uC6CD"
+            + "\u0AE0\uC6E8\u0B00\uC6E9\u0AE0\uC704\u0B00\uC705\u0AE0\uC720\u0B00\uC721\u0AE0\uC73C\u0B00\uC73D"
+            + "\u0AE0\uC758\u0B00\uC759\u0AE0\uC774\u0B00\uC775\u0AE0\uC790\u0B00\uC791\u0AE0\uC7AC\u0B00\uC7AD"
+            + "\u0AE0\uC7C8\u0B00\uC7C9\u0AE0\uC7E4\u0B00\uC7E5\u0AE0\uC800\u0B00\uC801\u0AE0\uC81C\u0B00\uC81D"
+            + "\u0AE0\uC838\u0B00\uC839\u0AE0\uC854\u0B00\uC855\u0AE0\uC870\u0B00\uC871\u0AE0\uC88C\u0B00\uC88D"
+            + "\u0AE0\uC8A8\u0B00\uC8A9\u0AE0\uC8C4\u0B00\uC8C5\u0AE0\uC8E0\u0B00\uC8E1\u0AE0\uC8FC\u0B00\uC8FD"
+            + "\u0AE0\uC918\u0B00\uC919\u0AE0\uC934\u0B00\uC935\u0AE0\uC950\u0B00\uC951\u0AE0\uC96C\u0B00\uC96D"
+            + "\u0AE0\uC988\u0B00\uC989\u0AE0\uC9A4\u0B00\uC9A5\u0AE0\uC9C0\u0B00\uC9C1\u0AE0\uC9DC\u0B00\uC9DD"
+            + "\u0AE0\uC9F8\u0B00\uC9F9\u0AE0\uCA14\u0B00\uCA15\u0AE0\uCA30\u0B00\uCA31\u0AE0\uCA4C\u0B00\uCA4D"
+            + "\u0AE0\uCA68\u0B00\uCA69\u0AE0\uCA84\u0B00\uCA85\u0AE0\uCAA0\u0B00\uCAA1\u0AE0\uCABC\u0B00\uCABD"
+            + "\u0AE0\uCAD8\u0B00\uCAD9\u0AE0\uCAF4\u0B00\uCAF5\u0AE0\uCB10\u0B00\uCB11\u0AE0\uCB2C\u0B00\uCB2D"
+            + "\u0AE0\uCB48\u0B00\uCB49\u0AE0\uCB64\u0B00\uCB65\u0AE0\uCB80\u0B00\uCB81\u0AE0\uCB9C\u0B00\uCB9D"
+            + "\u0AE0\uCBB8\u0B00\uCBB9\u0AE0\uCBD4\u0B00\uCBD5\u0AE0\uCBF0\u0B00\uCBF1\u0AE0\uCC0C\u0B00\uCC0D"
+            + "\u0AE0\uCC28\u0B00\uCC29\u0AE0\uCC44\u0B00\uCC45\u0AE0\uCC60\u0B00\uCC61\u0AE0\uCC7C\u0B00\uCC7D"
+            + "\u0AE0\uCC98\u0B00\uCC99\u0AE0\uCCB4\u0B00\uCCB5\u0AE0\uCCD0\u0B00\uCCD1\u0AE0\uCCEC\u0B00\uCCED"
+            + "\u0AE0\uCD08\u0B00\uCD09\u0AE0\uCD24\u0B00\uCD25\u0AE0\uCD40\u0B00\uCD41\u0AE0\uCD5C\u0B00\uCD5D"
+            + "\u0AE0\uCD78\u0B00\uCD79\u0AE0\uCD94\u0B00\uCD95\u0AE0\uCDB0\u0B00\uCDB1\u0AE0\uCDCC\u0B00\uCDCD"
+            + "\u0AE0\uCDE8\u0B00\uCDE9\u0AE0\uCE04\u0B00\uCE05\u0AE0\uCE20\u0B00\uCE21\u0AE0\uCE3C\u0B00\uCE3D"
+            + "\u0AE0\uCE58\u0B00\uCE59\u0AE0\uCE74\u0B00\uCE75\u0AE0\uCE90\u0B00\uCE91\u0AE0\uCEAC\u0B00\uCEAD"
+            + "\u0AE0\uCEC8\u0B00\uCEC9\u0AE0\uCEE4\u0B00\uCEE5\u0AE0\uCF00\u0B00\uCF01\u0AE0\uCF1C\u0B00\uCF1D"
+            + "\u0AE0\uCF38\u0B00\uCF39\u0AE0\uCF54\u0B00\uCF55\u0AE0\uCF70\u0B00\uCF71\u0AE0\uCF8C\u0B00\uCF8D"
+            + "\u0AE0\uCFA8\u0B00\uCFA9\u0AE0\uCFC4\u0B00\uCFC5\u0AE0\uCFE0\u0B00\uCFE1\u0AE0\uCFFC\u0B00\uCFFD"
+            + "\u0AE0\uD018\u0B00\uD019\u0AE0\uD034\u0B00\uD035\u0AE0\uD050\u0B00\uD051\u0AE0\uD06C\u0B00\uD06D"
+            + "\u0AE0\uD088\u0B00\uD089\u0AE0\uD0A4\u0B00\uD0A5\u0AE0\uD0C0\u0B00\uD0C1\u0AE0\uD0DC\u0B00\uD0DD"
+            + "\u0AE0\uD0F8\u0B00\uD0F9\u0AE0\uD114\u0B00\uD115\u0AE0\uD130\u0B00\uD131\u0AE0\uD14C\u0B00\uD14D"
+            + "\u0AE0\uD168\u0B00\uD169\u0AE0\uD184\u0B00\uD185\u0AE0\uD1A0\u0B00\uD1A1\u0AE0\uD1BC\u0B00\uD1BD"
+            + "\u0AE0\uD1D8\u0B00\uD1D9\u0AE0\uD1F4\u0B00\uD1F5\u0AE0\uD210\u0B00\uD211\u0AE0\uD22C\u0B00\uD22D"
+            + "\u0AE0\uD248\u0B00\uD249\u0AE0\uD264\u0B00\uD265\u0AE0\uD280\u0B00\uD281\u0AE0\uD29C\u0B00\uD29D"
+            + "\u0AE0\uD2B8\u0B00\uD2B9\u0AE0\uD2D4\u0B00\uD2D5\u0AE0\uD2F0\u0B00\uD2F1\u0AE0\uD30C\u0B00\uD30D"
+            + "\u0AE0\uD328\u0B00\uD329\u0AE0\uD344\u0B00\uD345\u0AE0\uD360\u0B00\uD361\u0AE0\uD37C\u0B00\uD37D"
+            + "\u0AE0\uD398\u0B00\uD399\u0AE0\uD3B4\u0B00\uD3B5\u0AE0\uD3D0\u0B00\uD3D1\u0AE0\uD3EC\u0B00\uD3ED"
+            + "\u0AE0\uD408\u0B00\uD409\u0AE0\uD424\u0B00\uD425\u0AE0\uD440\u0B00\uD441\u0AE0\uD45C\u0B00\uD45D"
+            + "\u0AE0\uD478\u0B00\uD479\u0AE0\uD494\u0B00\uD495\u0AE0\uD4B0\u0B00\uD4B1\u0AE0\uD4CC\u0B00\uD4CD"
+            + "\u0AE0\uD4E8\u0B00\uD4E9\u0AE0\uD504\u0B00\uD505\u0AE0\uD520\u0B00\uD521\u0AE0\uD53C\u0B00\uD53D"
+            + "\u0AE0\uD558\u0B00\uD559\u0AE0\uD574\u0B00\uD575\u0AE0\uD590\u0B00\uD591\u0AE0\uD5AC\u0B00\uD5AD"
+            + "\u0AE0\uD5C8\u0B00\uD5C9\u0AE0\uD5E4\u0B00\uD5E5\u0AE0\uD600\u0B00\uD601\u0AE0\uD61C\u0B00\uD61D"
+            + "\u0AE0\uD638\u0B00\uD639\u0AE0\uD654\u0B00\uD655\u0AE0\uD670\u0B00\uD671\u0AE0\uD68C\u0B00\uD68D"
+            + "\u0AE0\uD6A8\u0B00\uD6A9\u0AE0\uD6C4\u0B00\uD6C5\u0AE0\uD6E0\u0B00\uD6E1\u0AE0\uD6FC\u0B00\uD6FD"
+            + "\u0AE0\uD718\u0B00\uD719\u0AE0\uD734\u0B00\uD735\u0AE0\uD750\u0B00\uD751\u0AE0\uD76C\u0B00\uD76D"
+            + "\u0AE0\uD788\u0B00\uD789\u0980\uD7A4\u0340\uD7B0\u0980\uD7C7\u0360\uD7CB\u0980\uD7FC\u0180\uD800"
+            + "\u09C0\uF900\u0180\uFB00\u0980\uFB07\u0180\uFB13\u0980\uFB18\u01A0\uFB1D\u02A0\uFB1E\u01A0\uFB1F"
+            + "\u0180\uFB29\u01A0\uFB2A\u0980\uFB37\u01A0\uFB38\u0980\uFB3D\u01A0\uFB3E\u0980\uFB3F\u01A0\uFB40"
+            + "\u0980\uFB42\u01A0\uFB43\u0980\uFB45\u01A0\uFB46\u0180\uFB50\u0980\uFBC3\u0180\uFBD3\040\uFD3E"
+            + "\000\uFD3F\u0180\uFD40\u0980\uFD90\u0180\uFD92\u0980\uFDC8\u0180\uFDCF\u0980\uFDD0\u0180\uFDF0"
+            + "\u0140\uFDFC\u0180\uFDFD\u02A0\uFE00\u0900\uFE10\u0820\uFE11\u0900\uFE13\u08C0\uFE15\u0CC0\uFE17"
+            + "\u0820\uFE18\u09E0\uFE19\u0980\uFE1A\u02A0\uFE20\u09C0\uFE30\u0CC0\uFE35\u0820\uFE36\u0CC0\uFE37"
+            + "\u0820\uFE38\u0CC0\uFE39\u0820\uFE3A\u0CC0\uFE3B\u0820\uFE3C\u0CC0\uFE3D\u0820\uFE3E\u0CC0\uFE3F"
+            + "\u0820\uFE40\u0CC0\uFE41\u0820\uFE42\u0CC0\uFE43\u0820\uFE44\u09C0\uFE45\u0CC0\uFE47\u0820\uFE48"
+            + "\u09C0\uFE49\u0820\uFE50\u09C0\uFE51\u0820\uFE52\u0980\uFE53\u08A0\uFE54\u08C0\uFE56\u09C0\uFE58"
+            + "\u0CC0\uFE59\u0820\uFE5A\u0CC0\uFE5B\u0820\uFE5C\u0CC0\uFE5D\u0820\uFE5E\u09C0\uFE5F\u0980\uFE67"
+            + "\u09C0\uFE68\u0920\uFE69\u0940\uFE6A\u09C0\uFE6B\u0980\uFE6C\u0180\uFE70\u0980\uFE75\u0180\uFE76"
+            + "\u0980\uFEFD\u02C0\uFEFF\u0980\uFF00\u08C0\uFF01\u09C0\uFF02\u0920\uFF04\u0940\uFF05\u09C0\uFF06"
+            + "\u0CC0\uFF08\u0820\uFF09\u09C0\uFF0A\u0820\uFF0C\u09C0\uFF0D\u0820\uFF0E\u09C0\uFF0F\u08A0\uFF1A"
+            + "\u09C0\uFF1C\u08C0\uFF1F\u09C0\uFF20\u0CC0\uFF3B\u09C0\uFF3C\u0820\uFF3D\u09C0\uFF3E\u0CC0\uFF5B"
+            + "\u09C0\uFF5C\u0820\uFF5D\u09C0\uFF5E\u0CC0\uFF5F\u0820\uFF60\u0CC0\uFF62\u0820\uFF63\u08A0\uFF65"
+            + "\u09C0\uFF66\u08A0\uFF67\u09C0\uFF71\u08A0\uFF9E\u09C0\uFFA0\u0980\uFFBF\u09C0\uFFC2\u0980\uFFC8"
+            + "\u09C0\uFFCA\u0980\uFFD0\u09C0\uFFD2\u0980\uFFD8\u09C0\uFFDA\u0980\uFFDD\u0940\uFFE0\u0920\uFFE1"
+            + "\u09C0\uFFE2\u0920\uFFE5\u0980\uFFE7\u02A0\uFFF9\u0400\uFFFC\u0180\uFFFD\u0980\uFFFE\u0181\000"
+            + "\u0981\014\u0181\015\u0981\047\u0181\050\u0981\073\u0181\074\u0981\076\u0181\077"
+            + "\u0981\116\u0181\120\u0981\136\u0181\200\u0981\373\u0221\u0100\u0981\u0103\u0181\u0107"
+            + "\u0981\u0134\u0181\u0137\u0981\u018F\u0181\u0190\u0981\u019D\u0181\u01A0\u0981\u01A1\u0181\u01D0"
+            + "\u02A1\u01FD\u0981\u01FE\u0181\u0280\u0981\u029D\u0181\u02A0\u0981\u02D1\u02A1\u02E0\u0181\u02E1"
+            + "\u0981\u02FC\u0181\u0300\u0981\u0324\u0181\u032D\u0981\u034B\u0181\u0350\u02A1\u0376\u0981\u037B"
+            + "\u0181\u0380\u0981\u039E\u0221\u039F\u0181\u03A0\u0981\u03C4\u0181\u03C8\u0221\u03D0\u0181\u03D1"
+            + "\u0981\u03D6\u0181\u0400\u0981\u049E\u0161\u04A0\u0981\u04AA\u0181\u04B0\u0981\u04D4\u0181\u04D8"
+            + "\u0981\u04FC\u0181\u0500\u0981\u0528\u0181\u0530\u0981\u0564\u0181\u056F\u0981\u057B\u0181\u057C"
+            + "\u0981\u058B\u0181\u058C\u0981\u0593\u0181\u0594\u0981\u0596\u0181\u0597\u0981\u05A2\u0181\u05A3"
+            + "\u0981\u05B2\u0181\u05B3\u0981\u05BA\u0181\u05BB\u0981\u05BD\u0181\u0600\u0981\u0737\u0181\u0740"
+            + "\u0981\u0756\u0181\u0760\u0981\u0768\u0181\u0780\u0981\u0786\u0181\u0787\u0981\u07B1\u0181\u07B2"
+            + "\u0981\u07BB\u0181\u0800\u0981\u0806\u0181\u0808\u0981\u0809\u0181\u080A\u0981\u0836\u0181\u0837"
+            + "\u0981\u0839\u0181\u083C\u0981\u083D\u0181\u083F\u0981\u0856\u0221\u0857\u0181\u0858\u0981\u089F"
+            + "\u0181\u08A7\u0981\u08B0\u0181\u08E0\u0981\u08F3\u0181\u08F4\u0981\u08F6\u0181\u08FB\u0981\u091C"
+            + "\u0221\u091F\u0181\u0920\u0981\u093A\u0181\u093F\u0981\u0940\u0181\u0980\u0981\u09B8\u0181\u09BC"
+            + "\u0981\u09D0\u0181\u09D2\u02A1\u0A01\u0981\u0A04\u02A1\u0A05\u0981\u0A07\u02A1\u0A0C\u0181\u0A10"
+            + "\u0981\u0A14\u0181\u0A15\u0981\u0A18\u0181\u0A19\u0981\u0A36\u02A1\u0A38\u0981\u0A3B\u02A1\u0A3F"
+            + "\u0181\u0A40\u0981\u0A49\u0221\u0A50\u0181\u0A58\u0981\u0A59\u0181\u0A60\u0981\u0AA0\u0181\u0AC0"
+            + "\u02A1\u0AE5\u0981\u0AE7\u0181\u0AEB\u0221\u0AF0\u01E1\u0AF6\u0981\u0AF7\u0181\u0B00\u0981\u0B36"
+            + "\u0221\u0B39\u0181\u0B40\u0981\u0B56\u0181\u0B58\u0981\u0B73\u0181\u0B78\u0981\u0B92\u0181\u0B99"
+            + "\u0981\u0B9D\u0181\u0BA9\u0981\u0BB0\u0181\u0C00\u0981\u0C49\u0181\u0C80\u0981\u0CB3\u0181\u0CC0"
+            + "\u0981\u0CF3\u0181\u0CFA\u02A1\u0D24\u0981\u0D28\u0161\u0D30\u0981\u0D3A\u0181\u0E60\u0981\u0E7F"
+            + "\u0181\u0E80\u0981\u0EAA\u02A1\u0EAB\u0221\u0EAD\u0981\u0EAE\u0181\u0EB0\u0981\u0EB2\u0181\u0F00"
+            + "\u0981\u0F28\u0181\u0F30\u02A1\u0F46\u0181\u0F51\u0981\u0F5A\u0181\u0F70\u02A1\u0F82\u0181\u0F86"
+            + "\u0981\u0F8A\u0181\u0FB0\u0981\u0FCC\u0181\u0FE0\u0981\u0FF7\u02A1\u1000\u0181\u1003\u02A1\u1038"
+            + "\u0221\u1047\u0181\u1049\u0981\u104E\u0181\u1052\u0161\u1066\u02A1\u1070\u0181\u1071\u02A1\u1073"
+            + "\u0181\u1075\u0981\u1076\u02A1\u107F\u0181\u1083\u02A1\u10B0\u0181\u10BB\u0221\u10BE\u02A1\u10C2"
+            + "\u0981\u10C3\u0181\u10CD\u0981\u10CE\u0181\u10D0\u0981\u10E9\u0161\u10F0\u0981\u10FA\u02A1\u1100"
+            + "\u0181\u1103\u02A1\u1127\u0981\u1135\u0161\u1136\u0221\u1140\u0181\u1144\u02A1\u1145\u0181\u1147"
+            + "\u0981\u1148\u0181\u1150\u02A1\u1173\u0181\u1174\u0241\u1175\u0181\u1176\u0981\u1177\u02A1\u1180"
+            + "\u0181\u1183\u02A1\u11B3\u0181\u11C1\u0221\u11C5\u0181\u11C7\u0221\u11C8\u02A1\u11C9\u0181\u11CD"
+            + "\u02A1\u11CE\u0161\u11D0\u0181\u11DA\u0241\u11DB\u0181\u11DC\u0221\u11DD\u0981\u11E0\u0181\u11E1"
+            + "\u0981\u11F5\u0181\u1200\u0981\u1212\u0181\u1213\u02A1\u122C\u0221\u1238\u0181\u123A\u0221\u123B"
+            + "\u0181\u123D\u02A1\u123E\u0981\u123F\u0181\u1280\u0981\u1287\u0181\u1288\u0981\u1289\u0181\u128A"
+            + "\u0981\u128E\u0181\u128F\u0981\u129E\u0181\u129F\u0221\u12A9\u0981\u12AA\u0181\u12B0\u02A1\u12DF"
+            + "\u0981\u12EB\u0161\u12F0\u0981\u12FA\u02A1\u1300\u0981\u1304\u0181\u1305\u0981\u130D\u0181\u130F"
+            + "\u0981\u1311\u0181\u1313\u0981\u1329\u0181\u132A\u0981\u1331\u0181\u1332\u0981\u1334\u0181\u1335"
+            + "\u0981\u133A\u02A1\u133B\u0181\u133D\u02A1\u133E\u0981\u1345\u02A1\u1347\u0981\u1349\u02A1\u134B"
+            + "\u0981\u134E\u0181\u1350\u0981\u1351\u02A1\u1357\u0981\u1358\u0181\u135D\u02A1\u1362\u0981\u1364"
+            + "\u02A1\u1366\u0981\u136D\u02A1\u1370\u0981\u1375\u0181\u1400\u02A1\u1435\u0181\u1447\u0221\u144B"
+            + "\u0181\u144F\u0161\u1450\u0221\u145A\u0981\u145C\u0181\u145D\u02A1\u145E\u0181\u145F\u0981\u1462"
+            + "\u0181\u1480\u02A1\u14B0\u0181\u14C4\u0981\u14C8\u0161\u14D0\u0981\u14DA\u0181\u1580\u02A1\u15AF"
+            + "\u0981\u15B6\u02A1\u15B8\u0241\u15C1\u0221\u15C2\301\u15C4\u0181\u15C6\u0221\u15C9\u0181\u15D8"
+            + "\u02A1\u15DC\u0981\u15DE\u0181\u1600\u02A1\u1630\u0221\u1641\u0181\u1643\u0981\u1645\u0161\u1650"
+            + "\u0981\u165A\u0241\u1660\u0981\u166D\u0181\u1680\u02A1\u16AB\u0181\u16B8\u0981\u16BA\u0161\u16C0"
+            + "\u0981\u16CA\u0181\u1700\u0981\u171B\u02A1\u171D\u0981\u172C\u0161\u1730\u0181\u173A\u0221\u173C"
+            + "\u0181\u173F\u0981\u1747\u0181\u1800\u02A1\u182C\u0181\u183B\u0981\u183C\u0181\u18A0\u0161\u18E0"
+            + "\u0181\u18EA\u0981\u18F3\u0181\u18FF\u0981\u1907\u0181\u1909\u0981\u190A\u0181\u190C\u0981\u1914"
+            + "\u0181\u1915\u0981\u1917\u0181\u1918\u02A1\u1930\u0981\u1936\u02A1\u1937\u0981\u1939\u02A1\u193B"
+            + "\u0181\u193F\u02A1\u1940\u0181\u1941\u02A1\u1942\u0221\u1944\u0981\u1947\u0161\u1950\u0981\u195A"
+            + "\u0181\u19A0\u0981\u19A8\u0181\u19AA\u02A1\u19D1\u0981\u19D8\u02A1\u19DA\u0181\u19E1\u0241\u19E2"
+            + "\u0181\u19E3\u02A1\u19E4\u0981\u19E5\u0181\u1A00\u02A1\u1A01\u0181\u1A0B\u02A1\u1A33\u0181\u1A3A"
+            + "\u02A1\u1A3B\u0241\u1A3F\u0181\u1A40\u0221\u1A41\u0241\u1A45\u0181\u1A46\u02A1\u1A47\u0981\u1A48"
+            + "\u0181\u1A50\u02A1\u1A51\u0181\u1A5C\u02A1\u1A8A\u0221\u1A9A\u0181\u1A9D\u0241\u1A9E\u0221\u1AA1"
+            + "\u0981\u1AA3\u0181\u1AB0\u0981\u1AF9\u0181\u1C00\u0981\u1C09\u0181\u1C0A\u02A1\u1C2F\u0981\u1C37"
+            + "\u02A1\u1C38\u0181\u1C40\u0221\u1C41\u0981\u1C46\u0161\u1C50\u0181\u1C5A\u0981\u1C6D\u0241\u1C70"
+            + "\301\u1C71\u0181\u1C72\u0981\u1C90\u02A1\u1C92\u0981\u1CA8\u02A1\u1CA9\u0981\u1CB7\u0181\u1D00"
+            + "\u0981\u1D07\u0181\u1D08\u0981\u1D0A\u0181\u1D0B\u02A1\u1D31\u0981\u1D37\u02A1\u1D3A\u0981\u1D3B"
+            + "\u02A1\u1D3C\u0981\u1D3E\u02A1\u1D3F\u0181\u1D46\u02A1\u1D47\u0981\u1D48\u0161\u1D50\u0981\u1D5A"
+            + "\u0181\u1D60\u0981\u1D66\u0181\u1D67\u0981\u1D69\u0181\u1D6A\u02A1\u1D8A\u0981\u1D8F\u02A1\u1D90"
+            + "\u0981\u1D92\u02A1\u1D93\u0181\u1D98\u0981\u1D99\u0161\u1DA0\u0981\u1DAA\u0181\u1EE0\u02A1\u1EF3"
+            + "\u0181\u1EF7\u0981\u1EF9\u0181\u1FB0\u0981\u1FB1\u0181\u1FC0\u0141\u1FDD\u0181\u1FE1\u0981\u1FF2"
+            + "\u0221\u1FFF\u0181\u2000\u0981\u239A\u0181\u2400\u0981\u246F\u0221\u2470\u0981\u2475\u0181\u2480"
+            + "\u0981\u2544\u0181\u2F90\u0981\u2FF3\u0181\u3000\001\u3258\041\u325B\u0181\u325E\041\u3282"
+            + "\u0181\u3283\001\u3286\041\u3287\001\u3288\041\u3289\u0181\u328A\001\u3379\041\u337A"
+            + "\u0181\u337C\u0981\u342F\201\u3430\001\u3437\041\u3438\u0981\u3439\u0181\u4400\001\u45CE"
+            + "\041\u45CF\u0181\u45D0\u0981\u4647\u0181\u6800\u0981\u6A39\u0181\u6A40\u0981\u6A5F\u0161\u6A60"
+            + "\u0981\u6A6A\u0221\u6A6E\u0181\u6A70\u0981\u6ABF\u0161\u6AC0\u0981\u6ACA\u0181\u6AD0\u0981\u6AEE"
+            + "\u02A1\u6AF0\u0221\u6AF5\u0981\u6AF6\u0181\u6B00\u02A1\u6B30\u0221\u6B37\u0181\u6B3A\u0221\u6B44"
+            + "\u0181\u6B45\u0981\u6B46\u0161\u6B50\u0981\u6B5A\u0181\u6B5B\u0981\u6B62\u0181\u6B63\u0981\u6B78"
+            + "\u0181\u6B7D\u0981\u6B90\u0181\u6E40\u0221\u6E97\u0181\u6E99\u0981\u6E9B\u0181\u6F00\u0981\u6F4B"
+            + "\u02A1\u6F4F\u0181\u6F50\u02A1\u6F51\u0981\u6F88\u02A1\u6F8F\u0181\u6F93\u0981\u6FA0\u08A1\u6FE0"
+            + "\u0881\u6FE4\u0981\u6FE5\u0AA1\u6FF0\u0981\u6FF2\u09C1\u7000\u0981\u87F8\u09C1\u8800\u0981\u8B00"
+            + "\u09C1\u8D00\u0981\u8D09\u09C1\uB000\u0981\uB123\u08A1\uB150\u0981\uB153\u08A1\uB164\u0981\uB168"
+            + "\u09C1\uB170\u0981\uB2FC\u0181\uBC00\u0981\uBC6B\u0181\uBC70\u0981\uBC7D\u0181\uBC80\u0981\uBC89"
+            + "\u0181\uBC90\u0981\uBC9A\u0181\uBC9C\u02A1\uBC9D\u0221\uBC9F\u02A1\uBCA0\u0981\uBCA4\u02A1\uCF00"
+            + "\u0981\uCF2E\u02A1\uCF30\u0981\uCF47\u0181\uCF50\u0981\uCFC4\u0181\uD000\u0981\uD0F6\u0181\uD100"
+            + "\u0981\uD127\u0181\uD129\u02A1\uD165\u0181\uD16A\u02A1\uD16D\u0181\uD183\u02A1\uD185\u0181\uD18C"
+            + "\u02A1\uD1AA\u0181\uD1AE\u0981\uD1EB\u0181\uD200\u02A1\uD242\u0181\uD245\u0981\uD246\u0181\uD2E0"
+            + "\u0981\uD2F4\u0181\uD300\u0981\uD357\u0181\uD360\u0981\uD379\u0181\uD400\u0981\uD455\u0181\uD456"
+            + "\u0981\uD49D\u0181\uD49E\u0981\uD4A0\u0181\uD4A2\u0981\uD4A3\u0181\uD4A5\u0981\uD4A7\u0181\uD4A9"
+            + "\u0981\uD4AD\u0181\uD4AE\u0981\uD4BA\u0181\uD4BB\u0981\uD4BC\u0181\uD4BD\u0981\uD4C4\u0181\uD4C5"
+            + "\u0981\uD506\u0181\uD507\u0981\uD50B\u0181\uD50D\u0981\uD515\u0181\uD516\u0981\uD51D\u0181\uD51E"
+            + "\u0981\uD53A\u0181\uD53B\u0981\uD53F\u0181\uD540\u0981\uD545\u0181\uD546\u0981\uD547\u0181\uD54A"
+            + "\u0981\uD551\u0181\uD552\u0981\uD6A6\u0181\uD6A8\u0981\uD7CC\u0161\uD7CE\u0181\uD800\u02A1\uDA00"
+            + "\u0181\uDA37\u02A1\uDA3B\u0181\uDA6D\u02A1\uDA75\u0181\uDA76\u02A1\uDA84\u0181\uDA85\u0221\uDA87"
+            + "\u0181\uDA8B\u0981\uDA8C\u02A1\uDA9B\u0981\uDAA0\u02A1\uDAA1\u0981\uDAB0\u0181\uDF00\u0981\uDF1F"
+            + "\u02A1\uE000\u0981\uE007\u02A1\uE008\u0981\uE019\u02A1\uE01B\u0981\uE022\u02A1\uE023\u0981\uE025"
+            + "\u02A1\uE026\u0981\uE02B\u0181\uE100\u0981\uE12D\u02A1\uE130\u0181\uE137\u0981\uE13E\u0161\uE140"
+            + "\u0981\uE14A\u0181\uE14E\u0981\uE150\u0181\uE290\u02A1\uE2AE\u0981\uE2AF\u0181\uE2C0\u02A1\uE2EC"
+            + "\u0161\uE2F0\u0981\uE2FA\u0121\uE2FF\u0981\uE300\u0181\uE7E0\u0981\uE7E7\u0181\uE7E8\u0981\uE7EC"
+            + "\u0181\uE7ED\u0981\uE7EF\u0181\uE7F0\u0981\uE7FF\u0181\uE800\u0981\uE8C5\u0181\uE8C7\u02A1\uE8D0"
+            + "\u0981\uE8D7\u0181\uE900\u02A1\uE944\u0181\uE94B\u0981\uE94C\u0161\uE950\u0981\uE95A\001\uE95E"
+            + "\u0981\uE960\u0181\uEC71\u0141\uECAC\u0181\uECAD\u0141\uECB0\u0181\uECB1\u0981\uECB5\u0181\uED01"
+            + "\u0981\uED3E\u0181\uEE00\u0981\uEE04\u0181\uEE05\u0981\uEE20\u0181\uEE21\u0981\uEE23\u0181\uEE24"
+            + "\u0981\uEE25\u0181\uEE27\u0981\uEE28\u0181\uEE29\u0981\uEE33\u0181\uEE34\u0981\uEE38\u0181\uEE39"
+            + "\u0981\uEE3A\u0181\uEE3B\u0981\uEE3C\u0181\uEE42\u0981\uEE43\u0181\uEE47\u0981\uEE48\u0181\uEE49"
+            + "\u0981\uEE4A\u0181\uEE4B\u0981\uEE4C\u0181\uEE4D\u0981\uEE50\u0181\uEE51\u0981\uEE53\u0181\uEE54"
+            + "\u0981\uEE55\u0181\uEE57\u0981\uEE58\u0181\uEE59\u0981\uEE5A\u0181\uEE5B\u0981\uEE5C\u0181\uEE5D"
+            + "\u0981\uEE5E\u0181\uEE5F\u0981\uEE60\u0181\uEE61\u0981\uEE63\u0181\uEE64\u0981\uEE65\u0181\uEE67"
+            + "\u0981\uEE6B\u0181\uEE6C\u0981\uEE73\u0181\uEE74\u0981\uEE78\u0181\uEE79\u0981\uEE7D\u0181\uEE7E"
+            + "\u0981\uEE7F\u0181\uEE80\u0981\uEE8A\u0181\uEE8B\u0981\uEE9C\u0181\uEEA1\u0981\uEEA4\u0181\uEEA5"
+            + "\u0981\uEEAA\u0181\uEEAB\u0981\uEEBC\u0181\uEEF0\u0981\uEEF2\u01C1\uF000\u09C1\uF004\u01C1\uF005"
+            + "\u09C1\uF02C\u01C1\uF030\u09C1\uF094\u01C1\uF0A0\u09C1\uF0AF\u01C1\uF0B1\u09C1\uF0C0\u01C1\uF0C1"
+            + "\u09C1\uF0CF\u01C1\uF0D1\u09C1\uF0F6\u0181\uF100\u01C1\uF10D\u0181\uF110\u01C1\uF16D\u0181\uF170"
+            + "\u0981\uF18E\u0181\uF18F\u0981\uF191\u0181\uF19B\u01C1\uF1AD\u09C1\uF1AE\u0381\uF1E6\u09C1\uF200"
+            + "\u01C1\uF321\u09C1\uF32D\u01C1\uF336\u09C1\uF337\u01C1\uF37D\u09C1\uF37E\u0BA1\uF385\u09C1\uF386"
+            + "\u01C1\uF394\u0181\uF39C\u01C1\uF39E\u09C1\uF3A0\u0981\uF3B5\u09C1\uF3B7\u0981\uF3BC\u09C1\uF3BD"
+            + "\u0BA1\uF3C2\u09C1\uF3C5\u0BA1\uF3C7\u09C1\uF3C8\u0BA1\uF3CA\u03A1\uF3CB\u01C1\uF3CD\u09C1\uF3CF"
+            + "\u01C1\uF3D4\u09C1\uF3E0\u01C1\uF3F1\u09C1\uF3F4\u01C1\uF3F5\u09C1\uF3F8\u0BC1\uF3FB\u09C1\uF400"
+            + "\u01C1\uF43F\u09C1\uF440\u01C1\uF441\u0BA1\uF442\u09C1\uF444\u0BA1\uF446\u09C1\uF451\u0BA1\uF466"
+            + "\u09C1\uF479\u0BA1\uF47C\u09C1\uF47D\u0BA1\uF481\u09C1\uF484\u0BA1\uF485\u09C1\uF488\u0BA1\uF48F"
+            + "\u09C1\uF490\u0BA1\uF491\u09C1\uF492\u0981\uF4A0\u09C1\uF4A1\u0981\uF4A2\u09C1\uF4A3\u0981\uF4A4"
+            + "\u09C1\uF4A5\u0BA1\uF4AA\u09C1\uF4AB\u0981\uF4AF\u09C1\uF4B0\u0981\uF4B1\u09C1\uF4B3\u01C1\uF4FD"
+            + "\u09C1\uF4FF\u0981\uF500\u09C1\uF507\u0981\uF517\u09C1\uF525\u0981\uF532\u0181\uF53E\u01C1\uF54A"
+            + "\u09C1\uF54B\u01C1\uF54F\u09C1\uF550\u01C1\uF568\u03A1\uF574\u01C1\uF576\u0BA1\uF57A\u01C1\uF57B"
+            + "\u03A1\uF590\u01C1\uF591\u0BA1\uF595\u01C1\uF597\u09C1\uF5A4\u01C1\uF5A5\u0181\uF5D4\u01C1\uF5DC"
+            + "\u0181\uF5F4\u01C1\uF5FA\u09C1\uF5FB\u0BA1\uF645\u09C1\uF648\u0BA1\uF64B\u0181\uF650\141\uF676"
+            + "\241\uF679\u0181\uF67C\u09C1\uF680\u0BA1\uF6A3\u09C1\uF6A4\u0BA1\uF6B4\u09C1\uF6B7\u0BA1\uF6C0"
+            + "\u09C1\uF6C1\u01C1\uF6C6\u0BA1\uF6CC\u01C1\uF6CD\u09C1\uF6D0\u01C1\uF6D3\u09C1\uF6D5\u01C1\uF6E0"
+            + "\u09C1\uF6EB\u01C1\uF6F0\u09C1\uF6F4\u0181\uF700\u09C1\uF774\u0181\uF780\u01C1\uF7D5\u09C1\uF7D9"
+            + "\u0181\uF800\u09C1\uF80C\u0181\uF810\u09C1\uF848\u0181\uF850\u09C1\uF85A\u0181\uF860\u09C1\uF888"
+            + "\u0181\uF890\u09C1\uF8AE\u01C1\uF8B0\u09C1\uF8B2\u0181\uF900\u0BA1\uF90C\u09C1\uF90D\u0BA1\uF90F"
+            + "\u09C1\uF910\u0BA1\uF918\u09C1\uF920\u0BA1\uF926\u09C1\uF927\u0BA1\uF930\u09C1\uF93A\u01C1\uF93B"
+            + "\u0BA1\uF93C\u09C1\uF93F\u01C1\uF946\u09C1\uF947\u0BA1\uF977\u09C1\uF978\u0BA1\uF9B5\u09C1\uF9B7"
+            + "\u0BA1\uF9B8\u09C1\uF9BA\u0BA1\uF9BB\u09C1\uF9BC\u0BA1\uF9CD\u09C1\uF9D0\u0BA1\uF9D1\u09C1\uF9DE"
+            + "\u0181\uFA00\u09C1\uFA54\u01C1\uFA60\u09C1\uFA6E\u0BA1\uFAC3\u09C1\uFAC6\u0BA1\uFAF0\u09C1\uFAF7"
+            + "\u0181\uFB00\u0981\uFB93\u0181\uFB94\u0981\uFBCB\u0161\uFBF0\u0981\uFBFA\u09C1\uFC00\u0981\uFFFE"
+            + "\u09C2\000\u0982\uFFFE\u09C3\000\u0983\uFFFE\u02AE\001\u098E\002\u02AE\040\u098E\200"
+            + "\u02AE\u0100\u098E\u01F0\u018F\000\u098F\uFFFE\u0190\000\u0990\uFFFE"
+            ;
+
+    // Action of each pair of classes, row by the class before and column by the class after,
+    // 0 prohibited, 1 break after spaces only, 2 break
+    static final String PAIRS = ""
+            + "000000000000000000000000000000000000000" // OP
+            + "200110000112222111220102222222212000002" // CL
+            + "200110000111112111220102222222212000002" // CP
+            + "000111000111111111110101111111111000000" // QU
+            + "100111000111111111110101111111111000001" // GL
+            + "200111000222222111220102222222212000002" // NS
+            + "200111000222222111220102222222212000002" // EX
+            + "200111000221212111220102222222212000002" // SY
+            + "200111000221112111220102222222212000002" // IS
+            + "100111000221111111220101111121112000001" // PR
+            + "100111000221112111220102222222212000001" // PO
+            + "100111000111112111220102222222212000002" // NU
+            + "100111000111112111220102222222212000002" // AL
+            + "100111000111112111220102222222212000002" // HL
+            + "200111000212222111220102222222212000002" // ID
+            + "200111000222222111220102222222212000002" // IN
+            + "200121000221222111220102222222212000002" // HY
+            + "200121000222222111220102222222212000002" // BA
+            + "100111000111111111110101111111112000001" // BB
+            + "200111000222222111200102222222212000002" // B2
+            + "222222222222222222220222222222222000002" // ZW
+            + "100111000111112111220102222222212000002" // CM
+            + "100111000111111111110101111111111000001" // WJ
+            + "200111000212222111220102221122212000002" // H2
+            + "200111000212222111220102222122212000002" // H3
+            + "200111000212222111220101111222212000002" // JL
+            + "200111000212222111220102221122212000002" // JV
+            + "200111000212222111220102222122212000002" // JT
+            + "200111000222222111220102222212212000002" // RI
+            + "200111000212222111220102222222112000002" // EB
+            + "200111000212222111220102222222212000002" // EM
+            + "100111000111112111220102222222212000002" // ZWJ
+            + "200112000222222222220102222222212000002" // CB
+            + "200111000222222111220102222222212000002" // SP
+            + "222222222222222222222222222222222222222" // BK
+            + "222222222222222222222222222222222222022" // CR
+            + "222222222222222222222222222222222222222" // LF
+            + "222222222222222222222222222222222222222" // NL
+            + "000000000000000000000000000000000000000" // OPW
+            ;
+}
@@ -0,0 +1,181 @@
+package com.geansea.layout;
+
+import java.util.Arrays;
+
+// Line break opportunities by the pair table of UAX #14, with kinsoku of GSCharUtils as tailoring.
+// Classes and pair actions are generated into GSLineBreakData by layout/scripts/gen_line_break_data.py.
+final class GSLineBreaker {
+    // Line break classes used here, in the order of GSLineBreakData
+    private static final int OP = 0;
+    private static final int CL = 1;
+    private static final int CP = 2;
+    private static final int QU = 3;
+    private static final int NS = 5;
+    private static final int EX = 6;
+    private static final int IS = 8;
+    private static final int AL = 12;
+    private static final int HL = 13;
+    private static final int HY = 16;
+    private static final int BA = 17;
+    private static final int ZW = 20;
+    private static final int CM = 21;
+    private static final int RI = 28;
+    private static final int ZWJ = 31;
+    private static final int SP = 33;
+    private static final int NL = 37;
+    private static final int OPW = 38;
+    private static final int CLASS_COUNT = 39;
+    // Flag of East Asian width F, W or H, above the class bits
+    private static final int WIDE = 0x40;
+    private static final int CLASS_MASK = 0x3F;
+
+    // Pair actions
+    private static final byte PROHIBITED = 0;
+    private static final byte INDIRECT = 1;
+    private static final byte DIRECT = 2;
+    private static final byte CONTEXT = 3;
+
+    private static final char ZERO_WIDTH_JOINER = '\u200D';
+
+    // Class and wide flag by code point
+    private static final GSCodePointTable classTable;
+    // Action by (class before) * CLASS_COUNT + (class after)
+    private static final byte[] pairs;
+    // Pairs with INDIRECT and those looking further back set to CONTEXT
+    private static final byte[] quickPairs;
+
+    static {
+        byte[] bmpValues = GSCodePointTable.decodeBmp(GSLineBreakData.RANGES);
+        tailorKinsoku(bmpValues);
+        classTable = new GSCodePointTable(GSLineBreakData.RANGES, bmpValues);
+        pairs = new byte[CLASS_COUNT * CLASS_COUNT];
+        for (int i = 0; i < pairs.length; ++i) {
+            pairs[i] = (byte) (GSLineBreakData.PAIRS.charAt(i) - '0');
+        }
+        quickPairs = Arrays.copyOf(pairs, pairs.length);
+        for (int before = 0; before < CLASS_COUNT; ++before) {
+            for (int after = 0; after < CLASS_COUNT; ++after) {
+                int pair = before * CLASS_COUNT + after;
+                if (pairs[pair] == INDIRECT || before == SP || before == CM || before == ZWJ
+                        || (pairs[pair] == DIRECT && (before == HY || before == BA))) {
+                    quickPairs[pair] = CONTEXT;
+                }
+            }
+        }
+    }
+
+    // Whether a line may break between glyphs at index0 and index1, which follows it
+    static boolean canBreak(GSLayoutGlyphRun glyphs, int index0, int index1) {
+        int before = glyphs.breakClass[index0];
+        int after = glyphs.breakClass[index1];
+        // Glyphs of more than one char may end with a joiner
+        if (glyphs.end[index0] - glyphs.start[index0] == 1) {
+            byte action = quickPairs[before * CLASS_COUNT + after];
+            if (action != CONTEXT) {
+                return action == DIRECT;
+            }
+            // Single space after a word
+            if (before == SP && index0 > 0) {
+                int word = glyphs.breakClass[index0 - 1];
+                if (word != SP && word != CM && word != ZWJ) {
+                    return pairs[word * CLASS_COUNT + after] != PROHIBITED;
+                }
+            }
+        }
+        return canBreakInContext(glyphs, index0, index1, before, after);
+    }
+
+    // Pairs with spaces, marks or rules of more than two classes
+    private static boolean canBreakInContext(GSLayoutGlyphRun glyphs, int index0, int index1, int before, int after) {
+        // LB8a, the joiner is merged into the glyph before
+        if (glyphs.chars[glyphs.end[index0] - 1 - glyphs.charsStart] == ZERO_WIDTH_JOINER) {
+            return false;
+        }
+        int index = index0;
+        // LB7, LB18, pairs are looked up across spaces
+        boolean spaces = false;
+        while (before == SP) {
+            spaces = true;
+            before = (index > 0) ? glyphs.breakClass[--index] : AL;
+        }
+        // LB9, LB10, marks take the class of their base, or AL without base
+        while (before == CM || before == ZWJ) {
+            int base = (index > 0) ? glyphs.breakClass[index - 1] : SP;
+            if (base == ZW || (SP <= base && base <= NL)) {
+                before = AL;
+            } else {
+                before = base;
+                --index;
+            }
+        }
+        byte action = pairs[before * CLASS_COUNT + after];
+        if (action == INDIRECT) {
+            if (spaces) {
+                return true;
+            }
+            // LB30a, regional indicators are paired into one glyph as a grapheme cluster
+            if (before == RI && after == RI) {
+                return glyphs.end[index] - glyphs.start[index] >= 4;
+            }
+            if (before == QU || after == QU) {
+                return canBreakAtQuote(glyphs, index, index1, before, after);
+            }
+            return false;
+        }
+        // LB21a, no break after the hyphen of a Hebrew letter
+        if (action == DIRECT && !spaces && (before == HY || before == BA)) {
+            return index == 0 || glyphs.breakClass[index - 1] != HL;
+        }
+        return action == DIRECT;
+    }
+
+    // LB19a of Unicode 15.1, quotes between East Asian chars do not hold them, except by kinsoku.
+    // Quote before is at index, quote after is at index1.
+    private static boolean canBreakAtQuote(GSLayoutGlyphRun glyphs, int index, int index1, int before, int after) {
+        if (before == QU) {
+            if (GSCharUtils.shouldCompressStart(glyphs, index)) {
+                return false;
+            }
+            if (index == 0 || !isWide(glyphs, index - 1) || !isWide(glyphs, index1)) {
+                return false;
+            }
+        }
+        if (after == QU) {
+            if (GSCharUtils.shouldCompressEnd(glyphs, index1)) {
+                return false;
+            }
+            if (index1 + 1 == glyphs.count || !isWide(glyphs, index) || !isWide(glyphs, index1 + 1)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isWide(GSLayoutGlyphRun glyphs, int index) {
+        return (classTable.get(glyphs.codePoint(index)) & WIDE) != 0;
+    }
+
+    // Class of the glyph starting at chars[index], set to the glyph run when measured
+    static byte getBreakClass(char[] chars, int index, int limit) {
+        return (byte) (classTable.get(Character.codePointAt(chars, index, limit)) & CLASS_MASK);
+    }
+
+    // Chars compressed at start never end a line, chars compressed at end never begin a line.
+    // Quotes are kept, as they are held by kinsoku in canBreakAtQuote().
+    private static void tailorKinsoku(byte[] bmpValues) {
+        for (char code : GSCharUtils.compressStartChars) {
+            int oldClass = bmpValues[code] & CLASS_MASK;
+            if (code != Character.MIN_VALUE && oldClass != OP && oldClass != OPW && oldClass != QU) {
+                bmpValues[code] = (byte) ((bmpValues[code] & WIDE) | OP);
+            }
+        }
+        for (char code : GSCharUtils.compressEndChars) {
+            int oldClass = bmpValues[code] & CLASS_MASK;
+            if (code != Character.MIN_VALUE
+                    && oldClass != CL && oldClass != CP && oldClass != EX && oldClass != IS && oldClass != NS
+                    && oldClass != QU) {
+                bmpValues[code] = (byte) ((bmpValues[code] & WIDE) | CL);
+            }
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.geansea.layout;
+
+import java.util.Arrays;
+
+// Total fit line breaking of a paragraph measured as one line, with break rules of GSCharUtils
+final class GSOptimalBreaker {
+    private static final float LINE_PENALTY = 10;
+    private static final float MAX_BADNESS = 10000;
+    // Bound of break candidates looked back for each line end
+    private static final int MAX_LOOKBACK = 256;
+
+    // Glyph indexes where lines end, null if some part cannot fit in size
+    static int[] breakParagraph(GSLayoutGlyphRun glyphs,
+                                float size,
+                                float fontSize,
+                                float punctuationCompressRate,
+                                boolean justify) {
+        int count = glyphs.count;
+        if (count == 0) {
+            return null;
+        }
+        // Candidates are glyph indexes where a line may end, 0 is the paragraph start
+        int[] candidates = new int[16];
+        int candidateCount = 0;
+        candidates[candidateCount++] = 0;
+        // Stretch points before each glyph, for justify
+        int[] stretches = new int[count + 1];
+        for (int i = 1; i <= count; ++i) {
+            boolean stretch = i < count && GSCharUtils.canStretch(glyphs, i - 1, i);
+            stretches[i] = stretches[i - 1] + (stretch ? 1 : 0);
+            if (i == count || GSCharUtils.canBreak(glyphs, i - 1, i)) {
+                if (candidateCount == candidates.length) {
+                    candidates = Arrays.copyOf(candidates, candidateCount * 2);
+                }
+                candidates[candidateCount++] = i;
+            }
+        }
+        // Positions of line start and end at each candidate
+        float[] startPos = new float[candidateCount];
+        float[] endPos = new float[candidateCount];
+        for (int c = 0; c < candidateCount; ++c) {
+            int index = candidates[c];
+            if (index > 0) {
+                endPos[c] = getLineEndPos(glyphs, index, punctuationCompressRate);
+            }
+            if (index > 0 && index < count) {
+                startPos[c] = glyphs.vertical ? glyphs.getUsedTop(index) : glyphs.getUsedLeft(index);
+            }
+        }
+        float[] demerits = new float[candidateCount];
+        int[] previous = new int[candidateCount];
+        Arrays.fill(demerits, Float.POSITIVE_INFINITY);
+        demerits[0] = 0;
+        for (int c1 = 1; c1 < candidateCount; ++c1) {
+            int lineEnd = candidates[c1];
+            boolean isLast = lineEnd == count;
+            int lastGlyph = GSCharUtils.isNewline(glyphs, lineEnd - 1) ? lineEnd - 2 : lineEnd - 1;
+            int minCandidate = Math.max(0, c1 - MAX_LOOKBACK);
+            for (int c0 = c1 - 1; c0 >= minCandidate; --c0) {
+                int lineStart = candidates[c0];
+                float slack = size - (endPos[c1] - startPos[c0]);
+                if (slack < 0) {
+                    // Lines from earlier candidates are longer
+                    if (slack < -fontSize) {
+                        break;
+                    }
+                    continue;
+                }
+                if (Float.isInfinite(demerits[c0])) {
+                    continue;
+                }
+                float badness = 0;
+                if (!isLast) {
+                    int stretchCount = stretches[Math.max(lastGlyph, lineStart)] - stretches[lineStart];
+                    float stretch = justify ? Math.max(stretchCount, 1) * fontSize / 3 : size / 4;
+                    float ratio = slack / stretch;
+                    badness = Math.min(100 * ratio * ratio * ratio, MAX_BADNESS);
+                }
+                float lineDemerits = (LINE_PENALTY + badness) * (LINE_PENALTY + badness);
+                if (demerits[c0] + lineDemerits < demerits[c1]) {
+                    demerits[c1] = demerits[c0] + lineDemerits;
+                    previous[c1] = c0;
+                }
+            }
+        }
+        if (Float.isInfinite(demerits[candidateCount - 1])) {
+            return null;
+        }
+        int lineCount = 0;
+        for (int c = candidateCount - 1; c > 0; c = previous[c]) {
+            ++lineCount;
+        }
+        int[] lineEnds = new int[lineCount];
+        for (int c = candidateCount - 1; c > 0; c = previous[c]) {
+            lineEnds[--lineCount] = candidates[c];
+        }
+        return lineEnds;
+    }
+
+    // Used end of line ending at glyph index end, the same way as line end is adjusted
+    private static float getLineEndPos(GSLayoutGlyphRun glyphs, int end, float punctuationCompressRate) {
+        int last = end - 1;
+        if (GSCharUtils.isNewline(glyphs, last) && last > 0) {
+            --last;
+        }
+        if (GSCharUtils.shouldCompressEnd(glyphs, last) && GSCharUtils.canCompress(glyphs, last)) {
+            return glyphs.getEndPos(last) - glyphs.size[last] * punctuationCompressRate;
+        }
+        return glyphs.getUsedEndPos(last);
+    }
+}
@@ -0,0 +1,366 @@
+package com.geansea.layout;
+
+import android.graphics.Rect;
+import android.graphics.RectF;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Splits a long text into pages of {@link GSLayout}, keeping only the page boundaries.
+ * The builder should not be changed while the paginator is in use.
+ */
+public class GSPaginator {
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int CHUNK_LENGTH = 4096;
+    private static final int MAX_PENDING_CHUNKS = 16;
+
+    private final GSLayout.Builder builder;
+    private final CharSequence text;
+    private int pageCount;
+    private int[] pageStarts;
+    private int[] pageEnds;
+    private boolean[] pageParaStarts;
+    private int nextStart;
+    private boolean nextParaStart;
+    private volatile boolean cancelled;
+
+    public GSPaginator(GSLayout.Builder builder, CharSequence text) {
+        this(builder, text, 0, true);
+    }
+
+    // Resume from a known page boundary, the page at start becomes page 0
+    public GSPaginator(GSLayout.Builder builder, CharSequence text, int start, boolean asParaStart) {
+        this.builder = builder;
+        this.text = text;
+        pageStarts = new int[INITIAL_CAPACITY];
+        pageEnds = new int[INITIAL_CAPACITY];
+        pageParaStarts = new boolean[INITIAL_CAPACITY];
+        nextStart = Math.max(0, Math.min(start, text.length()));
+        nextParaStart = asParaStart;
+    }
+
+    public CharSequence getText() {
+        return text;
+    }
+
+    GSLayout.Builder getBuilder() {
+        return builder;
+    }
+
+    public int getPageCount() {
+        return pageCount;
+    }
+
+    public boolean isComplete() {
+        return nextStart >= text.length();
+    }
+
+    public int getPageStart(int pageIndex) {
+        checkPageIndex(pageIndex);
+        return pageStarts[pageIndex];
+    }
+
+    public int getPageEnd(int pageIndex) {
+        checkPageIndex(pageIndex);
+        return pageEnds[pageIndex];
+    }
+
+    public boolean isPageParaStart(int pageIndex) {
+        checkPageIndex(pageIndex);
+        return pageParaStarts[pageIndex];
+    }
+
+    public boolean ensurePage(int pageIndex) {
+        while (pageCount <= pageIndex && !isComplete()) {
+            paginateNext();
+        }
+        return pageIndex < pageCount;
+    }
+
+    public void paginateAll() {
+        while (!isComplete()) {
+            paginateNext();
+        }
+    }
+
+    // Paginate the rest of text, lines of paragraphs are broken on executor and stacked here.
+    // Blocks the calling thread, which should not be a thread of executor.
+    // Returns false if cancelled.
+    public boolean paginateAll(ExecutorService executor) throws InterruptedException {
+        GSLayout.Builder snapshot = builder.copy();
+        PageStacker stacker = new PageStacker(snapshot);
+        ArrayDeque<Future<ChunkLines>> pending = new ArrayDeque<>();
+        int chunkStart = nextStart;
+        boolean chunkParaStart = nextParaStart;
+        try {
+            while (!cancelled) {
+                while (chunkStart < text.length() && pending.size() < MAX_PENDING_CHUNKS) {
+                    int chunkEnd = findParaEnd(Math.min(chunkStart + CHUNK_LENGTH, text.length()) - 1);
+                    ChunkTask task = new ChunkTask(snapshot.copy(), chunkStart, chunkEnd, chunkParaStart);
+                    pending.addLast(executor.submit(task));
+                    chunkStart = chunkEnd;
+                    chunkParaStart = true;
+                }
+                if (pending.isEmpty()) {
+                    stacker.finish();
+                    return true;
+                }
+                ChunkLines lines;
+                try {
+                    lines = pending.removeFirst().get();
+                } catch (ExecutionException e) {
+                    throw new RuntimeException(e.getCause());
+                }
+                if (lines == null) {
+                    break;
+                }
+                for (int i = 0; i < lines.count; ++i) {
+                    stacker.addLine(lines.ends[i], lines.leads[i], lines.trails[i], lines.paraEnds[i]);
+                }
+            }
+            return false;
+        } finally {
+            for (Future<ChunkLines> future : pending) {
+                future.cancel(true);
+            }
+            cancelled = false;
+        }
+    }
+
+    // Stop the running or the next paginateAll(ExecutorService), may be called from any thread
+    public void cancel() {
+        cancelled = true;
+    }
+
+    // Page index of offset, paginate as needed, -1 if offset is before the first page
+    public int getPageIndex(int offset) {
+        while ((pageCount == 0 || pageEnds[pageCount - 1] <= offset) && !isComplete()) {
+            paginateNext();
+        }
+        if (pageCount == 0 || offset < pageStarts[0]) {
+            return -1;
+        }
+        int low = 0;
+        int high = pageCount - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (pageStarts[mid] <= offset) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    // Build the layout of page, paginate as needed, null if no such page
+    public GSLayout getPage(int pageIndex) {
+        if (pageIndex < 0 || !ensurePage(pageIndex)) {
+            return null;
+        }
+        return builder.build(text, pageStarts[pageIndex], text.length(), pageParaStarts[pageIndex], true);
+    }
+
+    // Drop the pages from pageIndex, they will be paginated again from its start
+    public void restartFrom(int pageIndex) {
+        checkPageIndex(pageIndex);
+        nextStart = pageStarts[pageIndex];
+        nextParaStart = pageParaStarts[pageIndex];
+        pageCount = pageIndex;
+    }
+
+    private void paginateNext() {
+        GSLayout layout = builder.build(text, nextStart, text.length(), nextParaStart, true);
+        if (layout == null) {
+            nextStart = text.length();
+            return;
+        }
+        addPage(nextStart, layout.getLayoutEnd(), nextParaStart);
+    }
+
+    private void addPage(int start, int end, boolean paraStart) {
+        if (pageCount == pageStarts.length) {
+            int capacity = pageCount * 2;
+            pageStarts = Arrays.copyOf(pageStarts, capacity);
+            pageEnds = Arrays.copyOf(pageEnds, capacity);
+            pageParaStarts = Arrays.copyOf(pageParaStarts, capacity);
+        }
+        pageStarts[pageCount] = start;
+        pageEnds[pageCount] = end;
+        pageParaStarts[pageCount] = paraStart;
+        ++pageCount;
+        nextStart = end;
+        nextParaStart = GSCharUtils.isNewline(text.charAt(end - 1));
+    }
+
+    // End of the paragraph containing offset, including its newline
+    private int findParaEnd(int offset) {
+        int length = text.length();
+        while (offset < length && !GSCharUtils.isNewline(text.charAt(offset))) {
+            ++offset;
+        }
+        return Math.min(offset + 1, length);
+    }
+
+    private void checkPageIndex(int pageIndex) {
+        if (pageIndex < 0 || pageIndex >= pageCount) {
+            throw new IndexOutOfBoundsException("Page " + pageIndex + " of " + pageCount);
+        }
+    }
+
+    private static class ChunkLines {
+        int count;
+        int[] ends = new int[INITIAL_CAPACITY];
+        // Used rect top and bottom of line, or right and left for vertical
+        float[] leads = new float[INITIAL_CAPACITY];
+        float[] trails = new float[INITIAL_CAPACITY];
+        boolean[] paraEnds = new boolean[INITIAL_CAPACITY];
+
+        void add(int end, float lead, float trail, boolean paraEnd) {
+            if (count == ends.length) {
+                int capacity = count * 2;
+                ends = Arrays.copyOf(ends, capacity);
+                leads = Arrays.copyOf(leads, capacity);
+                trails = Arrays.copyOf(trails, capacity);
+                paraEnds = Arrays.copyOf(paraEnds, capacity);
+            }
+            ends[count] = end;
+            leads[count] = lead;
+            trails[count] = trail;
+            paraEnds[count] = paraEnd;
+            ++count;
+        }
+    }
+
+    // Break paragraphs of [start, end) into lines, paragraphs are independent of each other
+    private class ChunkTask implements Callable<ChunkLines> {
+        private final GSLayout.Builder builder;
+        private final int start;
+        private final int end;
+        private final boolean asParaStart;
+
+        ChunkTask(GSLayout.Builder builder, int start, int end, boolean asParaStart) {
+            this.builder = builder;
+            this.start = start;
+            this.end = end;
+            this.asParaStart = asParaStart;
+        }
+
+        @Override
+        public ChunkLines call() {
+            ChunkLines lines = new ChunkLines();
+            RectF lineRect = new RectF();
+            boolean vertical = builder.isVertical();
+            int paraStart = start;
+            boolean paraStartFlag = asParaStart;
+            while (paraStart < end) {
+                int paraEnd = findParaEnd(paraStart);
+                GSLayout layout = builder.prepare(text, paraStart, paraEnd, paraStartFlag, true);
+                int lineStart = paraStart;
+                while (lineStart < paraEnd) {
+                    if (cancelled) {
+                        return null;
+                    }
+                    GSLayoutLine line = layout.layoutLine(lineStart);
+                    line.getUsedRect(lineRect);
+                    if (vertical) {
+                        lines.add(line.getEnd(), lineRect.right, lineRect.left, line.isParaEnd());
+                    } else {
+                        lines.add(line.getEnd(), lineRect.top, lineRect.bottom, line.isParaEnd());
+                    }
+                    lineStart = line.getEnd();
+                }
+                paraStart = paraEnd;
+                paraStartFlag = true;
+            }
+            return lines;
+        }
+    }
+
+    // Same stacking as GSLayout, on line metrics only
+    private class PageStacker {
+        private final Rect rect;
+        private final boolean vertical;
+        private final int maxLineCount;
+        private final float fontSize;
+        private final float lineSpacing;
+        private final float paragraphSpacing;
+        private int pageStart;
+        private boolean pageParaStart;
+        private int lineCount;
+        private int lineEnd;
+        private float linePos;
+
+        PageStacker(GSLayout.Builder builder) {
+            rect = builder.getRect();
+            vertical = builder.isVertical();
+            maxLineCount = builder.getMaxLineCount();
+            fontSize = builder.getFontSize();
+            lineSpacing = builder.getLineSpacing();
+            paragraphSpacing = builder.getParagraphSpacing();
+            startPage();
+        }
+
+        void addLine(int end, float lead, float trail, boolean paraEnd) {
+            if (vertical) {
+                addVerticalLine(end, lead, trail, paraEnd);
+            } else {
+                addHorizontalLine(end, lead, trail, paraEnd);
+            }
+        }
+
+        void finish() {
+            if (lineCount > 0) {
+                addPage(pageStart, lineEnd, pageParaStart);
+                startPage();
+            }
+        }
+
+        private void addHorizontalLine(int end, float top, float bottom, boolean paraEnd) {
+            float lineBottom = linePos - top + bottom;
+            if (lineBottom > rect.bottom && lineCount > 0) {
+                finish();
+                lineBottom = linePos - top + bottom;
+            }
+            ++lineCount;
+            lineEnd = end;
+            if (maxLineCount > 0 && lineCount >= maxLineCount) {
+                finish();
+                return;
+            }
+            float lineGap = fontSize * lineSpacing;
+            float paraGap = lineGap + fontSize * paragraphSpacing;
+            linePos = lineBottom + (paraEnd ? paraGap : lineGap);
+        }
+
+        private void addVerticalLine(int end, float right, float left, boolean paraEnd) {
+            float lineLeft = linePos - right + left;
+            if (lineLeft < rect.left && lineCount > 0) {
+                finish();
+                lineLeft = linePos - right + left;
+            }
+            ++lineCount;
+            lineEnd = end;
+            if (maxLineCount > 0 && lineCount >= maxLineCount) {
+                finish();
+                return;
+            }
+            linePos = lineLeft - fontSize * lineSpacing;
+            if (paraEnd) {
+                linePos -= fontSize * paragraphSpacing;
+            }
+        }
+
+        private void startPage() {
+            pageStart = nextStart;
+            pageParaStart = nextParaStart;
+            lineCount = 0;
+            linePos = vertical ? rect.right : rect.top;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.geansea.layout;
+
+import android.text.TextPaint;
+
+/**
+ * Metrics measured by paint, with fonts of the platform.
+ */
+public class GSPaintMetricsProvider implements GSFontMetricsProvider {
+    private static final GSPaintMetricsProvider instance = new GSPaintMetricsProvider();
+
+    public static GSPaintMetricsProvider getInstance() {
+        return instance;
+    }
+
+    private GSPaintMetricsProvider() {
+    }
+
+    @Override
+    public void getTextWidths(TextPaint paint, char[] chars, int index, int count, float[] widths) {
+        paint.getTextWidths(chars, index, count, widths);
+    }
+
+    @Override
+    public float getAscent(TextPaint paint) {
+        return -paint.ascent();
+    }
+
+    @Override
+    public float getDescent(TextPaint paint) {
+        return paint.descent();
+    }
+
+    // Platform fonts give no vertical metrics, use ratios of common CJK fonts
+    @Override
+    public void getVerticalMetrics(TextPaint paint,
+                                   char[] chars,
+                                   int index,
+                                   float width,
+                                   boolean rotated,
+                                   float[] metrics) {
+        metrics[0] = width;
+        if (rotated) {
+            metrics[1] = paint.getTextSize() * 0.98f;
+            metrics[2] = paint.getTextSize() * 0.22f;
+        } else if (GSCharUtils.isVerticalPunctuation(chars[index])) {
+            metrics[1] = width;
+            metrics[2] = 0;
+        } else {
+            metrics[1] = width * 0.88f;
+            metrics[2] = width * 0.12f;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.geansea.layout;
+
+import android.graphics.MaskFilter;
+import android.graphics.Typeface;
+import android.text.TextPaint;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+// Paints of glyphs interned by the state compared by Key, so glyphs of the same style share one paint wherever they
+// are, and caches of glyphs may key on paint identity. Pooled paints are never changed. A builder and its copies for
+// pages share one pool, which is bounded by dropping the least recently used styles, as those of an old font size.
+// Glyphs keep paints dropped from the pool.
+final class GSPaintPool {
+    private static final int MAX_PAINT_COUNT = 256;
+
+    private final LinkedHashMap<Key, TextPaint> paints;
+
+    GSPaintPool() {
+        paints = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    // The pooled paint of the same state as paint, which is pooled if new
+    synchronized TextPaint intern(TextPaint paint) {
+        Key key = new Key(paint);
+        TextPaint pooled = paints.get(key);
+        if (pooled == null) {
+            if (paints.size() >= MAX_PAINT_COUNT) {
+                Iterator<TextPaint> iterator = paints.values().iterator();
+                iterator.next();
+                iterator.remove();
+            }
+            pooled = paint;
+            paints.put(key, pooled);
+        }
+        return pooled;
+    }
+
+    synchronized int getPaintCount() {
+        return paints.size();
+    }
+
+    // Paint state set by spans of known effect, shadow is not readable before API 29 so is not compared
+    static final class Key {
+        private final Typeface typeface;
+        private final float textSize;
+        private final float textScaleX;
+        private final float textSkewX;
+        private final int flags;
+        private final int color;
+        private final int baselineShift;
+        private final MaskFilter maskFilter;
+
+        Key(TextPaint paint) {
+            typeface = paint.getTypeface();
+            textSize = paint.getTextSize();
+            textScaleX = paint.getTextScaleX();
+            textSkewX = paint.getTextSkewX();
+            flags = paint.getFlags();
+            color = paint.getColor();
+            baselineShift = paint.baselineShift;
+            maskFilter = paint.getMaskFilter();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return typeface == key.typeface
+                    && textSize == key.textSize
+                    && textScaleX == key.textScaleX
+                    && textSkewX == key.textSkewX
+                    && flags == key.flags
+                    && color == key.color
+                    && baselineShift == key.baselineShift
+                    && maskFilter == key.maskFilter;
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(new Object[]{typeface, textSize, flags, color, baselineShift});
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package com.geansea.layout;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Picture;
+import android.graphics.Rect;
+import android.graphics.Typeface;
+import android.os.Build;
+import android.text.TextPaint;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bounded LRU cache of rendered pages, drawn by GSLayout.draw() of layouts built with it.
+ * A page is drawn into a bitmap of its rect once, and drawn again only if its lines are moved or its paint is changed.
+ * Bitmaps of evicted pages are pooled for the next pages, bitmaps in use and pooled take at most maxByteCount.
+ * Pages not fitting in maxByteCount are recorded into pictures, or drawn directly where pictures are not supported.
+ * Bitmaps are drawn at the scale of 1, so pages drawn scaled are better drawn without cache.
+ */
+public class GSRenderCache {
+    private final LinkedHashMap<GSLayout, Page> pages;
+    private final ArrayList<Bitmap> pool;
+    private final Rect pageRect;
+    private int maxPageCount;
+    private int maxByteCount;
+    private int byteCount;
+    private int poolByteCount;
+    private int hitCount;
+    private int missCount;
+
+    public GSRenderCache(int maxPageCount, int maxByteCount) {
+        this.maxPageCount = maxPageCount;
+        this.maxByteCount = maxByteCount;
+        pages = new LinkedHashMap<>(16, 0.75f, true);
+        pool = new ArrayList<>();
+        pageRect = new Rect();
+    }
+
+    // Bytes of bitmaps in use and pooled, pictures are not counted
+    public synchronized int getByteCount() {
+        return byteCount;
+    }
+
+    public synchronized int getPageCount() {
+        return pages.size();
+    }
+
+    public synchronized int getHitCount() {
+        return hitCount;
+    }
+
+    public synchronized int getMissCount() {
+        return missCount;
+    }
+
+    // Lower limits on low memory, pages and bitmaps over limits are released
+    public synchronized void setMaxSize(int maxPageCount, int maxByteCount) {
+        this.maxPageCount = maxPageCount;
+        this.maxByteCount = maxByteCount;
+        trimToSize(maxPageCount, maxByteCount);
+    }
+
+    // Render layout again on next draw
+    public synchronized void invalidate(GSLayout layout) {
+        Page page = pages.remove(layout);
+        if (page != null) {
+            release(page);
+        }
+    }
+
+    public synchronized void clear() {
+        trimToSize(0, 0);
+    }
+
+    // Draw the rendered page of layout, false if not cacheable
+    synchronized boolean draw(GSLayout layout, Canvas canvas) {
+        if (maxPageCount <= 0 || !getPageRect(layout, pageRect)) {
+            return false;
+        }
+        Page page = pages.get(layout);
+        if (page != null && page.matches(layout, pageRect)) {
+            ++hitCount;
+        } else {
+            if (page != null) {
+                pages.remove(layout);
+                release(page);
+            }
+            boolean useBitmap = getBitmapByteCount(pageRect) <= maxByteCount;
+            // Pictures are not drawn by hardware before M
+            if (!useBitmap && canvas.isHardwareAccelerated() && Build.VERSION.SDK_INT < Build.VERSION_CODES.M) {
+                return false;
+            }
+            ++missCount;
+            page = render(layout, new Rect(pageRect), useBitmap);
+            pages.put(layout, page);
+            trimToSize(maxPageCount, maxByteCount);
+        }
+        if (page.bitmap != null) {
+            canvas.drawBitmap(page.bitmap, page.rect.left, page.rect.top, null);
+        } else {
+            int saveCount = canvas.save();
+            canvas.translate(page.rect.left, page.rect.top);
+            page.picture.draw(canvas);
+            canvas.restoreToCount(saveCount);
+        }
+        return true;
+    }
+
+    private Page render(GSLayout layout, Rect rect, boolean useBitmap) {
+        Page page = new Page(layout, rect);
+        Canvas canvas;
+        if (useBitmap) {
+            page.bitmap = obtainBitmap(rect.width(), rect.height());
+            canvas = new Canvas(page.bitmap);
+        } else {
+            page.picture = new Picture();
+            canvas = page.picture.beginRecording(rect.width(), rect.height());
+        }
+        canvas.translate(-rect.left, -rect.top);
+        layout.drawLines(canvas);
+        if (page.picture != null) {
+            page.picture.endRecording();
+        }
+        return page;
+    }
+
+    // Pooled bitmap of the size, or a new one after releasing others for room
+    private Bitmap obtainBitmap(int width, int height) {
+        int bitmapByteCount = width * height * 4;
+        // Bitmaps of evicted pages are usually of the same size
+        evictPages(maxPageCount - 1, maxByteCount - bitmapByteCount);
+        for (int i = pool.size() - 1; i >= 0; --i) {
+            Bitmap bitmap = pool.get(i);
+            if (bitmap.getWidth() == width && bitmap.getHeight() == height) {
+                pool.remove(i);
+                poolByteCount -= bitmap.getByteCount();
+                freePool(maxByteCount);
+                bitmap.eraseColor(0);
+                return bitmap;
+            }
+        }
+        freePool(maxByteCount - bitmapByteCount);
+        Bitmap bitmap = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+        // Drawn pixel to pixel whatever the canvas density is
+        bitmap.setDensity(Bitmap.DENSITY_NONE);
+        byteCount += bitmap.getByteCount();
+        return bitmap;
+    }
+
+    private void release(Page page) {
+        if (page.bitmap != null) {
+            pool.add(page.bitmap);
+            poolByteCount += page.bitmap.getByteCount();
+            page.bitmap = null;
+        }
+    }
+
+    private void trimToSize(int pageCount, int bitmapByteCount) {
+        evictPages(pageCount, bitmapByteCount);
+        freePool(bitmapByteCount);
+    }
+
+    // Evict least recently used pages, until bitmaps in use take at most bitmapByteCount
+    private void evictPages(int pageCount, int bitmapByteCount) {
+        Iterator<Map.Entry<GSLayout, Page>> iterator = pages.entrySet().iterator();
+        while ((pages.size() > pageCount || byteCount - poolByteCount > bitmapByteCount) && iterator.hasNext()) {
+            Page page = iterator.next().getValue();
+            iterator.remove();
+            release(page);
+        }
+    }
+
+    // Free least recently pooled bitmaps, until all bitmaps take at most bitmapByteCount
+    private void freePool(int bitmapByteCount) {
+        while (byteCount > bitmapByteCount && !pool.isEmpty()) {
+            Bitmap bitmap = pool.remove(0);
+            byteCount -= bitmap.getByteCount();
+            poolByteCount -= bitmap.getByteCount();
+            bitmap.recycle();
+        }
+    }
+
+    // Rect of layout with a margin of font size, for glyphs and decorations out of it, false if too large
+    private static boolean getPageRect(GSLayout layout, Rect out) {
+        Rect rect = layout.getRect();
+        long margin = (long) Math.ceil(layout.getPaint().getTextSize());
+        long width = (long) rect.width() + margin * 2;
+        long height = (long) rect.height() + margin * 2;
+        if (width <= 0 || height <= 0 || width * height > Integer.MAX_VALUE / 4) {
+            return false;
+        }
+        out.set(rect.left - (int) margin, rect.top - (int) margin, rect.right + (int) margin, rect.bottom + (int) margin);
+        return true;
+    }
+
+    private static long getBitmapByteCount(Rect rect) {
+        return (long) rect.width() * rect.height() * 4;
+    }
+
+    private static final class Page {
+        final Rect rect;
+        // Line origins and the paint state when rendered
+        final float[] origins;
+        final Typeface typeface;
+        final float textSize;
+        final float textScaleX;
+        final float textSkewX;
+        final int flags;
+        final int color;
+        Bitmap bitmap;
+        Picture picture;
+
+        Page(GSLayout layout, Rect rect) {
+            this.rect = rect;
+            origins = getOrigins(layout.getLineList());
+            TextPaint paint = layout.getPaint();
+            typeface = paint.getTypeface();
+            textSize = paint.getTextSize();
+            textScaleX = paint.getTextScaleX();
+            textSkewX = paint.getTextSkewX();
+            flags = paint.getFlags();
+            color = paint.getColor();
+        }
+
+        boolean matches(GSLayout layout, Rect rect) {
+            TextPaint paint = layout.getPaint();
+            return this.rect.equals(rect)
+                    && typeface == paint.getTypeface()
+                    && textSize == paint.getTextSize()
+                    && textScaleX == paint.getTextScaleX()
+                    && textSkewX == paint.getTextSkewX()
+                    && flags == paint.getFlags()
+                    && color == paint.getColor()
+                    && matchesOrigins(layout.getLineList());
+        }
+
+        private static float[] getOrigins(List<GSLayoutLine> lines) {
+            float[] origins = new float[lines.size() * 2];
+            int i = 0;
+            for (GSLayoutLine line : lines) {
+                origins[i++] = line.getOriginX();
+                origins[i++] = line.getOriginY();
+            }
+            return origins;
+        }
+
+        private boolean matchesOrigins(List<GSLayoutLine> lines) {
+            if (origins.length != lines.size() * 2) {
+                return false;
+            }
+            int i = 0;
+            for (GSLayoutLine line : lines) {
+                if (origins[i++] != line.getOriginX() || origins[i++] != line.getOriginY()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
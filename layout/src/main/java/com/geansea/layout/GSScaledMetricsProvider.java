@@ -0,0 +1,99 @@
+package com.geansea.layout;
+
+import android.graphics.Typeface;
+import android.text.TextPaint;
+
+import java.util.Arrays;
+import java.util.HashMap;
+
+// Advances of a provider measured once at a reference size and scaled to the paint size, for layouts of the same text
+// at many sizes, as when a font size is searched. Chunks of text are measured as a whole, so shaping in a chunk is kept.
+// Other metrics are cheap and are passed to the provider.
+final class GSScaledMetricsProvider implements GSFontMetricsProvider {
+    private final GSFontMetricsProvider provider;
+    private final float referenceSize;
+    private final HashMap<Key, float[]> advances;
+    private final TextPaint measurePaint;
+
+    GSScaledMetricsProvider(GSFontMetricsProvider provider, float referenceSize) {
+        this.provider = provider;
+        this.referenceSize = referenceSize;
+        advances = new HashMap<>();
+        measurePaint = new TextPaint();
+    }
+
+    @Override
+    public void getTextWidths(TextPaint paint, char[] chars, int index, int count, float[] widths) {
+        Key key = new Key(paint, new String(chars, index, count));
+        float[] referenceWidths = advances.get(key);
+        if (referenceWidths == null) {
+            measurePaint.set(paint);
+            measurePaint.setTextSize(referenceSize);
+            referenceWidths = new float[count];
+            provider.getTextWidths(measurePaint, chars, index, count, referenceWidths);
+            advances.put(key, referenceWidths);
+        }
+        float scale = paint.getTextSize() / referenceSize;
+        for (int i = 0; i < count; ++i) {
+            widths[i] = referenceWidths[i] * scale;
+        }
+    }
+
+    @Override
+    public float getAscent(TextPaint paint) {
+        return provider.getAscent(paint);
+    }
+
+    @Override
+    public float getDescent(TextPaint paint) {
+        return provider.getDescent(paint);
+    }
+
+    @Override
+    public void getVerticalMetrics(TextPaint paint,
+                                   char[] chars,
+                                   int index,
+                                   float width,
+                                   boolean rotated,
+                                   float[] metrics) {
+        provider.getVerticalMetrics(paint, chars, index, width, rotated, metrics);
+    }
+
+    // Chunk and the paint state measured the same at any size
+    private static final class Key {
+        private final String chunk;
+        private final Typeface typeface;
+        private final float textScaleX;
+        private final float textSkewX;
+        private final int flags;
+
+        Key(TextPaint paint, String chunk) {
+            this.chunk = chunk;
+            typeface = paint.getTypeface();
+            textScaleX = paint.getTextScaleX();
+            textSkewX = paint.getTextSkewX();
+            flags = paint.getFlags();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return chunk.equals(key.chunk)
+                    && typeface == key.typeface
+                    && textScaleX == key.textScaleX
+                    && textSkewX == key.textSkewX
+                    && flags == key.flags;
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(new Object[]{chunk, typeface, flags});
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.geansea.layout;
+
+import android.graphics.Color;
+import android.text.Spanned;
+import android.text.TextPaint;
+import android.text.style.BackgroundColorSpan;
+import android.text.style.CharacterStyle;
+import android.text.style.ForegroundColorSpan;
+import android.text.style.MaskFilterSpan;
+import android.text.style.RelativeSizeSpan;
+import android.text.style.StrikethroughSpan;
+import android.text.style.StyleSpan;
+import android.text.style.SubscriptSpan;
+import android.text.style.SuperscriptSpan;
+import android.text.style.UnderlineSpan;
+
+import java.util.Arrays;
+
+// Paints of style runs of a spanned text, a run is text without span transition. Runs are resolved once in order of
+// offsets as a layout asks for them, and are not kept across layouts, as spans may change between them. Paints of
+// runs by platform spans are interned in the paint pool, so glyphs of the same style share one paint across lines
+// and pages.
+final class GSStyleRuns {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Spanned spanned;
+    private final TextPaint paint;
+    // State of paint when created
+    private final GSPaintPool.Key paintKey;
+    private final GSPaintPool paintPool;
+    // Resolved runs in [runStarts[0], resolvedEnd), run at index ends at the start of the next one
+    private int[] runStarts;
+    private TextPaint[] runPaints;
+    private int count;
+    private int resolvedEnd;
+
+    GSStyleRuns(Spanned spanned, TextPaint paint, GSPaintPool paintPool) {
+        this.spanned = spanned;
+        this.paint = paint;
+        this.paintPool = paintPool;
+        paintKey = new GSPaintPool.Key(paint);
+        runStarts = new int[INITIAL_CAPACITY];
+        runPaints = new TextPaint[INITIAL_CAPACITY];
+    }
+
+    // End of the run at offset, at most limit
+    synchronized int getRunEnd(int offset, int limit) {
+        int index = getRunIndex(offset);
+        int runEnd = (index + 1 < count) ? runStarts[index + 1] : resolvedEnd;
+        return Math.min(runEnd, limit);
+    }
+
+    synchronized TextPaint getRunPaint(int offset) {
+        return runPaints[getRunIndex(offset)];
+    }
+
+    private int getRunIndex(int offset) {
+        if (count == 0 || offset < runStarts[0] || offset > resolvedEnd) {
+            // Not following resolved runs, as for a page far away
+            count = 0;
+            resolvedEnd = offset;
+        }
+        while (offset >= resolvedEnd && resolvedEnd < spanned.length()) {
+            resolveRun();
+        }
+        int index = Arrays.binarySearch(runStarts, 0, count, offset);
+        return (index >= 0) ? index : -index - 2;
+    }
+
+    private void resolveRun() {
+        int runStart = resolvedEnd;
+        int runEnd = spanned.nextSpanTransition(runStart, spanned.length(), CharacterStyle.class);
+        if (count == runStarts.length) {
+            runStarts = Arrays.copyOf(runStarts, count * 2);
+            runPaints = Arrays.copyOf(runPaints, count * 2);
+        }
+        runStarts[count] = runStart;
+        runPaints[count] = getPaint(spanned.getSpans(runStart, runEnd, CharacterStyle.class));
+        ++count;
+        resolvedEnd = runEnd;
+    }
+
+    private TextPaint getPaint(CharacterStyle[] spans) {
+        if (spans == null || spans.length == 0) {
+            return paint;
+        }
+        TextPaint runPaint = new TextPaint();
+        runPaint.set(paint);
+        boolean shareable = true;
+        for (CharacterStyle span : spans) {
+            span.updateDrawState(runPaint);
+            shareable &= isPlatformStyle(span);
+        }
+        // Decorations are drawn by GSLayoutDecorations
+        runPaint.bgColor = Color.TRANSPARENT;
+        runPaint.setUnderlineText(false);
+        runPaint.setStrikeThruText(false);
+        // Other spans may change state not compared by the key, as shadow
+        if (!shareable) {
+            return runPaint;
+        }
+        if (paintKey.equals(new GSPaintPool.Key(runPaint))) {
+            return paint;
+        }
+        return paintPool.intern(runPaint);
+    }
+
+    private static boolean isPlatformStyle(CharacterStyle span) {
+        Class<?> spanClass = span.getClass();
+        return spanClass == ForegroundColorSpan.class
+                || spanClass == BackgroundColorSpan.class
+                || spanClass == RelativeSizeSpan.class
+                || spanClass == StyleSpan.class
+                || spanClass == UnderlineSpan.class
+                || spanClass == StrikethroughSpan.class
+                || spanClass == SuperscriptSpan.class
+                || spanClass == SubscriptSpan.class
+                || spanClass == MaskFilterSpan.class;
+    }
+}